@@ -5,6 +5,7 @@ plugins {
     `java-library`
     id("com.bakdata.mockito") version "1.11.1"
     id("com.diffplug.spotless") version "8.2.0"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "me.supcheg"
@@ -60,6 +61,13 @@ java {
     withJavadocJar()
 }
 
+jmh {
+    jmhVersion = "1.37"
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    (project.findProperty("jmhIncludes") as String?)?.let { includes = listOf(it) }
+}
+
 tasks {
     test {
         useJUnitPlatform()
@@ -0,0 +1,82 @@
+package me.supcheg.routine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecsBenchmark {
+
+    static final int SIZE = 1024;
+    static final Codec<Either<String, Long>> EITHERS = Codecs.either(Codecs.utf8(), Codecs.longs());
+    static final Codec<LongEither<String>> LONG_EITHERS = Codecs.longEither(Codecs.utf8());
+
+    @Param({"true", "false"})
+    boolean direct;
+
+    Either<String, Long>[] eithers;
+    LongEither<String>[] longEithers;
+    ByteBuffer buffer;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        eithers = new Either[SIZE];
+        longEithers = new LongEither[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            eithers[i] = i % 8 == 0 ? Either.left("error-" + i) : Either.right((long) i);
+            longEithers[i] = i % 8 == 0 ? LongEither.left("error-" + i) : LongEither.right(i);
+        }
+        buffer = direct ? ByteBuffer.allocateDirect(SIZE * 16) : ByteBuffer.allocate(SIZE * 16);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public ByteBuffer encode() {
+        buffer.clear();
+        for (var either : eithers) {
+            EITHERS.encode(either, buffer);
+        }
+        return buffer;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void roundTrip(Blackhole blackhole) {
+        encode().flip();
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(EITHERS.decode(buffer));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void roundTripLongEither(Blackhole blackhole) {
+        buffer.clear();
+        for (var either : longEithers) {
+            LONG_EITHERS.encode(either, buffer);
+        }
+        buffer.flip();
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(LONG_EITHERS.decode(buffer));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package me.supcheg.routine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Parses strings of which failurePercent are invalid, comparing a hand-written try/catch with Either#catching, with
+// exceptions that capture a stack trace and with StacklessException.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EitherCatchingBenchmark {
+
+    static final int SIZE = 1024;
+
+    @Param({"0", "10", "50"})
+    int failurePercent;
+
+    String[] inputs;
+
+    @Setup
+    public void setup() {
+        var random = new SplittableRandom(42);
+        inputs = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            inputs[i] = random.nextInt(100) < failurePercent ? "x" + i : Integer.toString(i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void tryCatch(Blackhole blackhole) {
+        for (var input : inputs) {
+            Either<ParseFailure, Integer> result;
+            try {
+                result = Either.right(parse(input));
+            } catch (ParseFailure e) {
+                result = Either.left(e);
+            }
+            blackhole.consume(result);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void catching(Blackhole blackhole) {
+        for (var input : inputs) {
+            blackhole.consume(Either.catching(ParseFailure.class, () -> parse(input)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void tryCatchStackless(Blackhole blackhole) {
+        for (var input : inputs) {
+            Either<StacklessParseFailure, Integer> result;
+            try {
+                result = Either.right(parseStackless(input));
+            } catch (StacklessParseFailure e) {
+                result = Either.left(e);
+            }
+            blackhole.consume(result);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void catchingStackless(Blackhole blackhole) {
+        for (var input : inputs) {
+            blackhole.consume(Either.catching(StacklessParseFailure.class, () -> parseStackless(input)));
+        }
+    }
+
+    private static int parse(String input) throws ParseFailure {
+        int value = digits(input);
+        if (value < 0) {
+            throw new ParseFailure(input);
+        }
+        return value;
+    }
+
+    private static int parseStackless(String input) throws StacklessParseFailure {
+        int value = digits(input);
+        if (value < 0) {
+            throw new StacklessParseFailure(input);
+        }
+        return value;
+    }
+
+    private static int digits(String input) {
+        int value = 0;
+        for (int i = 0; i < input.length(); i++) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    static final class ParseFailure extends Exception {
+        ParseFailure(String input) {
+            super(input);
+        }
+    }
+
+    static final class StacklessParseFailure extends StacklessException {
+        StacklessParseFailure(String input) {
+            super(input);
+        }
+    }
+}
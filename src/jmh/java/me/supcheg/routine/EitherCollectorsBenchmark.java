@@ -0,0 +1,117 @@
+package me.supcheg.routine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.summingInt;
+import static java.util.stream.Collectors.toList;
+import static me.supcheg.routine.EitherCollectors.groupingTo;
+import static me.supcheg.routine.EitherCollectors.groupingToConcurrent;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EitherCollectorsBenchmark {
+
+    @Param({"1000", "1000000"})
+    int size;
+
+    @Param({"0.1", "0.5"})
+    double leftRatio;
+
+    List<Either<Integer, String>> eithers;
+
+    BiConsumer<Object, Either<Integer, String>> summingAccumulator;
+    Object summingContainer;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        var random = new SplittableRandom(42);
+        eithers = IntStream.range(0, size)
+                .<Either<Integer, String>>mapToObj(
+                        i -> random.nextDouble() < leftRatio ? Either.left(i) : Either.right(Integer.toString(i)))
+                .toList();
+
+        var summing = (Collector<Either<Integer, String>, Object, ?>)
+                (Collector<?, ?, ?>) groupingTo(summingInt(Integer::intValue), summingInt(String::length));
+        summingAccumulator = summing.accumulator();
+        summingContainer = summing.supplier().get();
+    }
+
+    @Benchmark
+    public Pair<List<Integer>, List<String>> sequentialToList() {
+        return eithers.stream().collect(groupingTo(toList(), toList()));
+    }
+
+    @Benchmark
+    public Pair<List<Integer>, List<String>> parallelToList() {
+        return eithers.parallelStream().collect(groupingTo(toList(), toList()));
+    }
+
+    @Benchmark
+    public Pair<List<Integer>, List<String>> parallelToListConcurrent() {
+        return eithers.parallelStream().collect(groupingToConcurrent(toList(), toList()));
+    }
+
+    @Benchmark
+    public Pair<Long, Long> parallelCountingConcurrent() {
+        return eithers.parallelStream().collect(groupingToConcurrent(counting(), counting()));
+    }
+
+    @Benchmark
+    public Pair<Long, Long> sequentialCounting() {
+        return eithers.stream().collect(groupingTo(counting(), counting()));
+    }
+
+    @Benchmark
+    public Pair<Long, Long> parallelCounting() {
+        return eithers.parallelStream().collect(groupingTo(counting(), counting()));
+    }
+
+    @Benchmark
+    public EitherCounts parallelEitherCounting() {
+        return eithers.parallelStream().collect(EitherCollectors.counting());
+    }
+
+    @Benchmark
+    public EitherCounts parallelEitherCountingConcurrent() {
+        return eithers.parallelStream().collect(EitherCollectors.countingConcurrent());
+    }
+
+    // Same collection with the instrumentation wrapper applied regardless of the system property; the difference to
+    // parallelEitherCounting is the cost of enabled instrumentation with no JFR recording running.
+    @Benchmark
+    public EitherCounts parallelEitherCountingInstrumented() {
+        return eithers.parallelStream().collect(InstrumentedCollector.wrap("counting", EitherCollectors.counting()));
+    }
+
+    // Steady-state accumulation into a long-lived container; gc.alloc.rate.norm is expected to stay at ~0 B/op.
+    @Benchmark
+    public Object accumulate() {
+        for (var either : eithers) {
+            summingAccumulator.accept(summingContainer, either);
+        }
+        return summingContainer;
+    }
+}
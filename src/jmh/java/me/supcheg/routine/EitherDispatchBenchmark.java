@@ -0,0 +1,130 @@
+package me.supcheg.routine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Compares the per-variant overrides of Either against an exhaustive switch at call sites of growing polymorphism.
+// Since Left and Right are the only receivers, the megamorphic profile comes from the functions passed to the call
+// site: four distinct lambda classes rotate through every iteration.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EitherDispatchBenchmark {
+
+    static final int SIZE = 1024;
+
+    public enum Profile {
+        MONOMORPHIC,
+        BIMORPHIC,
+        MEGAMORPHIC
+    }
+
+    @Param
+    Profile profile;
+
+    Either<Integer, Integer>[] eithers;
+    Function<Integer, Integer>[] functions;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        var random = new SplittableRandom(42);
+        eithers = new Either[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            boolean left = profile == Profile.MONOMORPHIC || random.nextBoolean();
+            eithers[i] = left ? Either.left(i) : Either.right(i);
+        }
+        Function<Integer, Integer> increment = value -> value + 1;
+        Function<Integer, Integer> decrement = value -> value - 1;
+        Function<Integer, Integer> twice = value -> value * 2;
+        Function<Integer, Integer> toggle = value -> value ^ 1;
+        functions = profile == Profile.MEGAMORPHIC
+                ? new Function[] {increment, decrement, twice, toggle}
+                : new Function[] {increment, increment, increment, increment};
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void fold(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            var function = functions[i & 3];
+            blackhole.consume(eithers[i].fold(function, function));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void foldSwitch(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            var function = functions[i & 3];
+            blackhole.consume(switchFold(eithers[i], function, function));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void mapLeft(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(eithers[i].mapLeft(functions[i & 3]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void mapLeftSwitch(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(switchMapLeft(eithers[i], functions[i & 3]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void isLeft(Blackhole blackhole) {
+        for (var either : eithers) {
+            blackhole.consume(either.isLeft());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void isLeftSwitch(Blackhole blackhole) {
+        for (var either : eithers) {
+            blackhole.consume(either instanceof Either.Left<?, ?>);
+        }
+    }
+
+    // The shape of the former interface defaults, kept as the baseline.
+    private static <L, R, T> T switchFold(
+            Either<L, R> either, Function<? super L, ? extends T> left, Function<? super R, ? extends T> right) {
+        return switch (either) {
+            case Either.Left<L, R>(var value) -> left.apply(value);
+            case Either.Right<L, R>(var value) -> right.apply(value);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <L, R, NL> Either<NL, R> switchMapLeft(Either<L, R> either, Function<? super L, ? extends NL> left) {
+        return switch (either) {
+            case Either.Left<L, R>(var value) -> new Either.Left<>(left.apply(value));
+            case Either.Right<L, R> right -> (Either<NL, R>) right;
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package me.supcheg.routine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static me.supcheg.routine.Pair.pair;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JoinsBenchmark {
+
+    // Build side is a tenth of the probe side; about a third of the probe rows have no match.
+    @Param({"10000", "1000000"})
+    int size;
+
+    List<Row> builds;
+    List<Row> probes;
+    List<Row> sortedBuilds;
+    List<Row> sortedProbes;
+
+    @Setup
+    public void setup() {
+        var random = new SplittableRandom(42);
+        int buildSize = size / 10;
+        builds = IntStream.range(0, buildSize).mapToObj(i -> new Row(i, i)).toList();
+        probes = IntStream.range(0, size)
+                .mapToObj(i -> new Row(random.nextLong(buildSize * 3L / 2), i))
+                .toList();
+        sortedBuilds = builds;
+        sortedProbes = probes.stream().sorted(Comparator.comparingLong(Row::key)).toList();
+    }
+
+    @Benchmark
+    public long handWrittenHashMap() {
+        var table = new HashMap<Long, List<Row>>();
+        for (var build : builds) {
+            table.computeIfAbsent(build.key(), _ -> new ArrayList<>(1)).add(build);
+        }
+        var result = new ArrayList<Either<Either<Row, Row>, Pair<Row, Row>>>();
+        for (var probe : probes) {
+            var matches = table.get(probe.key());
+            if (matches == null) {
+                result.add(Either.left(Either.left(probe)));
+            } else {
+                for (var match : matches) {
+                    result.add(Either.right(pair(probe, match)));
+                }
+            }
+        }
+        return result.size();
+    }
+
+    @Benchmark
+    public long hashJoin() {
+        return Joins.hashJoin(probes.stream(), Row::key, builds, Row::key, Joins.JoinType.LEFT)
+                .count();
+    }
+
+    @Benchmark
+    public long hashJoinLong() {
+        return Joins.hashJoinLong(probes.stream(), Row::key, builds, Row::key, Joins.JoinType.LEFT)
+                .count();
+    }
+
+    @Benchmark
+    public long hashJoinLongParallel() {
+        return Joins.hashJoinLong(probes.parallelStream(), Row::key, builds, Row::key, Joins.JoinType.LEFT)
+                .count();
+    }
+
+    @Benchmark
+    public long hashJoinLongFullParallel() {
+        return Joins.hashJoinLong(probes.parallelStream(), Row::key, builds, Row::key, Joins.JoinType.FULL)
+                .count();
+    }
+
+    @Benchmark
+    public long mergeJoin() {
+        return Joins.mergeJoin(
+                        sortedProbes.stream(),
+                        Row::key,
+                        sortedBuilds.stream(),
+                        Row::key,
+                        Comparator.<Long>naturalOrder(),
+                        Joins.JoinType.LEFT)
+                .count();
+    }
+
+    record Row(long key, long value) {}
+}
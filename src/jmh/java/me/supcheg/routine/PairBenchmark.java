@@ -0,0 +1,88 @@
+package me.supcheg.routine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static me.supcheg.routine.Pair.pair;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PairBenchmark {
+
+    static final int SIZE = 1024;
+
+    Integer[] values;
+    Pair<Integer, String>[] pairs;
+    Interner interner;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        values = new Integer[SIZE];
+        pairs = new Pair[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = i;
+            pairs[i] = pair(i, Integer.toString(i));
+        }
+        interner = Interner.create(SIZE * 2, Interner.Mode.IDENTITY);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void construct(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(pair(values[i], values[SIZE - i - 1]));
+        }
+    }
+
+    // Same values as construct; after the first invocation every pair is served from the intern table.
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void constructInterned(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(interner.pair(values[i], values[SIZE - i - 1]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void flip(Blackhole blackhole) {
+        for (var pair : pairs) {
+            blackhole.consume(pair.flip());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void map(Blackhole blackhole) {
+        for (var pair : pairs) {
+            blackhole.consume(pair.map(l -> l + 1, String::length));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int fold() {
+        int sum = 0;
+        for (var pair : pairs) {
+            sum += pair.fold((l, r) -> l + r.length());
+        }
+        return sum;
+    }
+}
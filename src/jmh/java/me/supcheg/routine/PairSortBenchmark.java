@@ -0,0 +1,103 @@
+package me.supcheg.routine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static me.supcheg.routine.Pair.pair;
+
+// Every invocation sorts a fresh copy of the same shuffled data; the copy is made in an invocation-level setup, which
+// is acceptable here because one sort takes milliseconds.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PairSortBenchmark {
+
+    @Param({"1000000"})
+    int size;
+
+    long[] scores;
+    long[] ids;
+
+    Pair<Long, Long>[] boxed;
+    PairArray<Long, Long> columns;
+    LongPairBuffer buffer;
+
+    @Setup
+    public void setup() {
+        var random = new SplittableRandom(42);
+        scores = new long[size];
+        ids = new long[size];
+        for (int i = 0; i < size; i++) {
+            scores[i] = random.nextLong(1_000_000);
+            ids[i] = i;
+        }
+        buffer = new LongPairBuffer(size);
+    }
+
+    @Setup(Level.Invocation)
+    @SuppressWarnings("unchecked")
+    public void copy() {
+        boxed = new Pair[size];
+        columns = new PairArray<>(size);
+        buffer.clear();
+        for (int i = 0; i < size; i++) {
+            boxed[i] = pair(scores[i], ids[i]);
+            columns.add(scores[i], ids[i]);
+            buffer.append(scores[i], ids[i]);
+        }
+    }
+
+    @TearDown
+    public void close() {
+        buffer.close();
+    }
+
+    @Benchmark
+    public Object arraysParallelSortChained() {
+        Arrays.parallelSort(boxed, Comparator.comparing(Pair<Long, Long>::left).thenComparing(Pair::right));
+        return boxed;
+    }
+
+    @Benchmark
+    public Object arraysParallelSortPairComparator() {
+        Arrays.parallelSort(boxed, PairComparators.leftThenRight());
+        return boxed;
+    }
+
+    @Benchmark
+    public Object pairSortParallel() {
+        PairSort.parallelSort(columns);
+        return columns;
+    }
+
+    @Benchmark
+    public Object bufferIntroSort() {
+        buffer.sortByLeft();
+        return buffer;
+    }
+
+    @Benchmark
+    public Object bufferRadixSort() {
+        PairSort.radixSortByLeft(buffer);
+        return buffer;
+    }
+}
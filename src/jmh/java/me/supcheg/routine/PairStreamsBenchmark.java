@@ -0,0 +1,122 @@
+package me.supcheg.routine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static me.supcheg.routine.Pair.pair;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PairStreamsBenchmark {
+
+    @Param({"10000", "1000000"})
+    int size;
+
+    List<Integer> lefts;
+    List<Integer> rights;
+
+    @Setup
+    public void setup() {
+        lefts = IntStream.range(0, size).boxed().toList();
+        rights = IntStream.range(0, size).map(i -> i * 31).boxed().toList();
+    }
+
+    // Hand-rolled iterator zip: unsized and split only by batching.
+    @Benchmark
+    public long iteratorZipParallel() {
+        var leftIterator = lefts.iterator();
+        var rightIterator = rights.iterator();
+        var zipped = new Iterator<Pair<Integer, Integer>>() {
+            @Override
+            public boolean hasNext() {
+                return leftIterator.hasNext() && rightIterator.hasNext();
+            }
+
+            @Override
+            public Pair<Integer, Integer> next() {
+                return pair(leftIterator.next(), rightIterator.next());
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(zipped, Spliterator.ORDERED), true)
+                .mapToLong(pair -> pair.left() ^ pair.right())
+                .sum();
+    }
+
+    @Benchmark
+    public long zipSequential() {
+        return PairStreams.zip(lefts, rights)
+                .mapToLong(pair -> pair.left() ^ pair.right())
+                .sum();
+    }
+
+    @Benchmark
+    public long zipParallel() {
+        return PairStreams.zip(lefts, rights)
+                .parallel()
+                .mapToLong(pair -> pair.left() ^ pair.right())
+                .sum();
+    }
+
+    // Two passes over the pairs, one per component.
+    @Benchmark
+    public Object unzipTwoPasses() {
+        var zipped = PairStreams.zip(lefts, rights).toList();
+        return pair(
+                zipped.stream().map(Pair::left).toList(),
+                zipped.stream().mapToLong(Pair::right).sum());
+    }
+
+    @Benchmark
+    public Object unzipHandWritten() {
+        var unzippedLefts = new ArrayList<Integer>();
+        long sum = 0;
+        for (var iterator = PairStreams.zip(lefts, rights).iterator(); iterator.hasNext(); ) {
+            var pair = iterator.next();
+            unzippedLefts.add(pair.left());
+            sum += pair.right();
+        }
+        return pair(unzippedLefts, sum);
+    }
+
+    @Benchmark
+    public Object unzipping() {
+        return PairStreams.zip(lefts, rights)
+                .collect(PairCollectors.unzipping(Collectors.toList(), Collectors.summingLong(Integer::longValue)));
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> toMapViaEntries() {
+        return PairStreams.zip(lefts, rights)
+                .map(Pair::asEntry)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> toMap() {
+        return PairStreams.zip(lefts, rights).collect(PairCollectors.toMap());
+    }
+}
@@ -0,0 +1,4 @@
+@NullMarked
+package me.supcheg.routine;
+
+import org.jspecify.annotations.NullMarked;
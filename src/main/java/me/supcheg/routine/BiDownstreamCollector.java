@@ -0,0 +1,90 @@
+package me.supcheg.routine;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+import static me.supcheg.routine.Pair.pair;
+
+// Base of the collectors that feed each element to one or both of two downstream collectors and finish into a Pair of
+// their results, such as EitherCollectors#groupingTo and PairCollectors#unzipping; subclasses only decide which
+// downstream accumulator receives what. Downstream functions are resolved once per collector. The container is the
+// pair of downstream containers itself, which keeps IDENTITY_FINISH valid when both downstreams have it, and
+// combining reuses an input pair whenever both downstream combiners return the same side.
+abstract class BiDownstreamCollector<T, L, R, LA, RA, LR, RR> implements Collector<T, Pair<LA, RA>, Pair<LR, RR>> {
+    final BiConsumer<LA, ? super L> leftAccumulator;
+    final BiConsumer<RA, ? super R> rightAccumulator;
+    private final Supplier<LA> leftSupplier;
+    private final Supplier<RA> rightSupplier;
+    private final BinaryOperator<LA> leftCombiner;
+    private final BinaryOperator<RA> rightCombiner;
+    private final Function<LA, ? extends LR> leftFinisher;
+    private final Function<RA, ? extends RR> rightFinisher;
+    private final Set<Characteristics> characteristics;
+
+    BiDownstreamCollector(
+            Collector<? super L, LA, ? extends LR> leftDownstream,
+            Collector<? super R, RA, ? extends RR> rightDownstream) {
+        this.leftAccumulator = leftDownstream.accumulator();
+        this.rightAccumulator = rightDownstream.accumulator();
+        this.leftSupplier = leftDownstream.supplier();
+        this.rightSupplier = rightDownstream.supplier();
+        this.leftCombiner = leftDownstream.combiner();
+        this.rightCombiner = rightDownstream.combiner();
+        this.leftFinisher = leftDownstream.finisher();
+        this.rightFinisher = rightDownstream.finisher();
+        this.characteristics = Collections.unmodifiableSet(EitherCollectors.intersection(
+                leftDownstream.characteristics(), rightDownstream.characteristics()));
+    }
+
+    abstract void accumulate(Pair<LA, RA> container, T element);
+
+    @Override
+    public final Supplier<Pair<LA, RA>> supplier() {
+        return this::supply;
+    }
+
+    @Override
+    public final BiConsumer<Pair<LA, RA>, T> accumulator() {
+        return this::accumulate;
+    }
+
+    @Override
+    public final BinaryOperator<Pair<LA, RA>> combiner() {
+        return this::combine;
+    }
+
+    @Override
+    public final Function<Pair<LA, RA>, Pair<LR, RR>> finisher() {
+        return this::finish;
+    }
+
+    @Override
+    public final Set<Characteristics> characteristics() {
+        return characteristics;
+    }
+
+    private Pair<LA, RA> supply() {
+        return pair(leftSupplier.get(), rightSupplier.get());
+    }
+
+    private Pair<LA, RA> combine(Pair<LA, RA> left, Pair<LA, RA> right) {
+        var combinedLeft = leftCombiner.apply(left.left(), right.left());
+        var combinedRight = rightCombiner.apply(left.right(), right.right());
+        if (combinedLeft == left.left() && combinedRight == left.right()) {
+            return left;
+        }
+        if (combinedLeft == right.left() && combinedRight == right.right()) {
+            return right;
+        }
+        return pair(combinedLeft, combinedRight);
+    }
+
+    private Pair<LR, RR> finish(Pair<LA, RA> container) {
+        return pair(leftFinisher.apply(container.left()), rightFinisher.apply(container.right()));
+    }
+}
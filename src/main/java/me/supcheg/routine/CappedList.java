@@ -0,0 +1,45 @@
+package me.supcheg.routine;
+
+import java.util.List;
+import java.util.Objects;
+
+/// An immutable prefix of a sequence together with the total number of elements the sequence had.
+///
+/// Produced by collectors that retain only a bounded number of elements, such as
+/// [EitherCollectors#accumulating(int, java.util.stream.Collector)].
+///
+/// @param values retained elements, in encounter order
+/// @param total  number of elements seen, including the ones that were not retained
+/// @param <T>    type of the elements
+/// @see EitherCollectors
+/// @since 1.1.0
+public record CappedList<T>(List<T> values, long total) {
+
+    /// Constructs a [CappedList].
+    ///
+    /// @throws NullPointerException     if [CappedList#values] is `null` or contains `null`
+    /// @throws IllegalArgumentException if [CappedList#total] is less than the number of retained values
+    /// @since 1.1.0
+    public CappedList {
+        values = List.copyOf(Objects.requireNonNull(values, "values"));
+        if (total < values.size()) {
+            throw new IllegalArgumentException("total " + total + " is less than retained " + values.size());
+        }
+    }
+
+    /// Returns whether some elements were seen but not retained.
+    ///
+    /// @return `true` if [CappedList#total] exceeds the number of retained values
+    /// @since 1.1.0
+    public boolean overflowed() {
+        return total > values.size();
+    }
+
+    /// Returns the number of elements that were seen but not retained.
+    ///
+    /// @return number of dropped elements
+    /// @since 1.1.0
+    public long dropped() {
+        return total - values.size();
+    }
+}
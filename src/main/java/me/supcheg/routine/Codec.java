@@ -0,0 +1,53 @@
+package me.supcheg.routine;
+
+import java.nio.ByteBuffer;
+
+/// A binary encoding of values of type `T` over [ByteBuffer].
+///
+/// Codecs read and write at the current position of the buffer and advance it by the number of bytes processed.
+/// Multi-byte numbers use the byte order of the buffer, so both sides of an exchange must agree on it. Heap and direct
+/// buffers are supported alike.
+///
+/// Codecs are composed from component codecs, see [Codecs]:
+///
+/// ```java
+/// Codec<Either<String, Long>> codec = Codecs.either(Codecs.utf8(), Codecs.longs());
+///
+/// codec.encode(Either.right(42L), buffer);
+/// ```
+///
+/// @param <T> type of encoded values
+/// @see Codecs
+/// @since 1.1.0
+public interface Codec<T> {
+
+    /// Writes a value at the current position of the buffer.
+    ///
+    /// If the buffer does not have [#size(Object)] bytes remaining, a [java.nio.BufferOverflowException] is thrown
+    /// and the position of the buffer is unspecified.
+    ///
+    /// @param value  value to encode
+    /// @param buffer buffer to write to
+    /// @throws java.nio.BufferOverflowException if the buffer has too few bytes remaining
+    /// @since 1.1.0
+    void encode(T value, ByteBuffer buffer);
+
+    /// Reads a value at the current position of the buffer.
+    ///
+    /// If the buffer ends before a whole value was read, a [java.nio.BufferUnderflowException] is thrown and the
+    /// position of the buffer is unspecified.
+    ///
+    /// @param buffer buffer to read from
+    /// @return the decoded value
+    /// @throws java.nio.BufferUnderflowException if the buffer has too few bytes remaining
+    /// @throws IllegalArgumentException          if the bytes do not encode a valid value
+    /// @since 1.1.0
+    T decode(ByteBuffer buffer);
+
+    /// Returns the exact number of bytes [#encode(Object, ByteBuffer)] writes for a value.
+    ///
+    /// @param value value to measure
+    /// @return encoded size in bytes
+    /// @since 1.1.0
+    int size(T value);
+}
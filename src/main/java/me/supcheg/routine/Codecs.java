@@ -0,0 +1,608 @@
+package me.supcheg.routine;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/// Static factories of [Codec] for [Either], [Pair], their primitive specializations and common components, and
+/// streaming of encoded sequences through channels.
+///
+/// [Either] and its primitive variants are encoded as one tag byte, `0` for left and `1` for right, followed by the
+/// encoding of the value. [Pair] and its primitive variants are encoded as the left component followed by the right
+/// component. Primitive components take their natural width without any framing, so an [IntPair] takes 8 bytes and a
+/// [LongEither.Right] takes 9. Strings are encoded as a variable-length byte count followed by their UTF-8 bytes.
+///
+/// ```java
+/// Codec<Pair<String, Either<String, Long>>> codec =
+///     Codecs.pair(Codecs.utf8(), Codecs.either(Codecs.utf8(), Codecs.longs()));
+///
+/// try (var channel = FileChannel.open(path, WRITE, CREATE)) {
+///     Codecs.writeAll(codec, results.stream(), channel, ByteBuffer.allocateDirect(1 << 16));
+/// }
+/// ```
+///
+/// The encoding carries no type information, so values must be decoded with a codec of the same shape as the one
+/// that encoded them.
+///
+/// @see Codec
+/// @since 1.1.0
+public final class Codecs {
+
+    private static final byte LEFT_TAG = 0;
+    private static final byte RIGHT_TAG = 1;
+
+    private static final Codec<Integer> INTS = new Codec<>() {
+        @Override
+        public void encode(Integer value, ByteBuffer buffer) {
+            buffer.putInt(value);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+
+        @Override
+        public int size(Integer value) {
+            return Integer.BYTES;
+        }
+    };
+
+    private static final Codec<Long> LONGS = new Codec<>() {
+        @Override
+        public void encode(Long value, ByteBuffer buffer) {
+            buffer.putLong(value);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+
+        @Override
+        public int size(Long value) {
+            return Long.BYTES;
+        }
+    };
+
+    private static final Codec<Double> DOUBLES = new Codec<>() {
+        @Override
+        public void encode(Double value, ByteBuffer buffer) {
+            buffer.putDouble(value);
+        }
+
+        @Override
+        public Double decode(ByteBuffer buffer) {
+            return buffer.getDouble();
+        }
+
+        @Override
+        public int size(Double value) {
+            return Double.BYTES;
+        }
+    };
+
+    private static final Codec<String> UTF8 = new Codec<>() {
+        @Override
+        public void encode(String value, ByteBuffer buffer) {
+            var bytes = value.getBytes(StandardCharsets.UTF_8);
+            putVarint(bytes.length, buffer);
+            buffer.put(bytes);
+        }
+
+        @Override
+        public String decode(ByteBuffer buffer) {
+            int length = getVarint(buffer);
+            if (length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            if (buffer.hasArray()) {
+                int offset = buffer.arrayOffset() + buffer.position();
+                buffer.position(buffer.position() + length);
+                return new String(buffer.array(), offset, length, StandardCharsets.UTF_8);
+            }
+            var bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int size(String value) {
+            int length = utf8Length(value);
+            return varintSize(length) + length;
+        }
+    };
+
+    private static final Codec<IntPair> INT_PAIRS = new Codec<>() {
+        @Override
+        public void encode(IntPair value, ByteBuffer buffer) {
+            buffer.putInt(value.left()).putInt(value.right());
+        }
+
+        @Override
+        public IntPair decode(ByteBuffer buffer) {
+            int left = buffer.getInt();
+            return new IntPair(left, buffer.getInt());
+        }
+
+        @Override
+        public int size(IntPair value) {
+            return 2 * Integer.BYTES;
+        }
+    };
+
+    private static final Codec<LongPair> LONG_PAIRS = new Codec<>() {
+        @Override
+        public void encode(LongPair value, ByteBuffer buffer) {
+            buffer.putLong(value.left()).putLong(value.right());
+        }
+
+        @Override
+        public LongPair decode(ByteBuffer buffer) {
+            long left = buffer.getLong();
+            return new LongPair(left, buffer.getLong());
+        }
+
+        @Override
+        public int size(LongPair value) {
+            return 2 * Long.BYTES;
+        }
+    };
+
+    private static final Codec<DoublePair> DOUBLE_PAIRS = new Codec<>() {
+        @Override
+        public void encode(DoublePair value, ByteBuffer buffer) {
+            buffer.putDouble(value.left()).putDouble(value.right());
+        }
+
+        @Override
+        public DoublePair decode(ByteBuffer buffer) {
+            double left = buffer.getDouble();
+            return new DoublePair(left, buffer.getDouble());
+        }
+
+        @Override
+        public int size(DoublePair value) {
+            return 2 * Double.BYTES;
+        }
+    };
+
+    private Codecs() {}
+
+    /// Returns a codec writing an `int` in 4 bytes.
+    ///
+    /// @return a [Codec] of [Integer]
+    /// @since 1.1.0
+    public static Codec<Integer> ints() {
+        return INTS;
+    }
+
+    /// Returns a codec writing a `long` in 8 bytes.
+    ///
+    /// @return a [Codec] of [Long]
+    /// @since 1.1.0
+    public static Codec<Long> longs() {
+        return LONGS;
+    }
+
+    /// Returns a codec writing a `double` in 8 bytes.
+    ///
+    /// @return a [Codec] of [Double]
+    /// @since 1.1.0
+    public static Codec<Double> doubles() {
+        return DOUBLES;
+    }
+
+    /// Returns a codec writing a string as a variable-length byte count followed by its UTF-8 bytes.
+    ///
+    /// The byte count takes one byte for strings of up to 127 bytes, and one more byte for every further 7 bits.
+    /// Strings decoded from heap buffers are built directly from the backing array.
+    ///
+    /// @return a [Codec] of [String]
+    /// @since 1.1.0
+    public static Codec<String> utf8() {
+        return UTF8;
+    }
+
+    /// Returns a codec writing an [Either] as a tag byte followed by its value.
+    ///
+    /// @param left  codec of left values
+    /// @param right codec of right values
+    /// @param <L>   type of left values
+    /// @param <R>   type of right values
+    /// @return a [Codec] of [Either]
+    /// @since 1.1.0
+    public static <L, R> Codec<Either<L, R>> either(Codec<L> left, Codec<R> right) {
+        return new EitherCodec<>(Objects.requireNonNull(left, "left"), Objects.requireNonNull(right, "right"));
+    }
+
+    /// Returns a codec writing a [Pair] as its left component followed by its right component.
+    ///
+    /// @param left  codec of left components
+    /// @param right codec of right components
+    /// @param <L>   type of left components
+    /// @param <R>   type of right components
+    /// @return a [Codec] of [Pair]
+    /// @since 1.1.0
+    public static <L, R> Codec<Pair<L, R>> pair(Codec<L> left, Codec<R> right) {
+        return new PairCodec<>(Objects.requireNonNull(left, "left"), Objects.requireNonNull(right, "right"));
+    }
+
+    /// Returns a codec writing an [IntPair] in 8 bytes.
+    ///
+    /// @return a [Codec] of [IntPair]
+    /// @since 1.1.0
+    public static Codec<IntPair> intPairs() {
+        return INT_PAIRS;
+    }
+
+    /// Returns a codec writing a [LongPair] in 16 bytes.
+    ///
+    /// @return a [Codec] of [LongPair]
+    /// @since 1.1.0
+    public static Codec<LongPair> longPairs() {
+        return LONG_PAIRS;
+    }
+
+    /// Returns a codec writing a [DoublePair] in 16 bytes.
+    ///
+    /// @return a [Codec] of [DoublePair]
+    /// @since 1.1.0
+    public static Codec<DoublePair> doublePairs() {
+        return DOUBLE_PAIRS;
+    }
+
+    /// Returns a codec writing an [IntEither] as a tag byte followed by its value.
+    ///
+    /// Right values are written as 4 bytes without boxing.
+    ///
+    /// @param left codec of left values
+    /// @param <L>  type of left values
+    /// @return a [Codec] of [IntEither]
+    /// @since 1.1.0
+    public static <L> Codec<IntEither<L>> intEither(Codec<L> left) {
+        Objects.requireNonNull(left, "left");
+        return new Codec<>() {
+            @Override
+            public void encode(IntEither<L> value, ByteBuffer buffer) {
+                switch (value) {
+                    case IntEither.Left<L>(var leftValue) -> left.encode(leftValue, buffer.put(LEFT_TAG));
+                    case IntEither.Right<L>(var rightValue) -> buffer.put(RIGHT_TAG).putInt(rightValue);
+                }
+            }
+
+            @Override
+            public IntEither<L> decode(ByteBuffer buffer) {
+                return isRight(buffer.get())
+                        ? new IntEither.Right<>(buffer.getInt())
+                        : new IntEither.Left<>(left.decode(buffer));
+            }
+
+            @Override
+            public int size(IntEither<L> value) {
+                return 1
+                        + switch (value) {
+                            case IntEither.Left<L>(var leftValue) -> left.size(leftValue);
+                            case IntEither.Right<L> _ -> Integer.BYTES;
+                        };
+            }
+        };
+    }
+
+    /// Returns a codec writing a [LongEither] as a tag byte followed by its value.
+    ///
+    /// Right values are written as 8 bytes without boxing.
+    ///
+    /// @param left codec of left values
+    /// @param <L>  type of left values
+    /// @return a [Codec] of [LongEither]
+    /// @since 1.1.0
+    public static <L> Codec<LongEither<L>> longEither(Codec<L> left) {
+        Objects.requireNonNull(left, "left");
+        return new Codec<>() {
+            @Override
+            public void encode(LongEither<L> value, ByteBuffer buffer) {
+                switch (value) {
+                    case LongEither.Left<L>(var leftValue) -> left.encode(leftValue, buffer.put(LEFT_TAG));
+                    case LongEither.Right<L>(var rightValue) -> buffer.put(RIGHT_TAG).putLong(rightValue);
+                }
+            }
+
+            @Override
+            public LongEither<L> decode(ByteBuffer buffer) {
+                return isRight(buffer.get())
+                        ? new LongEither.Right<>(buffer.getLong())
+                        : new LongEither.Left<>(left.decode(buffer));
+            }
+
+            @Override
+            public int size(LongEither<L> value) {
+                return 1
+                        + switch (value) {
+                            case LongEither.Left<L>(var leftValue) -> left.size(leftValue);
+                            case LongEither.Right<L> _ -> Long.BYTES;
+                        };
+            }
+        };
+    }
+
+    /// Returns a codec writing a [DoubleEither] as a tag byte followed by its value.
+    ///
+    /// Right values are written as 8 bytes without boxing.
+    ///
+    /// @param left codec of left values
+    /// @param <L>  type of left values
+    /// @return a [Codec] of [DoubleEither]
+    /// @since 1.1.0
+    public static <L> Codec<DoubleEither<L>> doubleEither(Codec<L> left) {
+        Objects.requireNonNull(left, "left");
+        return new Codec<>() {
+            @Override
+            public void encode(DoubleEither<L> value, ByteBuffer buffer) {
+                switch (value) {
+                    case DoubleEither.Left<L>(var leftValue) -> left.encode(leftValue, buffer.put(LEFT_TAG));
+                    case DoubleEither.Right<L>(var rightValue) -> buffer.put(RIGHT_TAG).putDouble(rightValue);
+                }
+            }
+
+            @Override
+            public DoubleEither<L> decode(ByteBuffer buffer) {
+                return isRight(buffer.get())
+                        ? new DoubleEither.Right<>(buffer.getDouble())
+                        : new DoubleEither.Left<>(left.decode(buffer));
+            }
+
+            @Override
+            public int size(DoubleEither<L> value) {
+                return 1
+                        + switch (value) {
+                            case DoubleEither.Left<L>(var leftValue) -> left.size(leftValue);
+                            case DoubleEither.Right<L> _ -> Double.BYTES;
+                        };
+            }
+        };
+    }
+
+    /// Encodes every element of a stream into a channel, using a buffer as the only staging area.
+    ///
+    /// Elements are encoded one after another into `buffer`, which is written to the channel whenever the next element
+    /// does not fit, and once more at the end. No other buffers or arrays are allocated per element, apart from what
+    /// the codec itself needs. The previous contents of `buffer` are discarded.
+    ///
+    /// @param codec   codec of the elements
+    /// @param values  elements to encode, consumed in encounter order
+    /// @param channel blocking channel to write to
+    /// @param buffer  staging buffer, heap or direct
+    /// @param <T>     type of elements
+    /// @throws IOException              if writing to the channel fails
+    /// @throws IllegalArgumentException if an element is larger than the capacity of `buffer`
+    /// @since 1.1.0
+    public static <T> void writeAll(
+            Codec<? super T> codec, Stream<? extends T> values, WritableByteChannel channel, ByteBuffer buffer)
+            throws IOException {
+        buffer.clear();
+        Iterator<? extends T> iterator = values.iterator();
+        while (iterator.hasNext()) {
+            T value = iterator.next();
+            int size = codec.size(value);
+            if (buffer.remaining() < size) {
+                flush(buffer, channel);
+                if (buffer.remaining() < size) {
+                    throw new IllegalArgumentException("Element of " + size + " bytes does not fit into a buffer of "
+                            + buffer.capacity() + " bytes");
+                }
+            }
+            codec.encode(value, buffer);
+        }
+        flush(buffer, channel);
+    }
+
+    /// Returns a lazy stream of the elements encoded in a channel, using a buffer as the only staging area.
+    ///
+    /// The channel is read into `buffer` whenever the next element is not completely available, until it reaches
+    /// end-of-stream. Each element must fit into `buffer` as a whole. The previous contents of `buffer` are discarded,
+    /// and the buffer must not be used by anything else until the stream is done. Closing the stream does not close
+    /// the channel.
+    ///
+    /// Read failures are thrown as [UncheckedIOException]; so is an [EOFException] if the channel ends in the middle
+    /// of an element.
+    ///
+    /// @param codec   codec of the elements
+    /// @param channel blocking channel to read from
+    /// @param buffer  staging buffer, heap or direct
+    /// @param <T>     type of elements
+    /// @return a sequential, ordered stream of the decoded elements
+    /// @since 1.1.0
+    public static <T> Stream<T> readAll(Codec<? extends T> codec, ReadableByteChannel channel, ByteBuffer buffer) {
+        Objects.requireNonNull(codec, "codec");
+        Objects.requireNonNull(channel, "channel");
+        buffer.clear().flip();
+        return StreamSupport.stream(new ChannelSpliterator<T>(codec, channel, buffer), false);
+    }
+
+    private record EitherCodec<L, R>(Codec<L> left, Codec<R> right) implements Codec<Either<L, R>> {
+        @Override
+        public void encode(Either<L, R> value, ByteBuffer buffer) {
+            switch (value) {
+                case Either.Left<L, R>(var leftValue) -> left.encode(leftValue, buffer.put(LEFT_TAG));
+                case Either.Right<L, R>(var rightValue) -> right.encode(rightValue, buffer.put(RIGHT_TAG));
+            }
+        }
+
+        @Override
+        public Either<L, R> decode(ByteBuffer buffer) {
+            return isRight(buffer.get())
+                    ? new Either.Right<>(right.decode(buffer))
+                    : new Either.Left<>(left.decode(buffer));
+        }
+
+        @Override
+        public int size(Either<L, R> value) {
+            return 1
+                    + switch (value) {
+                        case Either.Left<L, R>(var leftValue) -> left.size(leftValue);
+                        case Either.Right<L, R>(var rightValue) -> right.size(rightValue);
+                    };
+        }
+    }
+
+    private record PairCodec<L, R>(Codec<L> left, Codec<R> right) implements Codec<Pair<L, R>> {
+        @Override
+        public void encode(Pair<L, R> value, ByteBuffer buffer) {
+            left.encode(value.left(), buffer);
+            right.encode(value.right(), buffer);
+        }
+
+        @Override
+        public Pair<L, R> decode(ByteBuffer buffer) {
+            var leftValue = left.decode(buffer);
+            return new Pair<>(leftValue, right.decode(buffer));
+        }
+
+        @Override
+        public int size(Pair<L, R> value) {
+            return left.size(value.left()) + right.size(value.right());
+        }
+    }
+
+    // Decodes elements out of the buffer, refilling it from the channel when an element is cut off. An element that
+    // does not fit is detected by the underflow of its codec, after which the position is rolled back to its start.
+    private static final class ChannelSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+        private final Codec<? extends T> codec;
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer;
+        private boolean endOfStream;
+
+        private ChannelSpliterator(Codec<? extends T> codec, ReadableByteChannel channel, ByteBuffer buffer) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.codec = codec;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            var value = next();
+            if (value == null) {
+                return false;
+            }
+            action.accept(value);
+            return true;
+        }
+
+        private @Nullable T next() {
+            while (true) {
+                if (buffer.hasRemaining()) {
+                    int start = buffer.position();
+                    try {
+                        return Objects.requireNonNull(codec.decode(buffer), "decoded value");
+                    } catch (BufferUnderflowException e) {
+                        buffer.position(start);
+                    }
+                }
+                if (endOfStream) {
+                    if (buffer.hasRemaining()) {
+                        throw new UncheckedIOException(new EOFException(
+                                "Channel ended within an element, " + buffer.remaining() + " bytes left"));
+                    }
+                    return null;
+                }
+                fill();
+            }
+        }
+
+        private void fill() {
+            buffer.compact();
+            try {
+                if (!buffer.hasRemaining()) {
+                    throw new IllegalStateException(
+                            "Element does not fit into a buffer of " + buffer.capacity() + " bytes");
+                }
+                endOfStream = channel.read(buffer) < 0;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                buffer.flip();
+            }
+        }
+    }
+
+    private static void flush(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static boolean isRight(byte tag) {
+        return switch (tag) {
+            case LEFT_TAG -> false;
+            case RIGHT_TAG -> true;
+            default -> throw new IllegalArgumentException("Invalid Either tag: " + tag);
+        };
+    }
+
+    private static void putVarint(int value, ByteBuffer buffer) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int getVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (value < 0) {
+                    throw new IllegalArgumentException("Invalid length: " + Integer.toUnsignedString(value));
+                }
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable-length integer");
+    }
+
+    private static int varintSize(int value) {
+        return (Integer.SIZE - Integer.numberOfLeadingZeros(value | 1) + 6) / 7;
+    }
+
+    private static int utf8Length(String value) {
+        int length = value.length();
+        int bytes = length;
+        for (int index = 0; index < length; index++) {
+            char c = value.charAt(index);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    bytes++;
+                } else if (!Character.isSurrogate(c)) {
+                    bytes += 2;
+                } else if (Character.isHighSurrogate(c)
+                        && index + 1 < length
+                        && Character.isLowSurrogate(value.charAt(index + 1))) {
+                    // A surrogate pair takes 4 bytes; an unpaired surrogate is replaced by a single '?'.
+                    bytes += 2;
+                    index++;
+                }
+            }
+        }
+        return bytes;
+    }
+}
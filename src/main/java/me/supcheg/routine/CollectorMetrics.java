@@ -0,0 +1,73 @@
+package me.supcheg.routine;
+
+import java.util.Objects;
+
+/// A hook receiving one [Sample] per collection performed by an instrumented collector of [EitherCollectors].
+///
+/// Instrumentation is off by default and is switched on for the whole JVM by starting it with the
+/// `me.supcheg.routine.instrumentation` system property set to `true`. The property is read once, into a
+/// `static final` field, so with instrumentation off every collector factory only pays one constant check that the
+/// JIT compiler folds away, and the returned collectors are the plain ones. With instrumentation on, the collectors
+/// returned by [EitherCollectors] for [Either] streams count left and right values, time their phases, emit JFR
+/// events, and report a [Sample] to the installed hook once the result is finished.
+///
+/// ```java
+/// CollectorMetrics.install(sample -> {
+///     registry.counter("either.lefts", "collector", sample.collector()).increment(sample.lefts());
+///     registry.counter("either.rights", "collector", sample.collector()).increment(sample.rights());
+///     registry.summary("either.splits", "collector", sample.collector()).record(sample.containers());
+/// });
+/// ```
+///
+/// The hook is called on the thread finishing the collection and should return quickly.
+///
+/// @see EitherCollectors
+/// @since 1.1.0
+@FunctionalInterface
+public interface CollectorMetrics {
+
+    /// Returns whether collector instrumentation was enabled when the library was loaded.
+    ///
+    /// @return the value of the `me.supcheg.routine.instrumentation` system property
+    /// @since 1.1.0
+    static boolean isEnabled() {
+        return InstrumentedCollector.ENABLED;
+    }
+
+    /// Installs the hook receiving samples of all instrumented collections, replacing the previous one.
+    ///
+    /// Installing a hook has no effect on collections unless instrumentation is enabled, see [#isEnabled()].
+    ///
+    /// @param metrics hook to install
+    /// @since 1.1.0
+    static void install(CollectorMetrics metrics) {
+        InstrumentedCollector.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    /// Receives the sample of one finished collection.
+    ///
+    /// @param sample measurements of the collection
+    /// @since 1.1.0
+    void record(Sample sample);
+
+    /// Measurements of one collection.
+    ///
+    /// @param collector       name of the [EitherCollectors] factory that created the collector, such as `groupingTo`
+    /// @param lefts           number of left values accumulated
+    /// @param rights          number of right values accumulated
+    /// @param containers      number of result containers created, which is the number of splits of a parallel
+    ///                        stream or `1` for sequential and concurrent collections
+    /// @param accumulateNanos time from the creation of each container until it was combined or finished, summed
+    ///                        over all containers
+    /// @param combineNanos    time spent combining containers, summed over all combine steps
+    /// @param finishNanos     time spent in the finisher
+    /// @since 1.1.0
+    record Sample(
+            String collector,
+            long lefts,
+            long rights,
+            long containers,
+            long accumulateNanos,
+            long combineNanos,
+            long finishNanos) {}
+}
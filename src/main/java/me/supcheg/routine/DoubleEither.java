@@ -0,0 +1,390 @@
+package me.supcheg.routine;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+
+/// A variant of [Either] whose right branch holds an unboxed `double`.
+///
+/// - [Left] — contains a value of type `L`, usually an error
+/// - [Right] — contains a `double` value, usually a successfully computed result
+///
+/// Operations on the right branch take `double`-specialized functions, so parsing and metric pipelines can produce and
+/// transform numeric results without creating `Double` boxes.
+///
+/// @param <L> type of the left value
+/// @see Either
+/// @see EitherCollectors
+/// @since 1.1.0
+public sealed interface DoubleEither<L> {
+
+    /// Represents the left variant of [DoubleEither].
+    ///
+    /// `value` is guaranteed to be non-null.
+    ///
+    /// @param value left value
+    /// @param <L>   type of the stored value
+    /// @since 1.1.0
+    record Left<L>(L value) implements DoubleEither<L> {
+
+        /// Constructs a [Left] instance with a non-null value.
+        ///
+        /// @throws NullPointerException if [Left#value] is `null`
+        /// @since 1.1.0
+        public Left {
+            Objects.requireNonNull(value, "value");
+        }
+
+        @Override
+        public <NL> DoubleEither<NL> map(Function<? super L, ? extends NL> left, DoubleUnaryOperator right) {
+            return new Left<>(left.apply(value));
+        }
+
+        @Override
+        public <NL> DoubleEither<NL> mapLeft(Function<? super L, ? extends NL> left) {
+            return new Left<>(left.apply(value));
+        }
+
+        @Override
+        public DoubleEither<L> mapRight(DoubleUnaryOperator right) {
+            return this;
+        }
+
+        @Override
+        public <NR> Either<L, NR> mapRightToObj(DoubleFunction<? extends NR> right) {
+            return new Either.Left<>(value);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NL> DoubleEither<NL> flatMap(
+                Function<? super L, ? extends DoubleEither<? extends NL>> left,
+                DoubleFunction<? extends DoubleEither<? extends NL>> right) {
+            return (DoubleEither<NL>) Objects.requireNonNull(left.apply(value));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NL> DoubleEither<NL> flatMapLeft(Function<? super L, ? extends DoubleEither<? extends NL>> left) {
+            return (DoubleEither<NL>) Objects.requireNonNull(left.apply(value));
+        }
+
+        @Override
+        public DoubleEither<L> flatMapRight(DoubleFunction<? extends DoubleEither<? extends L>> right) {
+            return this;
+        }
+
+        @Override
+        public <T> T fold(Function<? super L, ? extends T> left, DoubleFunction<? extends T> right) {
+            return left.apply(value);
+        }
+
+        @Override
+        public double foldToDouble(ToDoubleFunction<? super L> left, DoubleUnaryOperator right) {
+            return left.applyAsDouble(value);
+        }
+
+        @Override
+        public Optional<L> left() {
+            return Optional.of(value);
+        }
+
+        @Override
+        public OptionalDouble right() {
+            return OptionalDouble.empty();
+        }
+
+        @Override
+        public double rightOrElse(double other) {
+            return other;
+        }
+
+        @Override
+        public DoubleEither<L> peek(Consumer<? super L> left, DoubleConsumer right) {
+            left.accept(value);
+            return this;
+        }
+
+        @Override
+        public void accept(Consumer<? super L> left, DoubleConsumer right) {
+            left.accept(value);
+        }
+
+        @Override
+        public void ifLeft(Consumer<? super L> left) {
+            left.accept(value);
+        }
+
+        @Override
+        public void ifRight(DoubleConsumer right) {}
+
+        @Override
+        public Either<L, Double> asEither() {
+            return new Either.Left<>(value);
+        }
+    }
+
+    /// Represents the right variant of [DoubleEither].
+    ///
+    /// @param value right value
+    /// @param <L>   type of the left branch (phantom type parameter)
+    /// @since 1.1.0
+    record Right<L>(double value) implements DoubleEither<L> {
+
+        @Override
+        public <NL> DoubleEither<NL> map(Function<? super L, ? extends NL> left, DoubleUnaryOperator right) {
+            return new Right<>(right.applyAsDouble(value));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NL> DoubleEither<NL> mapLeft(Function<? super L, ? extends NL> left) {
+            return (DoubleEither<NL>) this;
+        }
+
+        @Override
+        public DoubleEither<L> mapRight(DoubleUnaryOperator right) {
+            return new Right<>(right.applyAsDouble(value));
+        }
+
+        @Override
+        public <NR> Either<L, NR> mapRightToObj(DoubleFunction<? extends NR> right) {
+            return new Either.Right<>(right.apply(value));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NL> DoubleEither<NL> flatMap(
+                Function<? super L, ? extends DoubleEither<? extends NL>> left,
+                DoubleFunction<? extends DoubleEither<? extends NL>> right) {
+            return (DoubleEither<NL>) Objects.requireNonNull(right.apply(value));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NL> DoubleEither<NL> flatMapLeft(Function<? super L, ? extends DoubleEither<? extends NL>> left) {
+            return (DoubleEither<NL>) this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public DoubleEither<L> flatMapRight(DoubleFunction<? extends DoubleEither<? extends L>> right) {
+            return (DoubleEither<L>) Objects.requireNonNull(right.apply(value));
+        }
+
+        @Override
+        public <T> T fold(Function<? super L, ? extends T> left, DoubleFunction<? extends T> right) {
+            return right.apply(value);
+        }
+
+        @Override
+        public double foldToDouble(ToDoubleFunction<? super L> left, DoubleUnaryOperator right) {
+            return right.applyAsDouble(value);
+        }
+
+        @Override
+        public Optional<L> left() {
+            return Optional.empty();
+        }
+
+        @Override
+        public OptionalDouble right() {
+            return OptionalDouble.of(value);
+        }
+
+        @Override
+        public double rightOrElse(double other) {
+            return value;
+        }
+
+        @Override
+        public DoubleEither<L> peek(Consumer<? super L> left, DoubleConsumer right) {
+            right.accept(value);
+            return this;
+        }
+
+        @Override
+        public void accept(Consumer<? super L> left, DoubleConsumer right) {
+            right.accept(value);
+        }
+
+        @Override
+        public void ifLeft(Consumer<? super L> left) {}
+
+        @Override
+        public void ifRight(DoubleConsumer right) {
+            right.accept(value);
+        }
+
+        @Override
+        public Either<L, Double> asEither() {
+            return new Either.Right<>(value);
+        }
+    }
+
+    /// Creates a [Left] instance.
+    ///
+    /// @param value left value
+    /// @param <L>   left type
+    /// @return an [DoubleEither] in the [Left] state
+    /// @since 1.1.0
+    static <L> Left<L> left(L value) {
+        return new Left<>(value);
+    }
+
+    /// Creates a [Right] instance.
+    ///
+    /// @param value right value
+    /// @param <L>   left type
+    /// @return an [DoubleEither] in the [Right] state
+    /// @since 1.1.0
+    static <L> Right<L> right(double value) {
+        return new Right<>(value);
+    }
+
+    /// Creates an [DoubleEither] by unboxing the right value of an [Either].
+    ///
+    /// @param either source either
+    /// @param <L>    left type
+    /// @return an [DoubleEither] in the same state as the given [Either]
+    /// @since 1.1.0
+    static <L> DoubleEither<L> doubleEitherFromEither(Either<L, Double> either) {
+        return switch (either) {
+            case Either.Left(var value) -> left(value);
+            case Either.Right(var value) -> right(value);
+        };
+    }
+
+    /// Applies a bifunctional mapping to both branches.
+    ///
+    /// @param left  mapping function for the left branch
+    /// @param right mapping function for the right branch
+    /// @param <NL>  new left type
+    /// @return a new [DoubleEither] with transformed value
+    /// @since 1.1.0
+    <NL> DoubleEither<NL> map(Function<? super L, ? extends NL> left, DoubleUnaryOperator right);
+
+    /// Maps only the left branch.
+    ///
+    /// @param left mapping function
+    /// @param <NL> new left type
+    /// @return [DoubleEither] with transformed left value
+    /// @since 1.1.0
+    <NL> DoubleEither<NL> mapLeft(Function<? super L, ? extends NL> left);
+
+    /// Maps only the right branch.
+    ///
+    /// @param right mapping function
+    /// @return [DoubleEither] with transformed right value
+    /// @since 1.1.0
+    DoubleEither<L> mapRight(DoubleUnaryOperator right);
+
+    /// Maps the right branch to an object, producing a regular [Either].
+    ///
+    /// @param right mapping function
+    /// @param <NR>  new right type
+    /// @return [Either] with the same left value or the transformed right value
+    /// @since 1.1.0
+    <NR> Either<L, NR> mapRightToObj(DoubleFunction<? extends NR> right);
+
+    /// Performs monadic composition on both branches.
+    ///
+    /// @param left  mapping function for the left branch
+    /// @param right mapping function for the right branch
+    /// @param <NL>  new left type
+    /// @return result of the composition
+    /// @since 1.1.0
+    <NL> DoubleEither<NL> flatMap(
+            Function<? super L, ? extends DoubleEither<? extends NL>> left,
+            DoubleFunction<? extends DoubleEither<? extends NL>> right);
+
+    /// Monadic composition on the left branch only.
+    ///
+    /// @param left mapping function
+    /// @param <NL> new left type
+    /// @return composed [DoubleEither]
+    /// @since 1.1.0
+    <NL> DoubleEither<NL> flatMapLeft(Function<? super L, ? extends DoubleEither<? extends NL>> left);
+
+    /// Monadic composition on the right branch only.
+    ///
+    /// @param right mapping function
+    /// @return composed [DoubleEither]
+    /// @since 1.1.0
+    DoubleEither<L> flatMapRight(DoubleFunction<? extends DoubleEither<? extends L>> right);
+
+    /// Folds this [DoubleEither] into a single value.
+    ///
+    /// @param left  function applied to the left value
+    /// @param right function applied to the right value
+    /// @param <T>   result type
+    /// @return result of applying the corresponding function
+    /// @since 1.1.0
+    <T> T fold(Function<? super L, ? extends T> left, DoubleFunction<? extends T> right);
+
+    /// Folds this [DoubleEither] into a single `double` value without boxing the result.
+    ///
+    /// @param left  function applied to the left value
+    /// @param right function applied to the right value
+    /// @return result of applying the corresponding function
+    /// @since 1.1.0
+    double foldToDouble(ToDoubleFunction<? super L> left, DoubleUnaryOperator right);
+
+    /// Returns the left value wrapped in [Optional], if present.
+    ///
+    /// @return optional left value
+    /// @since 1.1.0
+    Optional<L> left();
+
+    /// Returns the right value wrapped in [OptionalDouble], if present.
+    ///
+    /// @return optional right value
+    /// @since 1.1.0
+    OptionalDouble right();
+
+    /// Returns the right value if present, otherwise `other`.
+    ///
+    /// @param other value returned when this is [Left]
+    /// @return the right value or `other`
+    /// @since 1.1.0
+    double rightOrElse(double other);
+
+    /// Executes side effects for the corresponding branch without modifying this [DoubleEither].
+    ///
+    /// @param left  consumer for the left branch
+    /// @param right consumer for the right branch
+    /// @return this [DoubleEither]
+    /// @since 1.1.0
+    DoubleEither<L> peek(Consumer<? super L> left, DoubleConsumer right);
+
+    /// Consumes the value using the appropriate consumer.
+    ///
+    /// @param left  consumer for the left branch
+    /// @param right consumer for the right branch
+    /// @since 1.1.0
+    void accept(Consumer<? super L> left, DoubleConsumer right);
+
+    /// Executes the given consumer if this value is [Left].
+    ///
+    /// @param left consumer for the left branch
+    /// @since 1.1.0
+    void ifLeft(Consumer<? super L> left);
+
+    /// Executes the given consumer if this value is [Right].
+    ///
+    /// @param right consumer for the right branch
+    /// @since 1.1.0
+    void ifRight(DoubleConsumer right);
+
+    /// Converts this value into a regular [Either] with a boxed right value.
+    ///
+    /// @return an [Either] in the same state as this value
+    /// @since 1.1.0
+    Either<L, Double> asEither();
+}
@@ -0,0 +1,118 @@
+package me.supcheg.routine;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/// An immutable ordered pair of two `double` values.
+///
+/// This is the `double`-specialized counterpart of [Pair]: both components are stored unboxed, so the pair itself is
+/// the only allocation and no `Double` wrappers are created on the way.
+///
+/// @param left  left component
+/// @param right right component
+/// @see Pair
+/// @since 1.1.0
+public record DoublePair(double left, double right) {
+
+    /// Creates a [DoublePair] instance.
+    ///
+    /// This is a convenience factory method equivalent to invoking the constructor directly.
+    ///
+    /// @param left  left component
+    /// @param right right component
+    /// @return a new [DoublePair] containing the given values
+    /// @since 1.1.0
+    public static DoublePair doublePair(double left, double right) {
+        return new DoublePair(left, right);
+    }
+
+    /// Creates a [DoublePair] by unboxing both components of a [Pair].
+    ///
+    /// @param pair source pair
+    /// @return a [DoublePair] holding the unboxed components of the given pair
+    /// @since 1.1.0
+    public static DoublePair doublePairFromPair(Pair<Double, Double> pair) {
+        return new DoublePair(pair.left(), pair.right());
+    }
+
+    /// Applies independent mapping functions to both components of this pair.
+    ///
+    /// @param left  mapping function for the left component
+    /// @param right mapping function for the right component
+    /// @return a new [DoublePair] with both components transformed
+    /// @since 1.1.0
+    public DoublePair map(DoubleUnaryOperator left, DoubleUnaryOperator right) {
+        return new DoublePair(left.applyAsDouble(this.left), right.applyAsDouble(this.right));
+    }
+
+    /// Maps the left component while leaving the right component unchanged.
+    ///
+    /// @param left mapping function for the left component
+    /// @return a new [DoublePair] with a transformed left component
+    /// @since 1.1.0
+    public DoublePair mapLeft(DoubleUnaryOperator left) {
+        return new DoublePair(left.applyAsDouble(this.left), right);
+    }
+
+    /// Maps the right component while leaving the left component unchanged.
+    ///
+    /// @param right mapping function for the right component
+    /// @return a new [DoublePair] with a transformed right component
+    /// @since 1.1.0
+    public DoublePair mapRight(DoubleUnaryOperator right) {
+        return new DoublePair(left, right.applyAsDouble(this.right));
+    }
+
+    /// Replaces the left component with a new value.
+    ///
+    /// @param left new left value
+    /// @return a new [DoublePair] with the specified left component
+    /// @since 1.1.0
+    public DoublePair withLeft(double left) {
+        return new DoublePair(left, right);
+    }
+
+    /// Replaces the right component with a new value.
+    ///
+    /// @param right new right value
+    /// @return a new [DoublePair] with the specified right component
+    /// @since 1.1.0
+    public DoublePair withRight(double right) {
+        return new DoublePair(left, right);
+    }
+
+    /// Swaps the left and right components.
+    ///
+    /// @return a [DoublePair] with inverted component order
+    /// @since 1.1.0
+    public DoublePair flip() {
+        return new DoublePair(right, left);
+    }
+
+    /// Folds this [DoublePair] into a single value.
+    ///
+    /// @param function a function applied to the left and right components
+    /// @param <T>      result type
+    /// @return the result of applying the function to both components
+    /// @since 1.1.0
+    public <T> T fold(DoubleBiFunction<? extends T> function) {
+        return function.apply(left, right);
+    }
+
+    /// Folds this [DoublePair] into a single `double` value without boxing the result.
+    ///
+    /// @param function an operator applied to the left and right components
+    /// @return the result of applying the operator to both components
+    /// @since 1.1.0
+    public double foldToDouble(DoubleBinaryOperator function) {
+        return function.applyAsDouble(left, right);
+    }
+
+    /// Converts this pair into a boxed [Pair].
+    ///
+    /// @return a [Pair] holding the boxed components of this pair
+    /// @since 1.1.0
+    public Pair<Double, Double> asPair() {
+        return new Pair<>(left, right);
+    }
+}
@@ -1,9 +1,12 @@
 package me.supcheg.routine;
 
+import org.jspecify.annotations.Nullable;
+
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /// An algebraic data type representing a value that can be in **exactly one of two mutually exclusive states**:
 /// - [Left] — contains a value of type `L`
@@ -33,6 +36,137 @@ public sealed interface Either<L, R> {
         public Left {
             Objects.requireNonNull(value, "value");
         }
+
+        @Override
+        public <NL, NR> Either<NL, NR> map(
+                Function<? super L, ? extends NL> left, Function<? super R, ? extends NR> right) {
+            return new Left<>(left.apply(value));
+        }
+
+        @Override
+        public <NL> Either<NL, R> mapLeft(Function<? super L, ? extends NL> left) {
+            return new Left<>(left.apply(value));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NR> Either<L, NR> mapRight(Function<? super R, ? extends NR> right) {
+            return (Either<L, NR>) this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NL, NR> Either<NL, NR> flatMap(
+                Function<? super L, ? extends Either<? extends NL, ? extends NR>> left,
+                Function<? super R, ? extends Either<? extends NL, ? extends NR>> right) {
+            return (Either<NL, NR>) Objects.requireNonNull(left.apply(value));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NL> Either<NL, R> flatMapLeft(Function<? super L, ? extends Either<? extends NL, ? extends R>> left) {
+            return (Either<NL, R>) Objects.requireNonNull(left.apply(value));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NR> Either<L, NR> flatMapRight(Function<? super R, ? extends Either<? extends L, ? extends NR>> right) {
+            return (Either<L, NR>) this;
+        }
+
+        /// Swaps the branches, constructing the [Right] directly.
+        ///
+        /// @return a [Right] holding this value
+        /// @since 1.1.0
+        @Override
+        public Right<R, L> flip() {
+            return new Right<>(value);
+        }
+
+        @Override
+        public <T> T fold(Function<? super L, ? extends T> left, Function<? super R, ? extends T> right) {
+            return left.apply(value);
+        }
+
+        @Override
+        public Optional<L> left() {
+            return Optional.of(value);
+        }
+
+        @Override
+        public Optional<R> right() {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean isLeft() {
+            return true;
+        }
+
+        @Override
+        public boolean isRight() {
+            return false;
+        }
+
+        @Override
+        public L leftOrNull() {
+            return value;
+        }
+
+        @Override
+        public @Nullable R rightOrNull() {
+            return null;
+        }
+
+        @Override
+        public L leftOrElse(L other) {
+            return value;
+        }
+
+        @Override
+        public R rightOrElse(R other) {
+            return other;
+        }
+
+        @Override
+        public L leftOrElseGet(Supplier<? extends L> other) {
+            return value;
+        }
+
+        @Override
+        public R rightOrElseGet(Supplier<? extends R> other) {
+            return other.get();
+        }
+
+        @Override
+        public Either<L, R> peek(Consumer<? super L> left, Consumer<? super R> right) {
+            left.accept(value);
+            return this;
+        }
+
+        @Override
+        public Either<L, R> peekLeft(Consumer<? super L> left) {
+            left.accept(value);
+            return this;
+        }
+
+        @Override
+        public Either<L, R> peekRight(Consumer<? super R> right) {
+            return this;
+        }
+
+        @Override
+        public void accept(Consumer<? super L> left, Consumer<? super R> right) {
+            left.accept(value);
+        }
+
+        @Override
+        public void ifLeft(Consumer<? super L> left) {
+            left.accept(value);
+        }
+
+        @Override
+        public void ifRight(Consumer<? super R> right) {}
     }
 
     /// Represents the right variant of [Either].
@@ -52,6 +186,137 @@ public sealed interface Either<L, R> {
         public Right {
             Objects.requireNonNull(value, "value");
         }
+
+        @Override
+        public <NL, NR> Either<NL, NR> map(
+                Function<? super L, ? extends NL> left, Function<? super R, ? extends NR> right) {
+            return new Right<>(right.apply(value));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NL> Either<NL, R> mapLeft(Function<? super L, ? extends NL> left) {
+            return (Either<NL, R>) this;
+        }
+
+        @Override
+        public <NR> Either<L, NR> mapRight(Function<? super R, ? extends NR> right) {
+            return new Right<>(right.apply(value));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NL, NR> Either<NL, NR> flatMap(
+                Function<? super L, ? extends Either<? extends NL, ? extends NR>> left,
+                Function<? super R, ? extends Either<? extends NL, ? extends NR>> right) {
+            return (Either<NL, NR>) Objects.requireNonNull(right.apply(value));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NL> Either<NL, R> flatMapLeft(Function<? super L, ? extends Either<? extends NL, ? extends R>> left) {
+            return (Either<NL, R>) this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NR> Either<L, NR> flatMapRight(Function<? super R, ? extends Either<? extends L, ? extends NR>> right) {
+            return (Either<L, NR>) Objects.requireNonNull(right.apply(value));
+        }
+
+        /// Swaps the branches, constructing the [Left] directly.
+        ///
+        /// @return a [Left] holding this value
+        /// @since 1.1.0
+        @Override
+        public Left<R, L> flip() {
+            return new Left<>(value);
+        }
+
+        @Override
+        public <T> T fold(Function<? super L, ? extends T> left, Function<? super R, ? extends T> right) {
+            return right.apply(value);
+        }
+
+        @Override
+        public Optional<L> left() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<R> right() {
+            return Optional.of(value);
+        }
+
+        @Override
+        public boolean isLeft() {
+            return false;
+        }
+
+        @Override
+        public boolean isRight() {
+            return true;
+        }
+
+        @Override
+        public @Nullable L leftOrNull() {
+            return null;
+        }
+
+        @Override
+        public R rightOrNull() {
+            return value;
+        }
+
+        @Override
+        public L leftOrElse(L other) {
+            return other;
+        }
+
+        @Override
+        public R rightOrElse(R other) {
+            return value;
+        }
+
+        @Override
+        public L leftOrElseGet(Supplier<? extends L> other) {
+            return other.get();
+        }
+
+        @Override
+        public R rightOrElseGet(Supplier<? extends R> other) {
+            return value;
+        }
+
+        @Override
+        public Either<L, R> peek(Consumer<? super L> left, Consumer<? super R> right) {
+            right.accept(value);
+            return this;
+        }
+
+        @Override
+        public Either<L, R> peekLeft(Consumer<? super L> left) {
+            return this;
+        }
+
+        @Override
+        public Either<L, R> peekRight(Consumer<? super R> right) {
+            right.accept(value);
+            return this;
+        }
+
+        @Override
+        public void accept(Consumer<? super L> left, Consumer<? super R> right) {
+            right.accept(value);
+        }
+
+        @Override
+        public void ifLeft(Consumer<? super L> left) {}
+
+        @Override
+        public void ifRight(Consumer<? super R> right) {
+            right.accept(value);
+        }
     }
 
     /// Creates a [Left] instance.
@@ -76,6 +341,42 @@ public sealed interface Either<L, R> {
         return new Right<>(value);
     }
 
+    /// Runs a throwing supplier, capturing exceptions of the given type as a [Left].
+    ///
+    /// Exceptions that are not instances of `type` are not captured: unchecked exceptions are rethrown as is, and
+    /// undeclared checked exceptions are wrapped in an [IllegalStateException]. Combined with exceptions extending
+    /// [StacklessException], expected failures become [Left] values without paying for a stack trace.
+    ///
+    /// ```java
+    /// Either<NumberFormatException, Integer> port =
+    ///     Either.catching(NumberFormatException.class, () -> Integer.parseInt(input));
+    /// ```
+    ///
+    /// @param type     type of the exceptions to capture
+    /// @param supplier supplier of the right value
+    /// @param <X>      type of the captured exceptions
+    /// @param <R>      right type
+    /// @return a [Right] holding the supplied value, or a [Left] holding the captured exception
+    /// @throws NullPointerException if `supplier` returns `null`
+    /// @see StacklessException
+    /// @since 1.1.0
+    static <X extends Exception, R> Either<X, R> catching(
+            Class<X> type, ThrowingSupplier<? extends R, ? extends X> supplier) {
+        Objects.requireNonNull(type, "type");
+        R value;
+        try {
+            value = supplier.get();
+        } catch (Exception e) {
+            if (type.isInstance(e)) {
+                return new Left<>(type.cast(e));
+            }
+            throw e instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new IllegalStateException("Undeclared checked exception", e);
+        }
+        return new Right<>(value);
+    }
+
     /// Applies a bifunctional mapping to both branches.
     ///
     /// - if this is [Left], the `left` function is applied;
@@ -87,13 +388,7 @@ public sealed interface Either<L, R> {
     /// @param <NR>  new right type
     /// @return a new `Either` with transformed value
     /// @since 1.0.0
-    default <NL, NR> Either<NL, NR> map(
-            Function<? super L, ? extends NL> left, Function<? super R, ? extends NR> right) {
-        return switch (this) {
-            case Left(var value) -> left(left.apply(value));
-            case Right(var value) -> right(right.apply(value));
-        };
-    }
+    <NL, NR> Either<NL, NR> map(Function<? super L, ? extends NL> left, Function<? super R, ? extends NR> right);
 
     /// Maps only the left branch.
     ///
@@ -101,16 +396,7 @@ public sealed interface Either<L, R> {
     /// @param <NL> new left type
     /// @return [Either] with transformed left value
     /// @since 1.0.0
-    default <NL> Either<NL, R> mapLeft(Function<? super L, ? extends NL> left) {
-        return switch (this) {
-            case Left(var value) -> left(left.apply(value));
-            case Right<L, R> right -> {
-                @SuppressWarnings("unchecked")
-                var result = (Either<NL, R>) right;
-                yield result;
-            }
-        };
-    }
+    <NL> Either<NL, R> mapLeft(Function<? super L, ? extends NL> left);
 
     /// Maps only the right branch.
     ///
@@ -118,16 +404,7 @@ public sealed interface Either<L, R> {
     /// @param <NR>  new right type
     /// @return [Either] with transformed right value
     /// @since 1.0.0
-    default <NR> Either<L, NR> mapRight(Function<? super R, ? extends NR> right) {
-        return switch (this) {
-            case Left<L, R> left -> {
-                @SuppressWarnings("unchecked")
-                var result = (Either<L, NR>) left;
-                yield result;
-            }
-            case Right(var value) -> right(right.apply(value));
-        };
-    }
+    <NR> Either<L, NR> mapRight(Function<? super R, ? extends NR> right);
 
     /// Performs monadic composition on both branches.
     ///
@@ -137,17 +414,9 @@ public sealed interface Either<L, R> {
     /// @param <NR>  new right type
     /// @return result of the composition
     /// @since 1.0.0
-    default <NL, NR> Either<NL, NR> flatMap(
+    <NL, NR> Either<NL, NR> flatMap(
             Function<? super L, ? extends Either<? extends NL, ? extends NR>> left,
-            Function<? super R, ? extends Either<? extends NL, ? extends NR>> right) {
-        @SuppressWarnings("unchecked")
-        var result = (Either<NL, NR>)
-                switch (this) {
-                    case Left(var value) -> left.apply(value);
-                    case Right(var value) -> right.apply(value);
-                };
-        return Objects.requireNonNull(result);
-    }
+            Function<? super R, ? extends Either<? extends NL, ? extends NR>> right);
 
     /// Monadic composition on the left branch only.
     ///
@@ -155,15 +424,7 @@ public sealed interface Either<L, R> {
     /// @param <NL> new left type
     /// @return composed [Either]
     /// @since 1.0.0
-    default <NL> Either<NL, R> flatMapLeft(Function<? super L, ? extends Either<? extends NL, ? extends R>> left) {
-        @SuppressWarnings("unchecked")
-        var result = (Either<NL, R>)
-                switch (this) {
-                    case Left(var value) -> Objects.requireNonNull(left.apply(value));
-                    case Right<L, R> right -> right;
-                };
-        return result;
-    }
+    <NL> Either<NL, R> flatMapLeft(Function<? super L, ? extends Either<? extends NL, ? extends R>> left);
 
     /// Monadic composition on the right branch only.
     ///
@@ -171,23 +432,13 @@ public sealed interface Either<L, R> {
     /// @param <NR>  new right type
     /// @return composed [Either]
     /// @since 1.0.0
-    default <NR> Either<L, NR> flatMapRight(Function<? super R, ? extends Either<? extends L, ? extends NR>> right) {
-        @SuppressWarnings("unchecked")
-        var result = (Either<L, NR>)
-                switch (this) {
-                    case Left<L, R> left -> left;
-                    case Right(var value) -> Objects.requireNonNull(right.apply(value));
-                };
-        return result;
-    }
+    <NR> Either<L, NR> flatMapRight(Function<? super R, ? extends Either<? extends L, ? extends NR>> right);
 
     /// Swaps the left and right branches.
     ///
     /// @return an [Either] with inverted type parameters
     /// @since 1.0.0
-    default Either<R, L> flip() {
-        return flatMap(Either::right, Either::left);
-    }
+    Either<R, L> flip();
 
     /// Folds this `Either` into a single value.
     ///
@@ -198,28 +449,81 @@ public sealed interface Either<L, R> {
     /// @param <T>   result type
     /// @return result of applying the corresponding function
     /// @since 1.0.0
-    default <T> T fold(Function<? super L, ? extends T> left, Function<? super R, ? extends T> right) {
-        return switch (this) {
-            case Left(var value) -> left.apply(value);
-            case Right(var value) -> right.apply(value);
-        };
-    }
+    <T> T fold(Function<? super L, ? extends T> left, Function<? super R, ? extends T> right);
 
     /// Returns the left value wrapped in [Optional], if present.
     ///
     /// @return optional left value
+    /// @see #leftOrNull()
     /// @since 1.0.0
-    default Optional<L> left() {
-        return fold(Optional::of, _ -> Optional.empty());
-    }
+    Optional<L> left();
 
     /// Returns the right value wrapped in [Optional], if present.
     ///
     /// @return optional right value
+    /// @see #rightOrNull()
     /// @since 1.0.0
-    default Optional<R> right() {
-        return fold(_ -> Optional.empty(), Optional::of);
-    }
+    Optional<R> right();
+
+    /// Returns whether this value is [Left].
+    ///
+    /// @return `true` for [Left], `false` for [Right]
+    /// @since 1.1.0
+    boolean isLeft();
+
+    /// Returns whether this value is [Right].
+    ///
+    /// @return `true` for [Right], `false` for [Left]
+    /// @since 1.1.0
+    boolean isRight();
+
+    /// Returns the left value, or `null` if this is [Right].
+    ///
+    /// Unlike [#left()], this does not allocate.
+    ///
+    /// @return the left value, or `null`
+    /// @since 1.1.0
+    @Nullable L leftOrNull();
+
+    /// Returns the right value, or `null` if this is [Left].
+    ///
+    /// Unlike [#right()], this does not allocate.
+    ///
+    /// @return the right value, or `null`
+    /// @since 1.1.0
+    @Nullable R rightOrNull();
+
+    /// Returns the left value, or `other` if this is [Right].
+    ///
+    /// @param other value to return for [Right]
+    /// @return the left value, or `other`
+    /// @since 1.1.0
+    L leftOrElse(L other);
+
+    /// Returns the right value, or `other` if this is [Left].
+    ///
+    /// @param other value to return for [Left]
+    /// @return the right value, or `other`
+    /// @since 1.1.0
+    R rightOrElse(R other);
+
+    /// Returns the left value, or the result of `other` if this is [Right].
+    ///
+    /// `other` is only invoked for [Right].
+    ///
+    /// @param other supplier of the value to return for [Right]
+    /// @return the left value, or the supplied value
+    /// @since 1.1.0
+    L leftOrElseGet(Supplier<? extends L> other);
+
+    /// Returns the right value, or the result of `other` if this is [Left].
+    ///
+    /// `other` is only invoked for [Left].
+    ///
+    /// @param other supplier of the value to return for [Left]
+    /// @return the right value, or the supplied value
+    /// @since 1.1.0
+    R rightOrElseGet(Supplier<? extends R> other);
 
     /// Executes side effects for the corresponding branch without modifying this [Either].
     ///
@@ -227,63 +531,38 @@ public sealed interface Either<L, R> {
     /// @param right consumer for the right branch
     /// @return this [Either]
     /// @since 1.0.0
-    default Either<L, R> peek(Consumer<? super L> left, Consumer<? super R> right) {
-        switch (this) {
-            case Left(var value) -> left.accept(value);
-            case Right(var value) -> right.accept(value);
-        }
-        return this;
-    }
+    Either<L, R> peek(Consumer<? super L> left, Consumer<? super R> right);
 
     /// Executes a side effect if this value is [Left].
     ///
     /// @param left consumer for the left branch
     /// @return this [Either]
     /// @since 1.0.0
-    default Either<L, R> peekLeft(Consumer<? super L> left) {
-        ifLeft(left);
-        return this;
-    }
+    Either<L, R> peekLeft(Consumer<? super L> left);
 
     /// Executes a side effect if this value is [Right].
     ///
     /// @param right consumer for the right branch
     /// @return this [Either]
     /// @since 1.0.0
-    default Either<L, R> peekRight(Consumer<? super R> right) {
-        ifRight(right);
-        return this;
-    }
+    Either<L, R> peekRight(Consumer<? super R> right);
 
     /// Consumes the value using the appropriate consumer.
     ///
     /// @param left  consumer for the left branch
     /// @param right consumer for the right branch
     /// @since 1.0.0
-    default void accept(Consumer<? super L> left, Consumer<? super R> right) {
-        switch (this) {
-            case Left(var value) -> left.accept(value);
-            case Right(var value) -> right.accept(value);
-        }
-    }
+    void accept(Consumer<? super L> left, Consumer<? super R> right);
 
     /// Executes the given consumer if this value is [Left].
     ///
     /// @param left consumer for the left branch
     /// @since 1.0.0
-    default void ifLeft(Consumer<? super L> left) {
-        if (this instanceof Left(var value)) {
-            left.accept(value);
-        }
-    }
+    void ifLeft(Consumer<? super L> left);
 
     /// Executes the given consumer if this value is [Right].
     ///
     /// @param right consumer for the right branch
     /// @since 1.0.0
-    default void ifRight(Consumer<? super R> right) {
-        if (this instanceof Right(var value)) {
-            right.accept(value);
-        }
-    }
+    void ifRight(Consumer<? super R> right);
 }
@@ -0,0 +1,449 @@
+package me.supcheg.routine;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/// A growable, columnar sequence of [Either] values.
+///
+/// Values of both branches share one array, and the branch of each element is kept in a bitset of one bit per
+/// element, so an `EitherArray` of `n` elements costs one array slot and one bit per element rather than an object
+/// header plus two references. Elements are materialized as [Either] only when requested through [#get(int)] or
+/// [#stream()]; [#view(int)] and [#forEach(Consumer, Consumer)] read values in place.
+///
+/// This class is not thread-safe. Streams and spliterators cover the values present when they are created and are
+/// not affected by later appends. They read the arrays that back this one at creation time in place rather than
+/// copying them: [#set(int, Either)] is visible to them only until an append grows those arrays, and they must not
+/// be used after [#clear()].
+///
+/// @param <L> type of the left values
+/// @param <R> type of the right values
+/// @see Either
+/// @see PairArray
+/// @since 1.1.0
+public final class EitherArray<L, R> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] values;
+    // Bit i is set when element i is a right value. Bits at and beyond size are always clear.
+    private long[] rightTags;
+    private int size;
+
+    /// Constructs an empty [EitherArray] with a default initial capacity.
+    ///
+    /// @since 1.1.0
+    public EitherArray() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /// Constructs an empty [EitherArray] able to hold `initialCapacity` values without growing.
+    ///
+    /// @param initialCapacity initial capacity
+    /// @throws IllegalArgumentException if `initialCapacity` is negative
+    /// @since 1.1.0
+    public EitherArray(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+        }
+        this.values = new Object[initialCapacity];
+        this.rightTags = new long[words(initialCapacity)];
+    }
+
+    /// Returns a [Collector] that accumulates [Either] values into a new [EitherArray] in encounter order.
+    ///
+    /// @param <L> type of the left values
+    /// @param <R> type of the right values
+    /// @return a [Collector] producing an [EitherArray]
+    /// @since 1.1.0
+    public static <L, R> Collector<Either<? extends L, ? extends R>, ?, EitherArray<L, R>> toEitherArray() {
+        return Collector.of(EitherArray::new, EitherArray::add, (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+    }
+
+    /// Returns the number of values in this array.
+    ///
+    /// @return number of values
+    /// @since 1.1.0
+    public int size() {
+        return size;
+    }
+
+    /// Returns whether this array contains no values.
+    ///
+    /// @return `true` if [#size()] is `0`
+    /// @since 1.1.0
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /// Returns the number of left values in this array.
+    ///
+    /// @return number of left values
+    /// @since 1.1.0
+    public int leftCount() {
+        return size - rightCount();
+    }
+
+    /// Returns the number of right values in this array.
+    ///
+    /// @return number of right values
+    /// @since 1.1.0
+    public int rightCount() {
+        int count = 0;
+        for (int word = 0, words = words(size); word < words; word++) {
+            count += Long.bitCount(rightTags[word]);
+        }
+        return count;
+    }
+
+    /// Appends a left value.
+    ///
+    /// @param value left value
+    /// @throws NullPointerException if `value` is `null`
+    /// @since 1.1.0
+    public void addLeft(L value) {
+        append(Objects.requireNonNull(value, "value"), false);
+    }
+
+    /// Appends a right value.
+    ///
+    /// @param value right value
+    /// @throws NullPointerException if `value` is `null`
+    /// @since 1.1.0
+    public void addRight(R value) {
+        append(Objects.requireNonNull(value, "value"), true);
+    }
+
+    /// Appends the value of an [Either], keeping its branch.
+    ///
+    /// @param either value to append
+    /// @since 1.1.0
+    public void add(Either<? extends L, ? extends R> either) {
+        switch (either) {
+            case Either.Left(var value) -> append(value, false);
+            case Either.Right(var value) -> append(value, true);
+        }
+    }
+
+    /// Appends all values of another [EitherArray].
+    ///
+    /// @param other array to append
+    /// @since 1.1.0
+    public void addAll(EitherArray<? extends L, ? extends R> other) {
+        int offset = size;
+        int count = other.size;
+        // Appending this array to itself writes into the tag words being read, so read from a copy of them instead.
+        var tags = other == this ? Arrays.copyOf(rightTags, words(count)) : other.rightTags;
+        ensureCapacity(offset + count);
+        System.arraycopy(other.values, 0, values, offset, count);
+        for (int word = 0, words = words(count); word < words; word++) {
+            for (long bits = tags[word]; bits != 0; bits &= bits - 1) {
+                setRight(offset + (word << 6) + Long.numberOfTrailingZeros(bits));
+            }
+        }
+        size = offset + count;
+    }
+
+    /// Appends all values of a stream in encounter order.
+    ///
+    /// Parallel streams are collected into intermediate arrays that are then copied in bulk.
+    ///
+    /// @param stream stream of values to append
+    /// @since 1.1.0
+    public void addAll(Stream<? extends Either<? extends L, ? extends R>> stream) {
+        if (stream.isParallel()) {
+            addAll(stream.collect(EitherArray.<L, R>toEitherArray()));
+        } else {
+            stream.forEachOrdered(this::add);
+        }
+    }
+
+    /// Returns whether the value at the given index is a left value.
+    ///
+    /// @param index index of the value
+    /// @return `true` if the value at `index` is a left value
+    /// @throws IndexOutOfBoundsException if `index` is out of range
+    /// @since 1.1.0
+    public boolean isLeft(int index) {
+        return !isRight(index);
+    }
+
+    /// Returns whether the value at the given index is a right value.
+    ///
+    /// @param index index of the value
+    /// @return `true` if the value at `index` is a right value
+    /// @throws IndexOutOfBoundsException if `index` is out of range
+    /// @since 1.1.0
+    public boolean isRight(int index) {
+        return isRightTagged(rightTags, Objects.checkIndex(index, size));
+    }
+
+    /// Returns the value at the given index as a new [Either].
+    ///
+    /// @param index index of the value
+    /// @return an [Either] of the same branch as the value at `index`
+    /// @throws IndexOutOfBoundsException if `index` is out of range
+    /// @since 1.1.0
+    public Either<L, R> get(int index) {
+        return materialize(values, rightTags, Objects.checkIndex(index, size));
+    }
+
+    /// Replaces the value at the given index, keeping the branch of the given [Either].
+    ///
+    /// @param index  index of the value
+    /// @param either new value
+    /// @throws IndexOutOfBoundsException if `index` is out of range
+    /// @since 1.1.0
+    public void set(int index, Either<? extends L, ? extends R> either) {
+        Objects.checkIndex(index, size);
+        switch (either) {
+            case Either.Left(var value) -> {
+                values[index] = value;
+                rightTags[index >>> 6] &= ~(1L << index);
+            }
+            case Either.Right(var value) -> {
+                values[index] = value;
+                setRight(index);
+            }
+        }
+    }
+
+    /// Returns a [View] positioned at the given index.
+    ///
+    /// @param index index of the value
+    /// @return a view reading the value at `index` in place
+    /// @throws IndexOutOfBoundsException if `index` is out of range
+    /// @since 1.1.0
+    public View<L, R> view(int index) {
+        return new View<>(this, Objects.checkIndex(index, size));
+    }
+
+    /// Performs one of the given actions for each value in index order without materializing [Either] instances.
+    ///
+    /// @param left  action to perform on left values
+    /// @param right action to perform on right values
+    /// @since 1.1.0
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super L> left, Consumer<? super R> right) {
+        var values = this.values;
+        var tags = this.rightTags;
+        for (int index = 0, size = this.size; index < size; index++) {
+            if (isRightTagged(tags, index)) {
+                right.accept((R) values[index]);
+            } else {
+                left.accept((L) values[index]);
+            }
+        }
+    }
+
+    /// Removes all values from this array, keeping its capacity.
+    ///
+    /// @since 1.1.0
+    public void clear() {
+        Arrays.fill(values, 0, size, null);
+        Arrays.fill(rightTags, 0, words(size), 0L);
+        size = 0;
+    }
+
+    /// Returns a [Spliterator] over the values of this array.
+    ///
+    /// The spliterator is `ORDERED`, `SIZED`, `SUBSIZED` and `NONNULL`, and splits the remaining range in halves. It
+    /// covers the values present when it is created and reads the current backing arrays in place, so it sees later
+    /// [#set(int, Either)] calls only until an append grows the array, and must not be used after [#clear()].
+    ///
+    /// @return a spliterator materializing each element as an [Either]
+    /// @since 1.1.0
+    public Spliterator<Either<L, R>> spliterator() {
+        var values = this.values;
+        var tags = this.rightTags;
+        return new IndexedSpliterator<>(index -> materialize(values, tags, (int) index), 0, size);
+    }
+
+    /// Returns a sequential [Stream] over the values of this array.
+    ///
+    /// @return a stream of [Either] values in index order
+    /// @since 1.1.0
+    public Stream<Either<L, R>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /// Returns a parallel [Stream] over the values of this array.
+    ///
+    /// @return a parallel stream of [Either] values in index order
+    /// @since 1.1.0
+    public Stream<Either<L, R>> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    @Override
+    public String toString() {
+        var builder = new StringBuilder("[");
+        for (int index = 0; index < size; index++) {
+            if (index > 0) {
+                builder.append(", ");
+            }
+            builder.append(isRightTagged(rightTags, index) ? "Right[" : "Left[")
+                    .append(values[index])
+                    .append(']');
+        }
+        return builder.append(']').toString();
+    }
+
+    private void append(Object value, boolean right) {
+        if (size == values.length) {
+            ensureCapacity(size + 1);
+        }
+        values[size] = value;
+        if (right) {
+            setRight(size);
+        }
+        size++;
+    }
+
+    private void setRight(int index) {
+        rightTags[index >>> 6] |= 1L << index;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required array length is too large");
+        }
+        if (minCapacity <= values.length) {
+            return;
+        }
+        int capacity = Math.max(minCapacity, values.length + (values.length >> 1));
+        if (capacity < 0) {
+            capacity = minCapacity;
+        }
+        values = Arrays.copyOf(values, capacity);
+        rightTags = Arrays.copyOf(rightTags, words(capacity));
+    }
+
+    private static boolean isRightTagged(long[] tags, int index) {
+        return (tags[index >>> 6] & (1L << index)) != 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <L, R> Either<L, R> materialize(Object[] values, long[] tags, int index) {
+        var value = values[index];
+        return isRightTagged(tags, index) ? Either.right((R) value) : Either.left((L) value);
+    }
+
+    private static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    /// A reusable cursor reading one value of an [EitherArray] in place.
+    ///
+    /// A view does not copy values; it reflects the current contents of the array at its index. One view can be
+    /// moved over the whole array with [#moveTo(int)] to read all values without allocating.
+    ///
+    /// @param <L> type of the left value
+    /// @param <R> type of the right value
+    /// @since 1.1.0
+    public static final class View<L, R> {
+        private final EitherArray<L, R> array;
+        private int index;
+
+        private View(EitherArray<L, R> array, int index) {
+            this.array = array;
+            this.index = index;
+        }
+
+        /// Returns the index this view is positioned at.
+        ///
+        /// @return current index
+        /// @since 1.1.0
+        public int index() {
+            return index;
+        }
+
+        /// Positions this view at another index.
+        ///
+        /// @param index new index
+        /// @return this view
+        /// @throws IndexOutOfBoundsException if `index` is out of range
+        /// @since 1.1.0
+        public View<L, R> moveTo(int index) {
+            this.index = Objects.checkIndex(index, array.size);
+            return this;
+        }
+
+        /// Returns whether the value at the current index is a left value.
+        ///
+        /// @return `true` for a left value
+        /// @since 1.1.0
+        public boolean isLeft() {
+            return array.isLeft(index);
+        }
+
+        /// Returns whether the value at the current index is a right value.
+        ///
+        /// @return `true` for a right value
+        /// @since 1.1.0
+        public boolean isRight() {
+            return array.isRight(index);
+        }
+
+        /// Returns the left value at the current index.
+        ///
+        /// @return left value
+        /// @throws NoSuchElementException if the value at the current index is a right value
+        /// @since 1.1.0
+        @SuppressWarnings("unchecked")
+        public L leftValue() {
+            if (isRight()) {
+                throw new NoSuchElementException("Right value at index " + index);
+            }
+            return (L) array.values[index];
+        }
+
+        /// Returns the right value at the current index.
+        ///
+        /// @return right value
+        /// @throws NoSuchElementException if the value at the current index is a left value
+        /// @since 1.1.0
+        @SuppressWarnings("unchecked")
+        public R rightValue() {
+            if (isLeft()) {
+                throw new NoSuchElementException("Left value at index " + index);
+            }
+            return (R) array.values[index];
+        }
+
+        /// Applies one of two functions to the value at the current index, depending on its branch.
+        ///
+        /// @param left  function applied to a left value
+        /// @param right function applied to a right value
+        /// @param <T>   result type
+        /// @return the result of the applied function
+        /// @since 1.1.0
+        @SuppressWarnings("unchecked")
+        public <T> T fold(Function<? super L, ? extends T> left, Function<? super R, ? extends T> right) {
+            var value = array.values[index];
+            return isRight() ? right.apply((R) value) : left.apply((L) value);
+        }
+
+        /// Materializes the value at the current index.
+        ///
+        /// @return a new [Either]
+        /// @since 1.1.0
+        public Either<L, R> toEither() {
+            return array.get(index);
+        }
+
+        @Override
+        public String toString() {
+            return toEither().toString();
+        }
+    }
+}
@@ -1,7 +1,28 @@
 package me.supcheg.routine;
 
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.DoubleSummaryStatistics;
 import java.util.EnumSet;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collector;
 import java.util.stream.Collector.Characteristics;
 
@@ -50,24 +71,908 @@ public final class EitherCollectors {
     public static <L, R, LA, RA, LR, RR> Collector<Either<L, R>, ?, Pair<LR, RR>> groupingTo(
             Collector<? super L, LA, ? extends LR> leftDownstream,
             Collector<? super R, RA, ? extends RR> rightDownstream) {
+        return InstrumentedCollector.instrument(
+                "groupingTo",
+                new GroupingCollector<>(leftDownstream, rightDownstream));
+    }
+
+    /// Collects a stream of [Either] into a [Pair] like [#groupingTo(Collector, Collector)], accumulating all threads
+    /// of a parallel stream into shared containers instead of one container per split.
+    ///
+    /// The returned collector is `CONCURRENT` and `UNORDERED`, so a parallel stream accumulates into a single result
+    /// container and skips the tree of combine steps. Each side is accumulated according to its downstream collector:
+    ///
+    /// - a `CONCURRENT` downstream, such as [java.util.stream.Collectors#toConcurrentMap(Function, Function)], gets a
+    ///   single container that all threads accumulate into;
+    /// - any other downstream gets a fixed number of stripes, each holding a lazily created container behind its own
+    ///   lock. A thread accumulates into the stripe selected by its identity and moves to another stripe when that
+    ///   one is busy. The stripes are combined once, when the result is finished.
+    ///
+    /// ```java
+    /// Pair<Long, Set<String>> result = events.parallelStream()
+    ///     .map(Validator::validate)
+    ///     .collect(EitherCollectors.groupingToConcurrent(Collectors.counting(), Collectors.toSet()));
+    /// ```
+    ///
+    /// Because the collector is `UNORDERED`, values reach downstream collectors in no particular order, even from an
+    /// ordered stream. Downstream collectors that depend on encounter order should use
+    /// [#groupingTo(Collector, Collector)] instead.
+    ///
+    /// @param leftDownstream  collector to accumulate left values
+    /// @param rightDownstream collector to accumulate right values
+    /// @param <L>             type of left values
+    /// @param <R>             type of right values
+    /// @param <LA>            intermediate accumulation type of the left collector
+    /// @param <RA>            intermediate accumulation type of the right collector
+    /// @param <LR>            final type for left values
+    /// @param <RR>            final type for right values
+    /// @return a concurrent, unordered [Collector] producing a [Pair] of the left and right results
+    /// @since 1.1.0
+    public static <L, R, LA, RA, LR, RR> Collector<Either<L, R>, ?, Pair<LR, RR>> groupingToConcurrent(
+            Collector<? super L, LA, ? extends LR> leftDownstream,
+            Collector<? super R, RA, ? extends RR> rightDownstream) {
+        int stripes = StripedContainer.stripeCount();
+        var leftFinisher = leftDownstream.finisher();
+        var rightFinisher = rightDownstream.finisher();
+        return InstrumentedCollector.instrument(
+                "groupingToConcurrent",
+                Collector.of(
+                        () -> new ConcurrentPartition<L, R, LA, RA>(
+                                new StripedContainer<>(leftDownstream, stripes),
+                                new StripedContainer<>(rightDownstream, stripes)),
+                        ConcurrentPartition::accumulate,
+                        ConcurrentPartition::combine,
+                        (ConcurrentPartition<L, R, LA, RA> partition) -> pair(
+                                leftFinisher.apply(partition.lefts.combined()),
+                                rightFinisher.apply(partition.rights.combined())),
+                        Characteristics.CONCURRENT,
+                        Characteristics.UNORDERED));
+    }
+
+    /// Defines what happens to right values once a bounded collector has seen more left values than it retains.
+    ///
+    /// @see #accumulating(int, RightsOnOverflow, Collector)
+    /// @since 1.1.0
+    public enum RightsOnOverflow {
+        /// Right values keep being collected regardless of the number of left values.
+        ///
+        /// @since 1.1.0
+        KEEP,
+
+        /// Right values are discarded once the left values overflow, and the right result is the result of the right
+        /// downstream collector for no elements. Right values already accumulated by a split are released as soon as
+        /// that split, or a combination of splits, overflows.
+        ///
+        /// @since 1.1.0
+        DISCARD
+    }
+
+    /// Collects a stream of [Either] into a [Pair] of at most `maxLefts` left values and the result of a downstream
+    /// collector applied to all right values.
+    ///
+    /// Equivalent to [#accumulating(int, RightsOnOverflow, Collector)] with [RightsOnOverflow#KEEP].
+    ///
+    /// @param maxLefts        maximum number of left values to retain
+    /// @param rightDownstream collector to accumulate right values
+    /// @param <L>             type of left values
+    /// @param <R>             type of right values
+    /// @param <RA>            intermediate accumulation type of the right collector
+    /// @param <RR>            final type for right values
+    /// @return a [Collector] producing a [Pair] of the first left values with their total count, and the right result
+    /// @throws IllegalArgumentException if `maxLefts` is negative
+    /// @since 1.1.0
+    public static <L, R, RA, RR> Collector<Either<L, R>, ?, Pair<CappedList<L>, RR>> accumulating(
+            int maxLefts, Collector<? super R, RA, ? extends RR> rightDownstream) {
+        return accumulating(maxLefts, RightsOnOverflow.KEEP, rightDownstream);
+    }
+
+    /// Collects a stream of [Either] into a [Pair] of at most `maxLefts` left values and the result of a downstream
+    /// collector applied to right values.
+    ///
+    /// Left values are retained in encounter order up to `maxLefts`; further left values are only counted, so memory
+    /// used for left values is bounded no matter how many of them the stream contains. Parallel splits are combined
+    /// in encounter order, so the retained values are always the first `maxLefts` left values of the stream.
+    ///
+    /// ```java
+    /// Pair<CappedList<String>, List<Integer>> result = Stream.of(
+    ///     Either.<String, Integer>left("a"),
+    ///     Either.<String, Integer>right(1),
+    ///     Either.<String, Integer>left("b"),
+    ///     Either.<String, Integer>left("c")
+    /// ).collect(EitherCollectors.accumulating(2, RightsOnOverflow.DISCARD, Collectors.toList()));
+    /// // result.left().values() -> ["a", "b"]
+    /// // result.left().total() -> 3
+    /// // result.right() -> []
+    /// ```
+    ///
+    /// @param maxLefts        maximum number of left values to retain
+    /// @param onOverflow      what to do with right values once there are more than `maxLefts` left values
+    /// @param rightDownstream collector to accumulate right values
+    /// @param <L>             type of left values
+    /// @param <R>             type of right values
+    /// @param <RA>            intermediate accumulation type of the right collector
+    /// @param <RR>            final type for right values
+    /// @return a [Collector] producing a [Pair] of the first left values with their total count, and the right result
+    /// @throws IllegalArgumentException if `maxLefts` is negative
+    /// @since 1.1.0
+    public static <L, R, RA, RR> Collector<Either<L, R>, ?, Pair<CappedList<L>, RR>> accumulating(
+            int maxLefts, RightsOnOverflow onOverflow, Collector<? super R, RA, ? extends RR> rightDownstream) {
+        if (maxLefts < 0) {
+            throw new IllegalArgumentException("maxLefts must not be negative: " + maxLefts);
+        }
+        boolean discard = Objects.requireNonNull(onOverflow, "onOverflow") == RightsOnOverflow.DISCARD;
+        var rightSupplier = rightDownstream.supplier();
+        var rightAccumulator = rightDownstream.accumulator();
+        var rightCombiner = rightDownstream.combiner();
+        var rightFinisher = rightDownstream.finisher();
+        return InstrumentedCollector.instrument(
+                "accumulating",
+                Collector.of(
+                        () -> new CappedPartition<L, RA>(maxLefts, rightSupplier.get()),
+                        (CappedPartition<L, RA> partition, Either<L, R> either) -> {
+                            switch (either) {
+                                case Either.Left(var value) -> partition.addLeft(value, discard);
+                                case Either.Right(var value) -> {
+                                    if (partition.rights != null) {
+                                        rightAccumulator.accept(partition.rights, value);
+                                    }
+                                }
+                            }
+                        },
+                        (CappedPartition<L, RA> left, CappedPartition<L, RA> right) -> {
+                            left.combineLefts(right);
+                            if (discard && left.overflowed()) {
+                                left.rights = null;
+                            } else if (left.rights != null && right.rights != null) {
+                                left.rights = rightCombiner.apply(left.rights, right.rights);
+                            }
+                            return left;
+                        },
+                        (CappedPartition<L, RA> partition) -> pair(
+                                new CappedList<>(partition.lefts, partition.total),
+                                rightFinisher.apply(
+                                        partition.rights != null ? partition.rights : rightSupplier.get()))));
+    }
+
+    /// Collects a stream of [Either] into a [Pair] of [Spill], writing elements that exceed a memory budget to
+    /// temporary files in the default temporary-file directory.
+    ///
+    /// Equivalent to [#groupingToSpill(long, Codec, Codec, Path)] with the directory named by the `java.io.tmpdir`
+    /// system property.
+    ///
+    /// @param memoryBudget encoded size in bytes of the elements retained in memory before spilling
+    /// @param leftCodec    codec writing left values to the spill file
+    /// @param rightCodec   codec writing right values to the spill file
+    /// @param <L>          type of left values
+    /// @param <R>          type of right values
+    /// @return a [Collector] producing a [Pair] of the left and right [Spill]
+    /// @throws IllegalArgumentException if `memoryBudget` is negative
+    /// @since 1.1.0
+    public static <L, R> Collector<Either<L, R>, ?, Pair<Spill<L>, Spill<R>>> groupingToSpill(
+            long memoryBudget, Codec<L> leftCodec, Codec<R> rightCodec) {
+        return groupingToSpill(memoryBudget, leftCodec, rightCodec, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    /// Collects a stream of [Either] into a [Pair] of [Spill], writing elements that exceed a memory budget to
+    /// temporary files.
+    ///
+    /// Left and right values are retained in memory in encounter order while their combined encoded size, as
+    /// reported by the codecs, stays within `memoryBudget`. Once it is exceeded, the retained values of the larger
+    /// side, and of the other side too if that is not enough, are appended to a temporary file of that side and
+    /// released. The resulting spills read their file back sequentially followed by the values still in memory, so
+    /// both keep the encounter order of the stream.
+    ///
+    /// ```java
+    /// Pair<Spill<String>, Spill<Long>> result = records.stream()
+    ///     .map(Reconciler::check)
+    ///     .collect(EitherCollectors.groupingToSpill(256 << 20, Codecs.utf8(), Codecs.longs(), workDirectory));
+    /// try (var mismatches = result.left(); var matched = result.right()) {
+    ///     mismatches.forEach(report::add);
+    /// }
+    /// ```
+    ///
+    /// The budget applies to each container separately, so a parallel stream may retain up to one budget per split
+    /// in flight. Splits are combined by appending their files, without decoding them. Both spills must be closed to
+    /// delete their files. If the collection itself fails, the files created so far may remain in `directory`.
+    ///
+    /// @param memoryBudget encoded size in bytes of the elements retained in memory before spilling
+    /// @param leftCodec    codec writing left values to the spill file
+    /// @param rightCodec   codec writing right values to the spill file
+    /// @param directory    directory of the temporary files
+    /// @param <L>          type of left values
+    /// @param <R>          type of right values
+    /// @return a [Collector] producing a [Pair] of the left and right [Spill]
+    /// @throws IllegalArgumentException if `memoryBudget` is negative
+    /// @see Codecs
+    /// @since 1.1.0
+    public static <L, R> Collector<Either<L, R>, ?, Pair<Spill<L>, Spill<R>>> groupingToSpill(
+            long memoryBudget, Codec<L> leftCodec, Codec<R> rightCodec, Path directory) {
+        if (memoryBudget < 0) {
+            throw new IllegalArgumentException("memoryBudget must not be negative: " + memoryBudget);
+        }
+        Objects.requireNonNull(leftCodec, "leftCodec");
+        Objects.requireNonNull(rightCodec, "rightCodec");
+        Objects.requireNonNull(directory, "directory");
+        return InstrumentedCollector.instrument(
+                "groupingToSpill",
+                Collector.of(
+                        () -> new SpillingPartition<>(
+                                memoryBudget,
+                                new SpillBuffer<>(leftCodec, directory),
+                                new SpillBuffer<>(rightCodec, directory)),
+                        SpillingPartition::add,
+                        SpillingPartition::combine,
+                        SpillingPartition::finish));
+    }
+
+    /// Counts left and right values without boxing.
+    ///
+    /// Equivalent to `groupingTo(Collectors.counting(), Collectors.counting())`, but accumulates into two `long`
+    /// fields and merges parallel splits by adding them.
+    ///
+    /// ```java
+    /// EitherCounts counts = outcomes.stream().collect(EitherCollectors.counting());
+    /// // counts.lefts() -> failed outcomes, counts.rights() -> successful ones
+    /// ```
+    ///
+    /// @param <L> type of left values
+    /// @param <R> type of right values
+    /// @return a [Collector] producing [EitherCounts]
+    /// @see #countingConcurrent()
+    /// @since 1.1.0
+    public static <L, R> Collector<Either<L, R>, ?, EitherCounts> counting() {
+        return InstrumentedCollector.instrument(
+                "counting",
+                Collector.of(
+                        () -> new long[2],
+                        (long[] counts, Either<L, R> either) -> counts[either instanceof Either.Left ? 0 : 1]++,
+                        (long[] left, long[] right) -> {
+                            left[0] += right[0];
+                            left[1] += right[1];
+                            return left;
+                        },
+                        (long[] counts) -> new EitherCounts(counts[0], counts[1]),
+                        Characteristics.UNORDERED));
+    }
+
+    /// Counts left and right values into two [LongAdder]s shared by all threads.
+    ///
+    /// The collector is `CONCURRENT` and `UNORDERED`, so a parallel stream accumulates into one container without
+    /// any combine step, and threads incrementing at the same time are spread over the cells of the adders.
+    ///
+    /// @param <L> type of left values
+    /// @param <R> type of right values
+    /// @return a concurrent [Collector] producing [EitherCounts]
+    /// @see #counting()
+    /// @since 1.1.0
+    public static <L, R> Collector<Either<L, R>, ?, EitherCounts> countingConcurrent() {
+        return InstrumentedCollector.instrument(
+                "countingConcurrent",
+                Collector.of(
+                        () -> new LongAdder[] {new LongAdder(), new LongAdder()},
+                        (LongAdder[] counts, Either<L, R> either) ->
+                                counts[either instanceof Either.Left ? 0 : 1].increment(),
+                        (LongAdder[] left, LongAdder[] right) -> {
+                            left[0].add(right[0].sum());
+                            left[1].add(right[1].sum());
+                            return left;
+                        },
+                        (LongAdder[] counts) -> new EitherCounts(counts[0].sum(), counts[1].sum()),
+                        Characteristics.CONCURRENT,
+                        Characteristics.UNORDERED));
+    }
+
+    /// Summarizes `long` keys extracted from left and right values without boxing.
+    ///
+    /// Equivalent to `groupingTo(Collectors.summarizingLong(left), Collectors.summarizingLong(right))`. The counts of
+    /// left and right values are available as [LongSummaryStatistics#getCount()].
+    ///
+    /// ```java
+    /// Pair<LongSummaryStatistics, LongSummaryStatistics> latencies = calls.stream()
+    ///     .collect(EitherCollectors.summarizingLong(Failure::latencyMillis, Response::latencyMillis));
+    /// ```
+    ///
+    /// @param left  function extracting the key of a left value
+    /// @param right function extracting the key of a right value
+    /// @param <L>   type of left values
+    /// @param <R>   type of right values
+    /// @return a [Collector] producing a [Pair] of the left and right statistics
+    /// @see #summarizingLongConcurrent(ToLongFunction, ToLongFunction)
+    /// @since 1.1.0
+    public static <L, R> Collector<Either<L, R>, ?, Pair<LongSummaryStatistics, LongSummaryStatistics>> summarizingLong(
+            ToLongFunction<? super L> left, ToLongFunction<? super R> right) {
+        Objects.requireNonNull(left, "left");
+        Objects.requireNonNull(right, "right");
+        return InstrumentedCollector.instrument(
+                "summarizingLong",
+                Collector.of(
+                        () -> new LongSummaryStatistics[] {new LongSummaryStatistics(), new LongSummaryStatistics()},
+                        (LongSummaryStatistics[] statistics, Either<L, R> either) -> {
+                            switch (either) {
+                                case Either.Left(var value) -> statistics[0].accept(left.applyAsLong(value));
+                                case Either.Right(var value) -> statistics[1].accept(right.applyAsLong(value));
+                            }
+                        },
+                        (LongSummaryStatistics[] first, LongSummaryStatistics[] second) -> {
+                            first[0].combine(second[0]);
+                            first[1].combine(second[1]);
+                            return first;
+                        },
+                        (LongSummaryStatistics[] statistics) -> pair(statistics[0], statistics[1]),
+                        Characteristics.UNORDERED));
+    }
+
+    /// Summarizes `long` keys extracted from left and right values into striped accumulators shared by all threads.
+    ///
+    /// The collector is `CONCURRENT` and `UNORDERED`. Count and sum of each side are kept in [LongAdder]s and the
+    /// extremes in [LongAccumulator]s, so concurrent updates are spread over cells instead of contending on one
+    /// field. The statistics are assembled once, when the result is finished.
+    ///
+    /// @param left  function extracting the key of a left value
+    /// @param right function extracting the key of a right value
+    /// @param <L>   type of left values
+    /// @param <R>   type of right values
+    /// @return a concurrent [Collector] producing a [Pair] of the left and right statistics
+    /// @see #summarizingLong(ToLongFunction, ToLongFunction)
+    /// @since 1.1.0
+    public static <L, R>
+            Collector<Either<L, R>, ?, Pair<LongSummaryStatistics, LongSummaryStatistics>> summarizingLongConcurrent(
+                    ToLongFunction<? super L> left, ToLongFunction<? super R> right) {
+        Objects.requireNonNull(left, "left");
+        Objects.requireNonNull(right, "right");
+        return InstrumentedCollector.instrument(
+                "summarizingLongConcurrent",
+                Collector.of(
+                        () -> new ConcurrentSummary[] {new ConcurrentSummary(), new ConcurrentSummary()},
+                        (ConcurrentSummary[] summaries, Either<L, R> either) -> {
+                            switch (either) {
+                                case Either.Left(var value) -> summaries[0].accept(left.applyAsLong(value));
+                                case Either.Right(var value) -> summaries[1].accept(right.applyAsLong(value));
+                            }
+                        },
+                        (ConcurrentSummary[] first, ConcurrentSummary[] second) -> {
+                            first[0].combine(second[0]);
+                            first[1].combine(second[1]);
+                            return first;
+                        },
+                        (ConcurrentSummary[] summaries) ->
+                                pair(summaries[0].toStatistics(), summaries[1].toStatistics()),
+                        Characteristics.CONCURRENT,
+                        Characteristics.UNORDERED));
+    }
+
+    /// Collects a stream of [IntEither] into a [Pair], applying a downstream collector to left values and an unboxed
+    /// mutable reduction to right values.
+    ///
+    /// The right side mirrors `IntStream.collect(Supplier, ObjIntConsumer, BiConsumer)`, so right values are
+    /// accumulated without boxing.
+    ///
+    /// @param leftDownstream   collector to accumulate left values
+    /// @param rightSupplier    supplier of the mutable container for right values
+    /// @param rightAccumulator function folding a right value into the container
+    /// @param rightCombiner    function merging the second container into the first one
+    /// @param <L>              type of left values
+    /// @param <LA>             intermediate accumulation type of the left collector
+    /// @param <LR>             final type for left values
+    /// @param <RA>             type of the right container
+    /// @return a [Collector] producing a [Pair] of the left result and the right container
+    ///
+    /// ```java
+    /// Stream<IntEither<String>> stream = Stream.of(
+    ///     IntEither.right(1),
+    ///     IntEither.left("a"),
+    ///     IntEither.right(2)
+    /// );
+    ///
+    /// Pair<List<String>, IntSummaryStatistics> result = stream.collect(
+    ///     EitherCollectors.groupingToInt(
+    ///         Collectors.toList(),
+    ///         IntSummaryStatistics::new,
+    ///         IntSummaryStatistics::accept,
+    ///         IntSummaryStatistics::combine
+    ///     )
+    /// );
+    /// // result.left() -> ["a"]
+    /// // result.right().getSum() -> 3
+    /// ```
+    /// @since 1.1.0
+    public static <L, LA, LR, RA> Collector<IntEither<L>, ?, Pair<LR, RA>> groupingToInt(
+            Collector<? super L, LA, ? extends LR> leftDownstream,
+            Supplier<RA> rightSupplier,
+            ObjIntConsumer<RA> rightAccumulator,
+            BiConsumer<RA, RA> rightCombiner) {
+        var leftSupplier = leftDownstream.supplier();
+        var leftAccumulator = leftDownstream.accumulator();
+        var leftCombiner = leftDownstream.combiner();
+        var leftFinisher = leftDownstream.finisher();
+        return Collector.of(
+                () -> pair(leftSupplier.get(), rightSupplier.get()),
+                (Pair<LA, RA> container, IntEither<L> either) -> {
+                    switch (either) {
+                        case IntEither.Left(var value) -> leftAccumulator.accept(container.left(), value);
+                        case IntEither.Right(var value) -> rightAccumulator.accept(container.right(), value);
+                    }
+                },
+                (Pair<LA, RA> left, Pair<LA, RA> right) -> {
+                    var combinedLeft = leftCombiner.apply(left.left(), right.left());
+                    rightCombiner.accept(left.right(), right.right());
+                    return combinedLeft == left.left() ? left : pair(combinedLeft, left.right());
+                },
+                (Pair<LA, RA> container) -> pair(leftFinisher.apply(container.left()), container.right()),
+                identityFinishOf(leftDownstream));
+    }
+
+    /// Collects a stream of [IntEither] into a [Pair] of the left result and [IntSummaryStatistics] of right values.
+    ///
+    /// @param leftDownstream collector to accumulate left values
+    /// @param <L>            type of left values
+    /// @param <LA>           intermediate accumulation type of the left collector
+    /// @param <LR>           final type for left values
+    /// @return a [Collector] producing a [Pair] of the left result and the statistics of right values
+    /// @see #groupingToInt(Collector, Supplier, ObjIntConsumer, BiConsumer)
+    /// @since 1.1.0
+    public static <L, LA, LR> Collector<IntEither<L>, ?, Pair<LR, IntSummaryStatistics>> groupingToIntSummary(
+            Collector<? super L, LA, ? extends LR> leftDownstream) {
+        return groupingToInt(
+                leftDownstream,
+                IntSummaryStatistics::new,
+                IntSummaryStatistics::accept,
+                IntSummaryStatistics::combine);
+    }
+
+    /// Collects a stream of [LongEither] into a [Pair], applying a downstream collector to left values and an unboxed
+    /// mutable reduction to right values.
+    ///
+    /// The right side mirrors `LongStream.collect(Supplier, ObjLongConsumer, BiConsumer)`, so right values are
+    /// accumulated without boxing.
+    ///
+    /// @param leftDownstream   collector to accumulate left values
+    /// @param rightSupplier    supplier of the mutable container for right values
+    /// @param rightAccumulator function folding a right value into the container
+    /// @param rightCombiner    function merging the second container into the first one
+    /// @param <L>              type of left values
+    /// @param <LA>             intermediate accumulation type of the left collector
+    /// @param <LR>             final type for left values
+    /// @param <RA>             type of the right container
+    /// @return a [Collector] producing a [Pair] of the left result and the right container
+    ///
+    /// ```java
+    /// Stream<LongEither<String>> stream = Stream.of(
+    ///     LongEither.right(1),
+    ///     LongEither.left("a"),
+    ///     LongEither.right(2)
+    /// );
+    ///
+    /// Pair<List<String>, LongSummaryStatistics> result = stream.collect(
+    ///     EitherCollectors.groupingToLong(
+    ///         Collectors.toList(),
+    ///         LongSummaryStatistics::new,
+    ///         LongSummaryStatistics::accept,
+    ///         LongSummaryStatistics::combine
+    ///     )
+    /// );
+    /// // result.left() -> ["a"]
+    /// // result.right().getSum() -> 3
+    /// ```
+    /// @since 1.1.0
+    public static <L, LA, LR, RA> Collector<LongEither<L>, ?, Pair<LR, RA>> groupingToLong(
+            Collector<? super L, LA, ? extends LR> leftDownstream,
+            Supplier<RA> rightSupplier,
+            ObjLongConsumer<RA> rightAccumulator,
+            BiConsumer<RA, RA> rightCombiner) {
+        var leftSupplier = leftDownstream.supplier();
+        var leftAccumulator = leftDownstream.accumulator();
+        var leftCombiner = leftDownstream.combiner();
+        var leftFinisher = leftDownstream.finisher();
+        return Collector.of(
+                () -> pair(leftSupplier.get(), rightSupplier.get()),
+                (Pair<LA, RA> container, LongEither<L> either) -> {
+                    switch (either) {
+                        case LongEither.Left(var value) -> leftAccumulator.accept(container.left(), value);
+                        case LongEither.Right(var value) -> rightAccumulator.accept(container.right(), value);
+                    }
+                },
+                (Pair<LA, RA> left, Pair<LA, RA> right) -> {
+                    var combinedLeft = leftCombiner.apply(left.left(), right.left());
+                    rightCombiner.accept(left.right(), right.right());
+                    return combinedLeft == left.left() ? left : pair(combinedLeft, left.right());
+                },
+                (Pair<LA, RA> container) -> pair(leftFinisher.apply(container.left()), container.right()),
+                identityFinishOf(leftDownstream));
+    }
+
+    /// Collects a stream of [LongEither] into a [Pair] of the left result and [LongSummaryStatistics] of right values.
+    ///
+    /// @param leftDownstream collector to accumulate left values
+    /// @param <L>            type of left values
+    /// @param <LA>           intermediate accumulation type of the left collector
+    /// @param <LR>           final type for left values
+    /// @return a [Collector] producing a [Pair] of the left result and the statistics of right values
+    /// @see #groupingToLong(Collector, Supplier, ObjLongConsumer, BiConsumer)
+    /// @since 1.1.0
+    public static <L, LA, LR> Collector<LongEither<L>, ?, Pair<LR, LongSummaryStatistics>> groupingToLongSummary(
+            Collector<? super L, LA, ? extends LR> leftDownstream) {
+        return groupingToLong(
+                leftDownstream,
+                LongSummaryStatistics::new,
+                LongSummaryStatistics::accept,
+                LongSummaryStatistics::combine);
+    }
+
+    /// Collects a stream of [DoubleEither] into a [Pair], applying a downstream collector to left values and an unboxed
+    /// mutable reduction to right values.
+    ///
+    /// The right side mirrors `DoubleStream.collect(Supplier, ObjDoubleConsumer, BiConsumer)`, so right values are
+    /// accumulated without boxing.
+    ///
+    /// @param leftDownstream   collector to accumulate left values
+    /// @param rightSupplier    supplier of the mutable container for right values
+    /// @param rightAccumulator function folding a right value into the container
+    /// @param rightCombiner    function merging the second container into the first one
+    /// @param <L>              type of left values
+    /// @param <LA>             intermediate accumulation type of the left collector
+    /// @param <LR>             final type for left values
+    /// @param <RA>             type of the right container
+    /// @return a [Collector] producing a [Pair] of the left result and the right container
+    ///
+    /// ```java
+    /// Stream<DoubleEither<String>> stream = Stream.of(
+    ///     DoubleEither.right(1),
+    ///     DoubleEither.left("a"),
+    ///     DoubleEither.right(2)
+    /// );
+    ///
+    /// Pair<List<String>, DoubleSummaryStatistics> result = stream.collect(
+    ///     EitherCollectors.groupingToDouble(
+    ///         Collectors.toList(),
+    ///         DoubleSummaryStatistics::new,
+    ///         DoubleSummaryStatistics::accept,
+    ///         DoubleSummaryStatistics::combine
+    ///     )
+    /// );
+    /// // result.left() -> ["a"]
+    /// // result.right().getSum() -> 3
+    /// ```
+    /// @since 1.1.0
+    public static <L, LA, LR, RA> Collector<DoubleEither<L>, ?, Pair<LR, RA>> groupingToDouble(
+            Collector<? super L, LA, ? extends LR> leftDownstream,
+            Supplier<RA> rightSupplier,
+            ObjDoubleConsumer<RA> rightAccumulator,
+            BiConsumer<RA, RA> rightCombiner) {
+        var leftSupplier = leftDownstream.supplier();
+        var leftAccumulator = leftDownstream.accumulator();
+        var leftCombiner = leftDownstream.combiner();
+        var leftFinisher = leftDownstream.finisher();
         return Collector.of(
-                () -> pair(
-                        leftDownstream.supplier().get(),
-                        rightDownstream.supplier().get()),
-                (Pair<LA, RA> pair, Either<L, R> either) -> either.accept(
-                        value -> leftDownstream.accumulator().accept(pair.left(), value),
-                        value -> rightDownstream.accumulator().accept(pair.right(), value)),
-                (Pair<LA, RA> left, Pair<LA, RA> right) -> left.map(
-                        value -> leftDownstream.combiner().apply(value, right.left()),
-                        value -> rightDownstream.combiner().apply(value, right.right())),
-                (Pair<LA, RA> pair) -> pair.map(leftDownstream.finisher(), rightDownstream.finisher()),
-                intersection(leftDownstream.characteristics(), rightDownstream.characteristics()));
-    }
-
-    private static Characteristics[] intersection(Set<Characteristics> left, Set<Characteristics> right) {
+                () -> pair(leftSupplier.get(), rightSupplier.get()),
+                (Pair<LA, RA> container, DoubleEither<L> either) -> {
+                    switch (either) {
+                        case DoubleEither.Left(var value) -> leftAccumulator.accept(container.left(), value);
+                        case DoubleEither.Right(var value) -> rightAccumulator.accept(container.right(), value);
+                    }
+                },
+                (Pair<LA, RA> left, Pair<LA, RA> right) -> {
+                    var combinedLeft = leftCombiner.apply(left.left(), right.left());
+                    rightCombiner.accept(left.right(), right.right());
+                    return combinedLeft == left.left() ? left : pair(combinedLeft, left.right());
+                },
+                (Pair<LA, RA> container) -> pair(leftFinisher.apply(container.left()), container.right()),
+                identityFinishOf(leftDownstream));
+    }
+
+    /// Collects a stream of [DoubleEither] into a [Pair] of the left result and [DoubleSummaryStatistics] of right
+    /// values.
+    ///
+    /// @param leftDownstream collector to accumulate left values
+    /// @param <L>            type of left values
+    /// @param <LA>           intermediate accumulation type of the left collector
+    /// @param <LR>           final type for left values
+    /// @return a [Collector] producing a [Pair] of the left result and the statistics of right values
+    /// @see #groupingToDouble(Collector, Supplier, ObjDoubleConsumer, BiConsumer)
+    /// @since 1.1.0
+    public static <L, LA, LR> Collector<DoubleEither<L>, ?, Pair<LR, DoubleSummaryStatistics>> groupingToDoubleSummary(
+            Collector<? super L, LA, ? extends LR> leftDownstream) {
+        return groupingToDouble(
+                leftDownstream,
+                DoubleSummaryStatistics::new,
+                DoubleSummaryStatistics::accept,
+                DoubleSummaryStatistics::combine);
+    }
+
+    private static final class CappedPartition<L, RA> {
+        private final int maxLefts;
+        private final ArrayList<L> lefts;
+        private long total;
+        private @Nullable RA rights;
+
+        private CappedPartition(int maxLefts, RA rights) {
+            this.maxLefts = maxLefts;
+            this.lefts = new ArrayList<>(Math.min(maxLefts, 16));
+            this.rights = rights;
+        }
+
+        private void addLeft(L value, boolean discardRights) {
+            total++;
+            if (lefts.size() < maxLefts) {
+                lefts.add(value);
+            } else if (discardRights) {
+                rights = null;
+            }
+        }
+
+        private void combineLefts(CappedPartition<L, RA> next) {
+            total += next.total;
+            int free = maxLefts - lefts.size();
+            if (free > 0) {
+                lefts.addAll(next.lefts.subList(0, Math.min(free, next.lefts.size())));
+            }
+        }
+
+        private boolean overflowed() {
+            return total > maxLefts;
+        }
+    }
+
+    private record ConcurrentPartition<L, R, LA, RA>(
+            StripedContainer<? super L, LA> lefts, StripedContainer<? super R, RA> rights) {
+
+        private void accumulate(Either<L, R> either) {
+            switch (either) {
+                case Either.Left(var value) -> lefts.accumulate(value);
+                case Either.Right(var value) -> rights.accumulate(value);
+            }
+        }
+
+        private ConcurrentPartition<L, R, LA, RA> combine(ConcurrentPartition<L, R, LA, RA> next) {
+            lefts.absorb(next.lefts.combined());
+            rights.absorb(next.rights.combined());
+            return this;
+        }
+    }
+
+    // Containers of one downstream collector shared by all accumulating threads: the single container of a CONCURRENT
+    // downstream, or stripes of containers each claimed by one thread at a time. A thread starts at the stripe picked
+    // by its id and probes the next ones while they are busy, so uncontended accumulation costs one CAS and one
+    // release store. Stripe containers are created on first use.
+    private static final class StripedContainer<T, A> {
+        private final Supplier<A> supplier;
+        private final BiConsumer<A, ? super T> accumulator;
+        private final BinaryOperator<A> combiner;
+        private @Nullable A shared;
+        private final List<Stripe<A>> stripes;
+        private final int mask;
+
+        private StripedContainer(Collector<? super T, A, ?> downstream, int stripeCount) {
+            this.supplier = downstream.supplier();
+            this.accumulator = downstream.accumulator();
+            this.combiner = downstream.combiner();
+            if (downstream.characteristics().contains(Characteristics.CONCURRENT)) {
+                this.shared = supplier.get();
+                this.stripes = List.of();
+                this.mask = 0;
+            } else {
+                var stripes = new ArrayList<Stripe<A>>(stripeCount);
+                for (int i = 0; i < stripeCount; i++) {
+                    stripes.add(new Stripe<>());
+                }
+                this.stripes = List.copyOf(stripes);
+                this.mask = stripeCount - 1;
+            }
+        }
+
+        private static int stripeCount() {
+            int processors = Runtime.getRuntime().availableProcessors();
+            return processors <= 1 ? 1 : Integer.highestOneBit(processors - 1) << 1;
+        }
+
+        private void accumulate(T value) {
+            var shared = this.shared;
+            if (shared != null) {
+                accumulator.accept(shared, value);
+                return;
+            }
+            var stripe = claim((int) ((Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L) >>> 32));
+            try {
+                var container = stripe.container;
+                if (container == null) {
+                    container = stripe.container = supplier.get();
+                }
+                accumulator.accept(container, value);
+            } finally {
+                stripe.release();
+            }
+        }
+
+        private A combined() {
+            if (shared != null) {
+                return shared;
+            }
+            @Nullable A combined = null;
+            for (int index = 0; index < stripes.size(); index++) {
+                var stripe = claim(index);
+                try {
+                    var container = stripe.container;
+                    if (container != null) {
+                        combined = combined == null ? container : combiner.apply(combined, container);
+                    }
+                } finally {
+                    stripe.release();
+                }
+            }
+            return combined != null ? combined : supplier.get();
+        }
+
+        // Only reached through the collector's combiner. A CONCURRENT collection never calls it; a non-concurrent one,
+        // such as a groupingBy downstream, combines containers whose splits have completed and that no other thread
+        // accumulates into. So the plain read-modify-write of shared below cannot race with accumulate(); the stripe
+        // path still claims its stripe, as it shares claim() with accumulation.
+        private void absorb(A container) {
+            if (shared != null) {
+                shared = combiner.apply(shared, container);
+                return;
+            }
+            var stripe = claim(0);
+            try {
+                stripe.container = stripe.container == null ? container : combiner.apply(stripe.container, container);
+            } finally {
+                stripe.release();
+            }
+        }
+
+        private Stripe<A> claim(int home) {
+            for (int probe = 0; ; probe++) {
+                var stripe = stripes.get((home + probe) & mask);
+                if (stripe.tryClaim()) {
+                    return stripe;
+                }
+                if ((probe & mask) == mask) {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+    }
+
+    private static final class Stripe<A> {
+        private static final VarHandle BUSY;
+
+        static {
+            try {
+                BUSY = MethodHandles.lookup().findVarHandle(Stripe.class, "busy", int.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private @Nullable A container;
+
+        @SuppressWarnings("unused") // accessed through BUSY
+        private volatile int busy;
+
+        private boolean tryClaim() {
+            return BUSY.compareAndSet(this, 0, 1);
+        }
+
+        private void release() {
+            BUSY.setRelease(this, 0);
+        }
+    }
+
+    private static final class ConcurrentSummary {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        private void accept(long value) {
+            count.increment();
+            sum.add(value);
+            min.accumulate(value);
+            max.accumulate(value);
+        }
+
+        private void combine(ConcurrentSummary other) {
+            count.add(other.count.sum());
+            sum.add(other.sum.sum());
+            min.accumulate(other.min.get());
+            max.accumulate(other.max.get());
+        }
+
+        private LongSummaryStatistics toStatistics() {
+            return new LongSummaryStatistics(count.sum(), min.get(), max.get(), sum.sum());
+        }
+    }
+
+    private static final class SpillingPartition<L, R> {
+        private final long memoryBudget;
+        private final SpillBuffer<L> lefts;
+        private final SpillBuffer<R> rights;
+
+        private SpillingPartition(long memoryBudget, SpillBuffer<L> lefts, SpillBuffer<R> rights) {
+            this.memoryBudget = memoryBudget;
+            this.lefts = lefts;
+            this.rights = rights;
+        }
+
+        private void add(Either<L, R> either) {
+            try {
+                switch (either) {
+                    case Either.Left(var value) -> lefts.add(value);
+                    case Either.Right(var value) -> rights.add(value);
+                }
+                enforceBudget();
+            } catch (RuntimeException e) {
+                discard();
+                throw e;
+            }
+        }
+
+        private SpillingPartition<L, R> combine(SpillingPartition<L, R> next) {
+            try {
+                lefts.append(next.lefts);
+                rights.append(next.rights);
+                enforceBudget();
+            } catch (RuntimeException e) {
+                discard();
+                next.discard();
+                throw e;
+            }
+            return this;
+        }
+
+        private Pair<Spill<L>, Spill<R>> finish() {
+            return pair(lefts.finish(), rights.finish());
+        }
+
+        private void enforceBudget() {
+            if (lefts.retainedBytes() + rights.retainedBytes() <= memoryBudget) {
+                return;
+            }
+            if (lefts.retainedBytes() >= rights.retainedBytes()) {
+                lefts.spill();
+            } else {
+                rights.spill();
+            }
+            if (lefts.retainedBytes() + rights.retainedBytes() > memoryBudget) {
+                lefts.spill();
+                rights.spill();
+            }
+        }
+
+        private void discard() {
+            lefts.discard();
+            rights.discard();
+        }
+    }
+
+    // Accumulating an element is a single type test plus a single downstream call.
+    private static final class GroupingCollector<L, R, LA, RA, LR, RR>
+            extends BiDownstreamCollector<Either<L, R>, L, R, LA, RA, LR, RR> {
+
+        private GroupingCollector(
+                Collector<? super L, LA, ? extends LR> leftDownstream,
+                Collector<? super R, RA, ? extends RR> rightDownstream) {
+            super(leftDownstream, rightDownstream);
+        }
+
+        @Override
+        void accumulate(Pair<LA, RA> container, Either<L, R> either) {
+            switch (either) {
+                case Either.Left(var value) -> leftAccumulator.accept(container.left(), value);
+                case Either.Right(var value) -> rightAccumulator.accept(container.right(), value);
+            }
+        }
+    }
+
+    private static Characteristics[] identityFinishOf(Collector<?, ?, ?> downstream) {
+        return downstream.characteristics().contains(Characteristics.IDENTITY_FINISH)
+                ? new Characteristics[] {Characteristics.IDENTITY_FINISH}
+                : new Characteristics[0];
+    }
+
+    static Set<Characteristics> intersection(Set<Characteristics> left, Set<Characteristics> right) {
         var intersection = EnumSet.noneOf(Characteristics.class);
         intersection.addAll(left);
         intersection.removeIf(not(right::contains));
-        return intersection.toArray(Characteristics[]::new);
+        return intersection;
     }
 }
@@ -0,0 +1,39 @@
+package me.supcheg.routine;
+
+/// Numbers of left and right values seen by a counting collector.
+///
+/// Produced by [EitherCollectors#counting()] and [EitherCollectors#countingConcurrent()].
+///
+/// @param lefts  number of left values
+/// @param rights number of right values
+/// @see EitherCollectors
+/// @since 1.1.0
+public record EitherCounts(long lefts, long rights) {
+
+    /// Constructs an [EitherCounts].
+    ///
+    /// @throws IllegalArgumentException if either count is negative
+    /// @since 1.1.0
+    public EitherCounts {
+        if (lefts < 0 || rights < 0) {
+            throw new IllegalArgumentException("counts must not be negative: " + lefts + ", " + rights);
+        }
+    }
+
+    /// Returns the total number of values.
+    ///
+    /// @return `lefts + rights`
+    /// @since 1.1.0
+    public long total() {
+        return lefts + rights;
+    }
+
+    /// Returns the fraction of left values.
+    ///
+    /// @return left ratio between `0` and `1`, or `0` if no values were counted
+    /// @since 1.1.0
+    public double leftRatio() {
+        long total = total();
+        return total == 0 ? 0 : (double) lefts / total;
+    }
+}
@@ -0,0 +1,9 @@
+package me.supcheg.routine;
+
+import java.util.function.Consumer;
+
+// Routes a single source element of an EitherStream through its stages to one of the consumers, or drops it.
+@FunctionalInterface
+interface EitherRouter {
+    void route(Either<?, ?> element, Consumer<Object> lefts, Consumer<Object> rights);
+}
@@ -0,0 +1,421 @@
+package me.supcheg.routine;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Collector.Characteristics;
+import java.util.stream.Stream;
+
+import static me.supcheg.routine.Pair.pair;
+
+/// A wrapper around a [Stream] of [Either] with branch-aware intermediate operations.
+///
+/// Consecutive operations are **fused**: they are recorded as stages and applied to every element in a single pass
+/// once a terminal operation runs. Intermediate values travel between stages unwrapped, so a chain such as
+///
+/// ```java
+/// EitherStream.of(stream)
+///     .mapRight(String::trim)
+///     .filterRight(not(String::isEmpty))
+///     .flatMapRight(Parsers::parse)
+///     .rights();
+/// ```
+///
+/// never materializes the intermediate [Either] instances that the equivalent chain of [Stream#map] calls would
+/// create. Stages are stateless, so parallel streams are supported as usual.
+///
+/// Like [Stream], an [EitherStream] should be operated on only once.
+///
+/// @param <L> type of the left values
+/// @param <R> type of the right values
+/// @see Either
+/// @see EitherCollectors
+/// @since 1.1.0
+public final class EitherStream<L, R> implements AutoCloseable {
+
+    private static final Stage[] NO_STAGES = new Stage[0];
+    private static final Consumer<Object> IGNORE = _ -> {};
+
+    private final Stream<Either<?, ?>> source;
+    private final Stage[] stages;
+
+    private EitherStream(Stream<Either<?, ?>> source, Stage[] stages) {
+        this.source = source;
+        this.stages = stages;
+    }
+
+    /// Wraps a stream of [Either] values.
+    ///
+    /// @param stream source stream
+    /// @param <L>    type of the left values
+    /// @param <R>    type of the right values
+    /// @return an [EitherStream] over the given stream
+    /// @since 1.1.0
+    public static <L, R> EitherStream<L, R> of(Stream<? extends Either<? extends L, ? extends R>> stream) {
+        @SuppressWarnings("unchecked")
+        var source = (Stream<Either<?, ?>>) (Stream<?>) Objects.requireNonNull(stream, "stream");
+        return new EitherStream<>(source, NO_STAGES);
+    }
+
+    /// Maps left values.
+    ///
+    /// @param left mapping function
+    /// @param <NL> new left type
+    /// @return a new stage of this stream
+    /// @see Either#mapLeft(Function)
+    /// @since 1.1.0
+    public <NL> EitherStream<NL, R> mapLeft(Function<? super L, ? extends NL> left) {
+        return then(new MapLeft(eraseFunction(left)));
+    }
+
+    /// Maps right values.
+    ///
+    /// @param right mapping function
+    /// @param <NR>  new right type
+    /// @return a new stage of this stream
+    /// @see Either#mapRight(Function)
+    /// @since 1.1.0
+    public <NR> EitherStream<L, NR> mapRight(Function<? super R, ? extends NR> right) {
+        return then(new MapRight(eraseFunction(right)));
+    }
+
+    /// Performs monadic composition on left values.
+    ///
+    /// @param left mapping function
+    /// @param <NL> new left type
+    /// @return a new stage of this stream
+    /// @see Either#flatMapLeft(Function)
+    /// @since 1.1.0
+    public <NL> EitherStream<NL, R> flatMapLeft(
+            Function<? super L, ? extends Either<? extends NL, ? extends R>> left) {
+        return then(new FlatMapLeft(eraseFunction(left)));
+    }
+
+    /// Performs monadic composition on right values.
+    ///
+    /// @param right mapping function
+    /// @param <NR>  new right type
+    /// @return a new stage of this stream
+    /// @see Either#flatMapRight(Function)
+    /// @since 1.1.0
+    public <NR> EitherStream<L, NR> flatMapRight(
+            Function<? super R, ? extends Either<? extends L, ? extends NR>> right) {
+        return then(new FlatMapRight(eraseFunction(right)));
+    }
+
+    /// Drops left values that do not match the given predicate. Right values are kept.
+    ///
+    /// @param left predicate for left values
+    /// @return a new stage of this stream
+    /// @since 1.1.0
+    public EitherStream<L, R> filterLeft(Predicate<? super L> left) {
+        return then(new FilterLeft(erasePredicate(left)));
+    }
+
+    /// Drops right values that do not match the given predicate. Left values are kept.
+    ///
+    /// @param right predicate for right values
+    /// @return a new stage of this stream
+    /// @since 1.1.0
+    public EitherStream<L, R> filterRight(Predicate<? super R> right) {
+        return then(new FilterRight(erasePredicate(right)));
+    }
+
+    /// Returns an equivalent stream that is parallel.
+    ///
+    /// @return a parallel [EitherStream]
+    /// @see Stream#parallel()
+    /// @since 1.1.0
+    public EitherStream<L, R> parallel() {
+        return new EitherStream<>(source.parallel(), stages);
+    }
+
+    /// Returns an equivalent stream that is sequential.
+    ///
+    /// @return a sequential [EitherStream]
+    /// @see Stream#sequential()
+    /// @since 1.1.0
+    public EitherStream<L, R> sequential() {
+        return new EitherStream<>(source.sequential(), stages);
+    }
+
+    /// Returns whether a terminal operation on this stream would execute in parallel.
+    ///
+    /// @return `true` if this stream is parallel
+    /// @since 1.1.0
+    public boolean isParallel() {
+        return source.isParallel();
+    }
+
+    /// Returns a stream of the left values, discarding right values.
+    ///
+    /// @return a [Stream] of left values
+    /// @since 1.1.0
+    public Stream<L> lefts() {
+        return source.mapMulti((either, downstream) -> route(either, eraseConsumer(downstream), IGNORE));
+    }
+
+    /// Returns a stream of the right values, discarding left values.
+    ///
+    /// @return a [Stream] of right values
+    /// @since 1.1.0
+    public Stream<R> rights() {
+        return source.mapMulti((either, downstream) -> route(either, IGNORE, eraseConsumer(downstream)));
+    }
+
+    /// Returns a stream of the resulting [Either] values.
+    ///
+    /// Only the final values are materialized as [Either].
+    ///
+    /// @return a [Stream] of [Either]
+    /// @since 1.1.0
+    public Stream<Either<L, R>> toStream() {
+        return source.mapMulti((either, downstream) -> route(
+                either,
+                value -> downstream.accept(new Either.Left<>(unchecked(value))),
+                value -> downstream.accept(new Either.Right<>(unchecked(value)))));
+    }
+
+    /// Splits this stream into a stream of left values and a stream of right values over a single pass of the
+    /// upstream.
+    ///
+    /// The returned streams are lazy: the upstream is pulled only as they are consumed, by whichever side needs the
+    /// next element. Values pulled for the other side are buffered for it, but never more than `capacity` of them; a
+    /// side that runs that far ahead blocks until the other side catches up. Both streams are therefore meant to be
+    /// consumed concurrently, for example from two threads, unless one of them is closed: closing a side discards its
+    /// buffered and future values and lets the other side run freely. The upstream is closed once both sides are.
+    ///
+    /// ```java
+    /// var unzipped = EitherStream.of(records).unzip(1024);
+    /// try (var failures = unzipped.left(); var successes = unzipped.right()) {
+    ///     var sink = executor.submit(() -> failures.forEach(errorLog::write));
+    ///     successes.forEach(database::insert);
+    ///     sink.get();
+    /// }
+    /// ```
+    ///
+    /// The returned streams are sequential. An exception thrown by the upstream or by a stage is rethrown to the side
+    /// that pulled the failing element and to every later pull on either side.
+    ///
+    /// @param capacity maximum number of values buffered for the side that is behind
+    /// @return a [Pair] of the stream of left values and the stream of right values
+    /// @throws IllegalArgumentException if `capacity` is not positive
+    /// @since 1.1.0
+    public Pair<Stream<L>, Stream<R>> unzip(int capacity) {
+        @SuppressWarnings("unchecked")
+        var unzipped = (Pair<Stream<L>, Stream<R>>) (Pair<?, ?>) Unzip.unzip(source, this::route, capacity);
+        return unzipped;
+    }
+
+    /// Collects the values into a [Pair], applying separate downstream collectors for left and right values.
+    ///
+    /// This is the fused counterpart of [EitherCollectors#groupingTo(Collector, Collector)]: elements are routed
+    /// straight from the source into the downstream collectors.
+    ///
+    /// @param leftDownstream  collector to accumulate left values
+    /// @param rightDownstream collector to accumulate right values
+    /// @param <LA>            intermediate accumulation type of the left collector
+    /// @param <RA>            intermediate accumulation type of the right collector
+    /// @param <LR>            final type for left values
+    /// @param <RR>            final type for right values
+    /// @return a [Pair] containing the results of both downstream collectors
+    /// @since 1.1.0
+    public <LA, RA, LR, RR> Pair<LR, RR> groupingTo(
+            Collector<? super L, LA, ? extends LR> leftDownstream,
+            Collector<? super R, RA, ? extends RR> rightDownstream) {
+        var leftSupplier = leftDownstream.supplier();
+        var rightSupplier = rightDownstream.supplier();
+        BiConsumer<LA, Object> leftAccumulator = eraseAccumulator(leftDownstream.accumulator());
+        BiConsumer<RA, Object> rightAccumulator = eraseAccumulator(rightDownstream.accumulator());
+        var leftCombiner = leftDownstream.combiner();
+        var rightCombiner = rightDownstream.combiner();
+        var leftFinisher = leftDownstream.finisher();
+        var rightFinisher = rightDownstream.finisher();
+
+        var characteristics = EnumSet.copyOf(EitherCollectors.intersection(
+                leftDownstream.characteristics(), rightDownstream.characteristics()));
+        characteristics.remove(Characteristics.IDENTITY_FINISH);
+
+        return source.collect(Collector.of(
+                () -> new Partition<>(leftSupplier.get(), rightSupplier.get(), leftAccumulator, rightAccumulator),
+                (Partition<LA, RA> partition, Either<?, ?> either) ->
+                        route(either, partition.lefts, partition.rights),
+                (Partition<LA, RA> left, Partition<LA, RA> right) -> {
+                    left.left = leftCombiner.apply(left.left, right.left);
+                    left.right = rightCombiner.apply(left.right, right.right);
+                    return left;
+                },
+                (Partition<LA, RA> partition) ->
+                        pair(leftFinisher.apply(partition.left), rightFinisher.apply(partition.right)),
+                characteristics.toArray(Characteristics[]::new)));
+    }
+
+    /// Returns every right value, or the first left value if there is one.
+    ///
+    /// This is a short-circuiting terminal operation: the upstream is no longer pulled once a left value is seen. In
+    /// a parallel stream, splits located after that value in encounter order are cancelled and the remaining splits
+    /// only look for an earlier left value, without buffering right values. For unordered streams any left value may
+    /// be returned and all splits are cancelled as soon as one is found.
+    ///
+    /// ```java
+    /// Either<String, List<Integer>> result = EitherStream.of(Stream.of(
+    ///     Either.right(1),
+    ///     Either.left("a"),
+    ///     Either.right(2)
+    /// )).allRightsOrFirstLeft();
+    /// // result -> Left("a"), Right(2) is never pulled
+    /// ```
+    ///
+    /// @return a [Either.Left] holding the first left value, or a [Either.Right] holding an unmodifiable list of
+    ///     all right values in encounter order
+    /// @since 1.1.0
+    public Either<L, List<R>> allRightsOrFirstLeft() {
+        @SuppressWarnings("unchecked")
+        var result = (Either<L, List<R>>) (Either<?, ?>) FirstLeftTraversal.traverse(source, this::route);
+        return result;
+    }
+
+    /// Closes the underlying stream.
+    ///
+    /// @see Stream#close()
+    /// @since 1.1.0
+    @Override
+    public void close() {
+        source.close();
+    }
+
+    private <NL, NR> EitherStream<NL, NR> then(Stage stage) {
+        var next = Arrays.copyOf(stages, stages.length + 1);
+        next[stages.length] = stage;
+        return new EitherStream<>(source, next);
+    }
+
+    // Runs every stage over one element, keeping the current branch and value in locals, and hands the result to
+    // the consumer of the resulting branch unless a filter dropped it.
+    private void route(Either<?, ?> either, Consumer<Object> lefts, Consumer<Object> rights) {
+        Object value;
+        boolean right;
+        switch (either) {
+            case Either.Left(var left) -> {
+                value = left;
+                right = false;
+            }
+            case Either.Right(var r) -> {
+                value = r;
+                right = true;
+            }
+        }
+
+        for (var stage : stages) {
+            switch (stage) {
+                case MapLeft(var function) -> {
+                    if (!right) {
+                        value = Objects.requireNonNull(function.apply(value), "value");
+                    }
+                }
+                case MapRight(var function) -> {
+                    if (right) {
+                        value = Objects.requireNonNull(function.apply(value), "value");
+                    }
+                }
+                case FlatMapLeft(var function) -> {
+                    if (!right) {
+                        switch (Objects.requireNonNull(function.apply(value))) {
+                            case Either.Left(var left) -> value = left;
+                            case Either.Right(var r) -> {
+                                value = r;
+                                right = true;
+                            }
+                        }
+                    }
+                }
+                case FlatMapRight(var function) -> {
+                    if (right) {
+                        switch (Objects.requireNonNull(function.apply(value))) {
+                            case Either.Left(var left) -> {
+                                value = left;
+                                right = false;
+                            }
+                            case Either.Right(var r) -> value = r;
+                        }
+                    }
+                }
+                case FilterLeft(var predicate) -> {
+                    if (!right && !predicate.test(value)) {
+                        return;
+                    }
+                }
+                case FilterRight(var predicate) -> {
+                    if (right && !predicate.test(value)) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        (right ? rights : lefts).accept(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unchecked(Object value) {
+        return (T) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Function<Object, T> eraseFunction(Function<?, ? extends T> function) {
+        return (Function<Object, T>) function;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate<Object> erasePredicate(Predicate<?> predicate) {
+        return (Predicate<Object>) predicate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Consumer<Object> eraseConsumer(Consumer<?> consumer) {
+        return (Consumer<Object>) consumer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> BiConsumer<A, Object> eraseAccumulator(BiConsumer<A, ?> consumer) {
+        return (BiConsumer<A, Object>) consumer;
+    }
+
+    private sealed interface Stage {}
+
+    private record MapLeft(Function<Object, ?> function) implements Stage {}
+
+    private record MapRight(Function<Object, ?> function) implements Stage {}
+
+    private record FlatMapLeft(Function<Object, ? extends Either<?, ?>> function) implements Stage {}
+
+    private record FlatMapRight(Function<Object, ? extends Either<?, ?>> function) implements Stage {}
+
+    private record FilterLeft(Predicate<Object> predicate) implements Stage {}
+
+    private record FilterRight(Predicate<Object> predicate) implements Stage {}
+
+    private static final class Partition<LA, RA> {
+        private LA left;
+        private RA right;
+        private final Consumer<Object> lefts;
+        private final Consumer<Object> rights;
+
+        private Partition(
+                LA left,
+                RA right,
+                BiConsumer<LA, Object> leftAccumulator,
+                BiConsumer<RA, Object> rightAccumulator) {
+            this.left = left;
+            this.right = right;
+            this.lefts = value -> leftAccumulator.accept(this.left, value);
+            this.rights = value -> rightAccumulator.accept(this.right, value);
+        }
+    }
+}
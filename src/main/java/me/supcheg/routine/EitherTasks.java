@@ -0,0 +1,191 @@
+package me.supcheg.routine;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collector;
+
+/// Runs collections of [Either]-returning tasks concurrently on virtual threads.
+///
+/// Every task gets its own virtual thread, and at most `maxConcurrency` of them run their task at the same time;
+/// the others wait for a permit without occupying a platform thread. This suits fanning out many blocking calls,
+/// such as network or file I/O, without sizing a thread pool:
+///
+/// ```java
+/// List<Callable<Either<Failure, Profile>>> calls = ids.stream()
+///     .map(id -> (Callable<Either<Failure, Profile>>) () -> client.fetchProfile(id))
+///     .toList();
+///
+/// Either<Failure, List<Profile>> profiles = EitherTasks.failFast(calls, 64);
+/// ```
+///
+/// Methods of this class return only after every task has finished or has been cancelled, so no task outlives the
+/// call. Cancellation interrupts the task's thread; tasks that ignore interruption delay the return until they
+/// complete on their own. A task that throws, or returns `null`, fails the whole traversal: the remaining tasks are
+/// cancelled and the failure is reported as an [ExecutionException], as with [ExecutorService#invokeAll(Collection)].
+///
+/// @see Either
+/// @see EitherCollectors
+/// @since 1.1.0
+public final class EitherTasks {
+
+    private EitherTasks() {}
+
+    /// Runs all tasks and returns every right value, or the first left value returned by any task.
+    ///
+    /// As soon as a task returns a [Either.Left], the tasks that are still waiting or running are cancelled. "First"
+    /// refers to completion time: when several tasks would return a left value, the one that completes first wins.
+    ///
+    /// @param tasks          tasks to run
+    /// @param maxConcurrency maximum number of tasks running at the same time
+    /// @param <L>            type of left values
+    /// @param <R>            type of right values
+    /// @return a [Either.Left] holding the first left value, or a [Either.Right] holding an unmodifiable list of all
+    ///     right values in the iteration order of `tasks`
+    /// @throws IllegalArgumentException if `maxConcurrency` is not positive
+    /// @throws ExecutionException       if a task threw an exception or returned `null` before any left value was seen
+    /// @throws InterruptedException     if the calling thread was interrupted while waiting; running tasks are
+    ///     cancelled
+    /// @since 1.1.0
+    @SuppressWarnings("unchecked")
+    public static <L, R> Either<L, List<R>> failFast(
+            Collection<? extends Callable<? extends Either<? extends L, ? extends R>>> tasks, int maxConcurrency)
+            throws InterruptedException, ExecutionException {
+        var results = run(tasks, maxConcurrency, true);
+        if (results.left != null) {
+            return Either.left((L) results.left.value());
+        }
+        var rights = new ArrayList<R>(results.values.length);
+        for (var either : results.values) {
+            rights.add(((Either.Right<?, R>) either).value());
+        }
+        return Either.right(Collections.unmodifiableList(rights));
+    }
+
+    /// Runs all tasks to completion and collects their results with the given collector.
+    ///
+    /// Left values do not cancel anything. Results are passed to the collector on the calling thread in the
+    /// iteration order of `tasks`, regardless of the order in which the tasks complete, so the collector does not
+    /// need to be thread-safe.
+    ///
+    /// ```java
+    /// Pair<List<Failure>, List<Profile>> partition = EitherTasks.collectAll(
+    ///     calls,
+    ///     64,
+    ///     EitherCollectors.groupingTo(Collectors.toList(), Collectors.toList())
+    /// );
+    /// ```
+    ///
+    /// @param tasks          tasks to run
+    /// @param maxConcurrency maximum number of tasks running at the same time
+    /// @param collector      collector receiving every result
+    /// @param <L>            type of left values
+    /// @param <R>            type of right values
+    /// @param <A>            intermediate accumulation type of the collector
+    /// @param <T>            result type of the collector
+    /// @return result of the collector
+    /// @throws IllegalArgumentException if `maxConcurrency` is not positive
+    /// @throws ExecutionException       if a task threw an exception or returned `null`
+    /// @throws InterruptedException     if the calling thread was interrupted while waiting; running tasks are
+    ///     cancelled
+    /// @see EitherCollectors#groupingTo(Collector, Collector)
+    /// @since 1.1.0
+    @SuppressWarnings("unchecked")
+    public static <L, R, A, T> T collectAll(
+            Collection<? extends Callable<? extends Either<? extends L, ? extends R>>> tasks,
+            int maxConcurrency,
+            Collector<? super Either<L, R>, A, T> collector)
+            throws InterruptedException, ExecutionException {
+        var results = run(tasks, maxConcurrency, false);
+        var container = collector.supplier().get();
+        var accumulator = collector.accumulator();
+        for (var either : results.values) {
+            accumulator.accept(container, (Either<L, R>) either);
+        }
+        return collector.finisher().apply(container);
+    }
+
+    /// Runs all tasks to completion and partitions their results into a [Pair], applying separate downstream
+    /// collectors for left and right values.
+    ///
+    /// Equivalent to [#collectAll(Collection, int, Collector)] with
+    /// [EitherCollectors#groupingTo(Collector, Collector)].
+    ///
+    /// @param tasks           tasks to run
+    /// @param maxConcurrency  maximum number of tasks running at the same time
+    /// @param leftDownstream  collector to accumulate left values
+    /// @param rightDownstream collector to accumulate right values
+    /// @param <L>             type of left values
+    /// @param <R>             type of right values
+    /// @param <LR>            final type for left values
+    /// @param <RR>            final type for right values
+    /// @return a [Pair] of the left and right results
+    /// @throws IllegalArgumentException if `maxConcurrency` is not positive
+    /// @throws ExecutionException       if a task threw an exception or returned `null`
+    /// @throws InterruptedException     if the calling thread was interrupted while waiting; running tasks are
+    ///     cancelled
+    /// @since 1.1.0
+    public static <L, R, LR, RR> Pair<LR, RR> collectAll(
+            Collection<? extends Callable<? extends Either<? extends L, ? extends R>>> tasks,
+            int maxConcurrency,
+            Collector<? super L, ?, ? extends LR> leftDownstream,
+            Collector<? super R, ?, ? extends RR> rightDownstream)
+            throws InterruptedException, ExecutionException {
+        return collectAll(tasks, maxConcurrency, EitherCollectors.groupingTo(leftDownstream, rightDownstream));
+    }
+
+    private record Completed(int index, Either<?, ?> either) {}
+
+    // Either the results of all tasks by index, or the left value that stopped a fail-fast run.
+    private record Results(Either<?, ?>[] values, Either.@Nullable Left<?, ?> left) {}
+
+    private static Results run(
+            Collection<? extends Callable<? extends Either<?, ?>>> tasks, int maxConcurrency, boolean failFast)
+            throws InterruptedException, ExecutionException {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        var snapshot = List.copyOf(tasks);
+        var values = new Either<?, ?>[snapshot.size()];
+        var permits = new Semaphore(maxConcurrency);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var completion = new ExecutorCompletionService<Completed>(executor);
+            for (int index = 0; index < snapshot.size(); index++) {
+                int taskIndex = index;
+                var task = snapshot.get(index);
+                completion.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return new Completed(taskIndex, Objects.requireNonNull(task.call(), "task result"));
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+            try {
+                for (int remaining = snapshot.size(); remaining > 0; remaining--) {
+                    var completed = completion.take().get();
+                    if (failFast && completed.either instanceof Either.Left<?, ?> left) {
+                        executor.shutdownNow();
+                        return new Results(values, left);
+                    }
+                    values[completed.index] = completed.either;
+                }
+            } catch (ExecutionException | InterruptedException | RuntimeException | Error e) {
+                executor.shutdownNow();
+                throw e;
+            }
+        }
+        return new Results(values, null);
+    }
+}
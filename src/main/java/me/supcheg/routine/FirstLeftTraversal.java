@@ -0,0 +1,189 @@
+package me.supcheg.routine;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Short-circuiting traversal behind EitherStream#allRightsOrFirstLeft().
+//
+// Sequential streams are pulled one element at a time and abandoned at the first left value. Parallel streams are
+// split into a tree of fork/join tasks; a task that meets a left value cancels every task later in encounter order
+// (or every task at all, for unordered sources), and all tasks stop buffering right values since the result is known
+// to be a left.
+final class FirstLeftTraversal {
+
+    private static final int LEAF_TARGET = ForkJoinPool.getCommonPoolParallelism() << 2;
+
+    private FirstLeftTraversal() {}
+
+    static Either<Object, List<Object>> traverse(Stream<Either<?, ?>> source, EitherRouter router) {
+        boolean parallel = source.isParallel();
+        var spliterator = source.spliterator();
+
+        var shared = new Shared(router, spliterator.hasCharacteristics(Spliterator.ORDERED));
+        Result result;
+        if (parallel) {
+            long threshold = Math.max(spliterator.estimateSize() / LEAF_TARGET, 1);
+            result = new Task(null, shared, spliterator, threshold).invoke();
+        } else {
+            result = new Leaf(shared).drain(spliterator, null);
+        }
+
+        if (result.left != null) {
+            return Either.left(result.left);
+        }
+        return Either.right(Collections.unmodifiableList(result.rights));
+    }
+
+    private static final class Shared {
+        private final EitherRouter router;
+        private final boolean ordered;
+        private volatile boolean failed;
+        private volatile boolean stopped;
+
+        private Shared(EitherRouter router, boolean ordered) {
+            this.router = router;
+            this.ordered = ordered;
+        }
+    }
+
+    private record Result(@Nullable Object left, List<Object> rights, boolean canceled) {
+        private static final Result CANCELED = new Result(null, List.of(), true);
+
+        private static Result left(Object left) {
+            return new Result(left, List.of(), false);
+        }
+    }
+
+    private static final class Leaf implements Consumer<Either<?, ?>> {
+        private final Shared shared;
+        private final ArrayList<Object> rights = new ArrayList<>();
+        private final Consumer<Object> onLeft = value -> this.left = value;
+        private final Consumer<Object> onRight = this::right;
+        private @Nullable Object left;
+
+        private Leaf(Shared shared) {
+            this.shared = shared;
+        }
+
+        @Override
+        public void accept(Either<?, ?> element) {
+            shared.router.route(element, onLeft, onRight);
+        }
+
+        private void right(Object value) {
+            if (!shared.failed) {
+                rights.add(value);
+            }
+        }
+
+        private Result drain(Spliterator<Either<?, ?>> spliterator, @Nullable Task task) {
+            while (left == null) {
+                if (task != null && task.isCanceled()) {
+                    return Result.CANCELED;
+                }
+                if (!spliterator.tryAdvance(this)) {
+                    return new Result(null, rights, false);
+                }
+            }
+            shared.failed = true;
+            return Result.left(left);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class Task extends RecursiveTask<Result> {
+        private final @Nullable Task parent;
+        private final Shared shared;
+        private final Spliterator<Either<?, ?>> spliterator;
+        private final long threshold;
+        private volatile boolean canceled;
+        private @Nullable Task leftChild;
+        private @Nullable Task rightChild;
+
+        private Task(
+                @Nullable Task parent, Shared shared, Spliterator<Either<?, ?>> spliterator, long threshold) {
+            this.parent = parent;
+            this.shared = shared;
+            this.spliterator = spliterator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Result compute() {
+            if (isCanceled()) {
+                return Result.CANCELED;
+            }
+
+            Spliterator<Either<?, ?>> prefix;
+            if (spliterator.estimateSize() <= threshold || (prefix = spliterator.trySplit()) == null) {
+                var result = new Leaf(shared).drain(spliterator, this);
+                if (result.left != null) {
+                    cancelLaterTasks();
+                }
+                return result;
+            }
+
+            var left = new Task(this, shared, prefix, threshold);
+            var right = new Task(this, shared, spliterator, threshold);
+            leftChild = left;
+            rightChild = right;
+            right.fork();
+
+            var leftResult = left.invoke();
+            if (leftResult.left != null) {
+                right.canceled = true;
+                right.join();
+                return leftResult;
+            }
+
+            var rightResult = right.join();
+            if (rightResult.left != null) {
+                return rightResult;
+            }
+            if (leftResult.canceled || rightResult.canceled) {
+                return Result.CANCELED;
+            }
+            if (shared.failed) {
+                return new Result(null, List.of(), false);
+            }
+
+            var rights = leftResult.rights;
+            rights.addAll(rightResult.rights);
+            return new Result(null, rights, false);
+        }
+
+        private boolean isCanceled() {
+            if (shared.stopped) {
+                return true;
+            }
+            for (var task = this; task != null; task = task.parent) {
+                if (task.canceled) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Tasks to the right of this one in encounter order can no longer contribute to the result; tasks to the
+        // left keep running because they may still find an earlier left value.
+        private void cancelLaterTasks() {
+            if (!shared.ordered) {
+                shared.stopped = true;
+                return;
+            }
+            for (Task node = this, parent = this.parent; parent != null; node = parent, parent = parent.parent) {
+                if (parent.leftChild == node && parent.rightChild != null) {
+                    parent.rightChild.canceled = true;
+                }
+            }
+        }
+    }
+}
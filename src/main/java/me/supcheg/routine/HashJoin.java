@@ -0,0 +1,261 @@
+package me.supcheg.routine;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Build table of Joins#hashJoin: the rows of the build side in an array, chained by key through `next` in encounter
+// order, and a lookup from a probe row to the first build row of its chain. The table is read-only once built, so any
+// number of threads can probe it; the only shared write is the bit marking a build row as matched, which is needed
+// only when unmatched build rows are emitted.
+final class HashJoin<P, Q> {
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final Object[] rows;
+    private final int[] next;
+    private final ToIntFunction<? super P> lookup;
+
+    private HashJoin(Object[] rows, int[] next, ToIntFunction<? super P> lookup) {
+        this.rows = rows;
+        this.next = next;
+        this.lookup = lookup;
+    }
+
+    static <P, Q, K> HashJoin<P, Q> hashed(
+            Collection<? extends Q> build,
+            Function<? super Q, ? extends K> buildKey,
+            Function<? super P, ? extends K> probeKey) {
+        var rows = build.toArray();
+        var next = new int[rows.length];
+        var heads = HashMap.<K, Integer>newHashMap(rows.length);
+        for (int row = rows.length - 1; row >= 0; row--) {
+            Integer head = heads.put(buildKey.apply(row(rows, row)), row);
+            next[row] = head == null ? -1 : head;
+        }
+        return new HashJoin<>(rows, next, probe -> heads.getOrDefault(probeKey.apply(probe), -1));
+    }
+
+    static <P, Q> HashJoin<P, Q> longs(
+            Collection<? extends Q> build, ToLongFunction<? super Q> buildKey, ToLongFunction<? super P> probeKey) {
+        var rows = build.toArray();
+        var next = new int[rows.length];
+        var heads = new LongIndex(rows.length);
+        for (int row = rows.length - 1; row >= 0; row--) {
+            next[row] = heads.put(buildKey.applyAsLong(row(rows, row)), row);
+        }
+        return new HashJoin<>(rows, next, probe -> heads.get(probeKey.applyAsLong(probe)));
+    }
+
+    // Probes the table with every row of `source`. Build rows without a match are emitted by whichever split of the
+    // probe finishes last, which is why the stream loses ORDERED when `buildOnly` is present.
+    <R> Stream<R> probe(
+            Spliterator<? extends P> source,
+            boolean parallel,
+            BiFunction<? super P, ? super Q, ? extends R> match,
+            @Nullable Function<? super P, ? extends R> probeOnly,
+            @Nullable Function<? super Q, ? extends R> buildOnly) {
+        var matched = buildOnly == null ? null : new long[(rows.length + 63) >>> 6];
+        var spliterator = new ProbeSpliterator<>(source, new AtomicInteger(1), matched, match, probeOnly, buildOnly);
+        return StreamSupport.stream(spliterator, parallel);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <Q> Q row(Object[] rows, int row) {
+        return (Q) rows[row];
+    }
+
+    private final class ProbeSpliterator<R> implements Spliterator<R> {
+
+        private final Spliterator<? extends P> source;
+        private final AtomicInteger pending;
+        private final long @Nullable [] matched;
+        private final BiFunction<? super P, ? super Q, ? extends R> match;
+        private final @Nullable Function<? super P, ? extends R> probeOnly;
+        private final @Nullable Function<? super Q, ? extends R> buildOnly;
+        private @Nullable P probe;
+        private int cursor = -1;
+        private int unmatched = -1;
+        private boolean exhausted;
+
+        private ProbeSpliterator(
+                Spliterator<? extends P> source,
+                AtomicInteger pending,
+                long @Nullable [] matched,
+                BiFunction<? super P, ? super Q, ? extends R> match,
+                @Nullable Function<? super P, ? extends R> probeOnly,
+                @Nullable Function<? super Q, ? extends R> buildOnly) {
+            this.source = source;
+            this.pending = pending;
+            this.matched = matched;
+            this.match = match;
+            this.probeOnly = probeOnly;
+            this.buildOnly = buildOnly;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            while (true) {
+                if (cursor >= 0) {
+                    action.accept(matchCursor());
+                    return true;
+                }
+                if (unmatched >= 0) {
+                    return advanceUnmatched(action);
+                }
+                if (exhausted) {
+                    return false;
+                }
+                if (!source.tryAdvance(this::start)) {
+                    finish();
+                } else if (cursor < 0 && probeOnly != null) {
+                    action.accept(probeOnly.apply(Objects.requireNonNull(probe)));
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super R> action) {
+            while (cursor >= 0) {
+                action.accept(matchCursor());
+            }
+            if (!exhausted) {
+                source.forEachRemaining(value -> {
+                    start(value);
+                    if (cursor < 0 && probeOnly != null) {
+                        action.accept(probeOnly.apply(value));
+                    }
+                    while (cursor >= 0) {
+                        action.accept(matchCursor());
+                    }
+                });
+                finish();
+            }
+            if (unmatched >= 0) {
+                while (advanceUnmatched(action)) {
+                    // emitted one unmatched build row
+                }
+            }
+        }
+
+        @Override
+        public @Nullable Spliterator<R> trySplit() {
+            if (exhausted || cursor >= 0) {
+                return null;
+            }
+            var split = source.trySplit();
+            if (split == null) {
+                return null;
+            }
+            pending.incrementAndGet();
+            return new ProbeSpliterator<>(split, pending, matched, match, probeOnly, buildOnly);
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            int characteristics = source.characteristics() & (ORDERED | IMMUTABLE | CONCURRENT) | NONNULL;
+            return buildOnly == null ? characteristics : characteristics & ~ORDERED;
+        }
+
+        private void start(P value) {
+            probe = value;
+            cursor = lookup.applyAsInt(value);
+        }
+
+        private R matchCursor() {
+            int row = cursor;
+            cursor = next[row];
+            var matched = this.matched;
+            if (matched != null) {
+                long bit = 1L << row;
+                if (((long) WORDS.getOpaque(matched, row >>> 6) & bit) == 0) {
+                    WORDS.getAndBitwiseOr(matched, row >>> 6, bit);
+                }
+            }
+            return match.apply(Objects.requireNonNull(probe), row(rows, row));
+        }
+
+        // The decrement publishes this split's matched bits to the split that brings `pending` to zero.
+        private void finish() {
+            exhausted = true;
+            probe = null;
+            if (buildOnly != null && pending.decrementAndGet() == 0) {
+                unmatched = 0;
+            }
+        }
+
+        private boolean advanceUnmatched(Consumer<? super R> action) {
+            var matched = Objects.requireNonNull(this.matched);
+            var buildOnly = Objects.requireNonNull(this.buildOnly);
+            while (unmatched < rows.length) {
+                int row = unmatched++;
+                if ((matched[row >>> 6] & (1L << row)) == 0) {
+                    action.accept(buildOnly.apply(row(rows, row)));
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // Open-addressed map from a long key to the first row of its chain, with linear probing. Rows are stored plus one,
+    // so that a zero head marks an empty slot.
+    private static final class LongIndex {
+
+        private final long[] keys;
+        private final int[] heads;
+        private final int mask;
+
+        private LongIndex(int expectedSize) {
+            int capacity = Integer.highestOneBit(Math.clamp(expectedSize * 2L, 2, 1 << 30) - 1) << 1;
+            this.keys = new long[capacity];
+            this.heads = new int[capacity];
+            this.mask = capacity - 1;
+        }
+
+        // Makes `row` the head of the chain of `key` and returns the previous head, -1 if there was none.
+        int put(long key, int row) {
+            for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+                int head = heads[slot];
+                if (head == 0 || keys[slot] == key) {
+                    keys[slot] = key;
+                    heads[slot] = row + 1;
+                    return head - 1;
+                }
+            }
+        }
+
+        int get(long key) {
+            for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+                int head = heads[slot];
+                if (head == 0 || keys[slot] == key) {
+                    return head - 1;
+                }
+            }
+        }
+
+        private int slot(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package me.supcheg.routine;
+
+// In-place introsort over an index range of a container that can only compare and swap elements by index, such as an
+// off-heap buffer. Quicksort with median-of-three pivots, falling back to heapsort once the recursion gets too deep
+// and to insertion sort for short ranges. Not stable.
+final class IndexedSort {
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private IndexedSort() {}
+
+    interface Sortable {
+        int compare(long i, long j);
+
+        void swap(long i, long j);
+    }
+
+    static void sort(Sortable sortable, long from, long to) {
+        long length = to - from;
+        if (length > 1) {
+            introSort(sortable, from, to, 2 * (63 - Long.numberOfLeadingZeros(length)));
+        }
+    }
+
+    private static void introSort(Sortable sortable, long lo, long hi, int depth) {
+        while (hi - lo > INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                heapSort(sortable, lo, hi);
+                return;
+            }
+
+            moveMedianToFront(sortable, lo, lo + ((hi - lo) >>> 1), hi - 1);
+            long i = lo;
+            long j = hi;
+            while (true) {
+                do {
+                    i++;
+                } while (i < hi && sortable.compare(i, lo) < 0);
+                do {
+                    j--;
+                } while (sortable.compare(j, lo) > 0);
+                if (i >= j) {
+                    break;
+                }
+                sortable.swap(i, j);
+            }
+            sortable.swap(lo, j);
+
+            // Recurse into the shorter side to keep the stack logarithmic.
+            if (j - lo < hi - j) {
+                introSort(sortable, lo, j, depth);
+                lo = j + 1;
+            } else {
+                introSort(sortable, j + 1, hi, depth);
+                hi = j;
+            }
+        }
+        insertionSort(sortable, lo, hi);
+    }
+
+    private static void moveMedianToFront(Sortable sortable, long a, long b, long c) {
+        if (sortable.compare(b, a) < 0) {
+            sortable.swap(a, b);
+        }
+        if (sortable.compare(c, b) < 0) {
+            sortable.swap(b, c);
+            if (sortable.compare(b, a) < 0) {
+                sortable.swap(a, b);
+            }
+        }
+        sortable.swap(a, b);
+    }
+
+    private static void heapSort(Sortable sortable, long lo, long hi) {
+        long length = hi - lo;
+        for (long i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(sortable, lo, i, length);
+        }
+        for (long end = length - 1; end > 0; end--) {
+            sortable.swap(lo, lo + end);
+            siftDown(sortable, lo, 0, end);
+        }
+    }
+
+    private static void siftDown(Sortable sortable, long lo, long root, long length) {
+        long child;
+        while ((child = (root << 1) + 1) < length) {
+            if (child + 1 < length && sortable.compare(lo + child, lo + child + 1) < 0) {
+                child++;
+            }
+            if (sortable.compare(lo + root, lo + child) >= 0) {
+                return;
+            }
+            sortable.swap(lo + root, lo + child);
+            root = child;
+        }
+    }
+
+    private static void insertionSort(Sortable sortable, long lo, long hi) {
+        for (long i = lo + 1; i < hi; i++) {
+            for (long j = i; j > lo && sortable.compare(j - 1, j) > 0; j--) {
+                sortable.swap(j - 1, j);
+            }
+        }
+    }
+}
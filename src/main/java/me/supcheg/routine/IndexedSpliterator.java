@@ -0,0 +1,64 @@
+package me.supcheg.routine;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+// Spliterator over an index range of a columnar or off-heap container. Splits at the midpoint of the remaining range,
+// so parallel streams get halves of equal size down to single elements, and both halves report exact sizes.
+final class IndexedSpliterator<T> implements Spliterator<T> {
+
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | NONNULL;
+
+    private final LongFunction<? extends T> element;
+    private long origin;
+    private final long fence;
+
+    IndexedSpliterator(LongFunction<? extends T> element, long origin, long fence) {
+        this.element = element;
+        this.origin = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (origin < fence) {
+            action.accept(element.apply(origin++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        long index = origin;
+        long hi = fence;
+        origin = hi;
+        for (; index < hi; index++) {
+            action.accept(element.apply(index));
+        }
+    }
+
+    @Override
+    public @Nullable Spliterator<T> trySplit() {
+        long lo = origin;
+        long mid = (lo + fence) >>> 1;
+        if (lo >= mid) {
+            return null;
+        }
+        origin = mid;
+        return new IndexedSpliterator<>(element, lo, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
@@ -0,0 +1,231 @@
+package me.supcheg.routine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+// Opt-in instrumentation behind CollectorMetrics: wraps a collector of EitherCollectors so that every container
+// counts its left and right values and records when it was created, combined and finished. Each phase is reported as
+// a JFR event, and the totals of a collection are passed to the installed CollectorMetrics once it is finished.
+//
+// ENABLED is a compile-time constant for the JIT, so instrument() returns the given collector untouched unless the
+// system property was set at startup.
+final class InstrumentedCollector<L, R, A, T>
+        implements Collector<Either<L, R>, InstrumentedCollector.Container<A>, T> {
+
+    static final boolean ENABLED = Boolean.getBoolean("me.supcheg.routine.instrumentation");
+
+    static volatile CollectorMetrics metrics = _ -> {};
+
+    private final String name;
+    private final Supplier<A> supplier;
+    private final BiConsumer<A, Either<L, R>> accumulator;
+    private final BinaryOperator<A> combiner;
+    private final Function<A, T> finisher;
+    private final Set<Characteristics> characteristics;
+    private final boolean concurrent;
+
+    private InstrumentedCollector(String name, Collector<Either<L, R>, A, T> delegate) {
+        this.name = name;
+        this.supplier = delegate.supplier();
+        this.accumulator = delegate.accumulator();
+        this.combiner = delegate.combiner();
+        this.finisher = delegate.finisher();
+        var characteristics = EnumSet.noneOf(Characteristics.class);
+        characteristics.addAll(delegate.characteristics());
+        characteristics.remove(Characteristics.IDENTITY_FINISH);
+        this.characteristics = Set.copyOf(characteristics);
+        this.concurrent = characteristics.contains(Characteristics.CONCURRENT);
+    }
+
+    static <L, R, T> Collector<Either<L, R>, ?, T> instrument(String name, Collector<Either<L, R>, ?, T> collector) {
+        if (!ENABLED) {
+            return collector;
+        }
+        return wrap(name, collector);
+    }
+
+    static <L, R, A, T> Collector<Either<L, R>, ?, T> wrap(String name, Collector<Either<L, R>, A, T> collector) {
+        return new InstrumentedCollector<>(name, collector);
+    }
+
+    @Override
+    public Supplier<Container<A>> supplier() {
+        return () -> new Container<>(name, supplier.get(), concurrent);
+    }
+
+    @Override
+    public BiConsumer<Container<A>, Either<L, R>> accumulator() {
+        if (concurrent) {
+            return (container, either) -> {
+                var shared = Objects.requireNonNull(container.shared);
+                shared[either instanceof Either.Left ? 0 : 1].increment();
+                accumulator.accept(container.value, either);
+            };
+        }
+        return (container, either) -> {
+            if (either instanceof Either.Left) {
+                container.lefts++;
+            } else {
+                container.rights++;
+            }
+            accumulator.accept(container.value, either);
+        };
+    }
+
+    @Override
+    public BinaryOperator<Container<A>> combiner() {
+        return (left, right) -> {
+            left.accumulated();
+            right.accumulated();
+            var event = new CombineEvent();
+            event.collector = name;
+            event.begin();
+            long start = System.nanoTime();
+            left.value = combiner.apply(left.value, right.value);
+            left.combineNanos += right.combineNanos + (System.nanoTime() - start);
+            event.commit();
+            left.lefts += right.lefts;
+            left.rights += right.rights;
+            left.containers += right.containers;
+            left.accumulateNanos += right.accumulateNanos;
+            return left;
+        };
+    }
+
+    @Override
+    public Function<Container<A>, T> finisher() {
+        return container -> {
+            container.accumulated();
+            var event = new FinishEvent();
+            event.begin();
+            long start = System.nanoTime();
+            var result = finisher.apply(container.value);
+            long finishNanos = System.nanoTime() - start;
+            long lefts = container.lefts;
+            long rights = container.rights;
+            if (event.shouldCommit()) {
+                event.collector = name;
+                event.lefts = lefts;
+                event.rights = rights;
+                event.containers = container.containers;
+                event.commit();
+            }
+            metrics.record(new CollectorMetrics.Sample(
+                    name,
+                    lefts,
+                    rights,
+                    container.containers,
+                    container.accumulateNanos,
+                    container.combineNanos,
+                    finishNanos));
+            return result;
+        };
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return characteristics;
+    }
+
+    // A CONCURRENT collector shares one container between all threads, which count into the shared adders instead of
+    // the plain fields; the adders are folded into the fields once the container is handed off.
+    static final class Container<A> {
+        private final String name;
+        private final LongAdder @Nullable [] shared;
+        private final long created = System.nanoTime();
+        private final AccumulateEvent event = new AccumulateEvent();
+        private A value;
+        private long lefts;
+        private long rights;
+        private long containers = 1;
+        private long accumulateNanos;
+        private long combineNanos;
+        private boolean accumulated;
+
+        private Container(String name, A value, boolean concurrent) {
+            this.name = name;
+            this.value = value;
+            this.shared = concurrent ? new LongAdder[] {new LongAdder(), new LongAdder()} : null;
+            event.begin();
+        }
+
+        private void accumulated() {
+            if (accumulated) {
+                return;
+            }
+            accumulated = true;
+            if (shared != null) {
+                lefts += shared[0].sum();
+                rights += shared[1].sum();
+            }
+            accumulateNanos = System.nanoTime() - created;
+            event.end();
+            if (event.shouldCommit()) {
+                event.collector = name;
+                event.lefts = lefts;
+                event.rights = rights;
+                event.commit();
+            }
+        }
+    }
+
+    @Name("me.supcheg.routine.CollectorAccumulate")
+    @Label("Either Collector Accumulate")
+    @Description("Accumulation into one container, from its creation until it was combined or finished")
+    @Category({"Routine", "Collectors"})
+    @StackTrace(false)
+    static final class AccumulateEvent extends Event {
+        @Label("Collector")
+        @Nullable String collector;
+
+        @Label("Lefts")
+        long lefts;
+
+        @Label("Rights")
+        long rights;
+    }
+
+    @Name("me.supcheg.routine.CollectorCombine")
+    @Label("Either Collector Combine")
+    @Description("Merge of two containers of a parallel collection")
+    @Category({"Routine", "Collectors"})
+    @StackTrace(false)
+    static final class CombineEvent extends Event {
+        @Label("Collector")
+        @Nullable String collector;
+    }
+
+    @Name("me.supcheg.routine.CollectorFinish")
+    @Label("Either Collector Finish")
+    @Description("Finisher of a collection, with the totals of all containers")
+    @Category({"Routine", "Collectors"})
+    @StackTrace(false)
+    static final class FinishEvent extends Event {
+        @Label("Collector")
+        @Nullable String collector;
+
+        @Label("Lefts")
+        long lefts;
+
+        @Label("Rights")
+        long rights;
+
+        @Label("Containers")
+        long containers;
+    }
+}
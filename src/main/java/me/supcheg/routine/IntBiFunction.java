@@ -0,0 +1,20 @@
+package me.supcheg.routine;
+
+/// Represents a function that accepts two `int`-valued arguments and produces a result.
+///
+/// This is the `int`-consuming primitive specialization of [java.util.function.BiFunction].
+///
+/// @param <T> the type of the result of the function
+/// @see IntPair
+/// @since 1.1.0
+@FunctionalInterface
+public interface IntBiFunction<T> {
+
+    /// Applies this function to the given arguments.
+    ///
+    /// @param left  the first function argument
+    /// @param right the second function argument
+    /// @return the function result
+    /// @since 1.1.0
+    T apply(int left, int right);
+}
@@ -0,0 +1,390 @@
+package me.supcheg.routine;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+/// A variant of [Either] whose right branch holds an unboxed `int`.
+///
+/// - [Left] — contains a value of type `L`, usually an error
+/// - [Right] — contains an `int` value, usually a successfully computed result
+///
+/// Operations on the right branch take `int`-specialized functions, so parsing and metric pipelines can produce and
+/// transform numeric results without creating `Integer` boxes.
+///
+/// @param <L> type of the left value
+/// @see Either
+/// @see EitherCollectors
+/// @since 1.1.0
+public sealed interface IntEither<L> {
+
+    /// Represents the left variant of [IntEither].
+    ///
+    /// `value` is guaranteed to be non-null.
+    ///
+    /// @param value left value
+    /// @param <L>   type of the stored value
+    /// @since 1.1.0
+    record Left<L>(L value) implements IntEither<L> {
+
+        /// Constructs a [Left] instance with a non-null value.
+        ///
+        /// @throws NullPointerException if [Left#value] is `null`
+        /// @since 1.1.0
+        public Left {
+            Objects.requireNonNull(value, "value");
+        }
+
+        @Override
+        public <NL> IntEither<NL> map(Function<? super L, ? extends NL> left, IntUnaryOperator right) {
+            return new Left<>(left.apply(value));
+        }
+
+        @Override
+        public <NL> IntEither<NL> mapLeft(Function<? super L, ? extends NL> left) {
+            return new Left<>(left.apply(value));
+        }
+
+        @Override
+        public IntEither<L> mapRight(IntUnaryOperator right) {
+            return this;
+        }
+
+        @Override
+        public <NR> Either<L, NR> mapRightToObj(IntFunction<? extends NR> right) {
+            return new Either.Left<>(value);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NL> IntEither<NL> flatMap(
+                Function<? super L, ? extends IntEither<? extends NL>> left,
+                IntFunction<? extends IntEither<? extends NL>> right) {
+            return (IntEither<NL>) Objects.requireNonNull(left.apply(value));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NL> IntEither<NL> flatMapLeft(Function<? super L, ? extends IntEither<? extends NL>> left) {
+            return (IntEither<NL>) Objects.requireNonNull(left.apply(value));
+        }
+
+        @Override
+        public IntEither<L> flatMapRight(IntFunction<? extends IntEither<? extends L>> right) {
+            return this;
+        }
+
+        @Override
+        public <T> T fold(Function<? super L, ? extends T> left, IntFunction<? extends T> right) {
+            return left.apply(value);
+        }
+
+        @Override
+        public int foldToInt(ToIntFunction<? super L> left, IntUnaryOperator right) {
+            return left.applyAsInt(value);
+        }
+
+        @Override
+        public Optional<L> left() {
+            return Optional.of(value);
+        }
+
+        @Override
+        public OptionalInt right() {
+            return OptionalInt.empty();
+        }
+
+        @Override
+        public int rightOrElse(int other) {
+            return other;
+        }
+
+        @Override
+        public IntEither<L> peek(Consumer<? super L> left, IntConsumer right) {
+            left.accept(value);
+            return this;
+        }
+
+        @Override
+        public void accept(Consumer<? super L> left, IntConsumer right) {
+            left.accept(value);
+        }
+
+        @Override
+        public void ifLeft(Consumer<? super L> left) {
+            left.accept(value);
+        }
+
+        @Override
+        public void ifRight(IntConsumer right) {}
+
+        @Override
+        public Either<L, Integer> asEither() {
+            return new Either.Left<>(value);
+        }
+    }
+
+    /// Represents the right variant of [IntEither].
+    ///
+    /// @param value right value
+    /// @param <L>   type of the left branch (phantom type parameter)
+    /// @since 1.1.0
+    record Right<L>(int value) implements IntEither<L> {
+
+        @Override
+        public <NL> IntEither<NL> map(Function<? super L, ? extends NL> left, IntUnaryOperator right) {
+            return new Right<>(right.applyAsInt(value));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NL> IntEither<NL> mapLeft(Function<? super L, ? extends NL> left) {
+            return (IntEither<NL>) this;
+        }
+
+        @Override
+        public IntEither<L> mapRight(IntUnaryOperator right) {
+            return new Right<>(right.applyAsInt(value));
+        }
+
+        @Override
+        public <NR> Either<L, NR> mapRightToObj(IntFunction<? extends NR> right) {
+            return new Either.Right<>(right.apply(value));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NL> IntEither<NL> flatMap(
+                Function<? super L, ? extends IntEither<? extends NL>> left,
+                IntFunction<? extends IntEither<? extends NL>> right) {
+            return (IntEither<NL>) Objects.requireNonNull(right.apply(value));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NL> IntEither<NL> flatMapLeft(Function<? super L, ? extends IntEither<? extends NL>> left) {
+            return (IntEither<NL>) this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public IntEither<L> flatMapRight(IntFunction<? extends IntEither<? extends L>> right) {
+            return (IntEither<L>) Objects.requireNonNull(right.apply(value));
+        }
+
+        @Override
+        public <T> T fold(Function<? super L, ? extends T> left, IntFunction<? extends T> right) {
+            return right.apply(value);
+        }
+
+        @Override
+        public int foldToInt(ToIntFunction<? super L> left, IntUnaryOperator right) {
+            return right.applyAsInt(value);
+        }
+
+        @Override
+        public Optional<L> left() {
+            return Optional.empty();
+        }
+
+        @Override
+        public OptionalInt right() {
+            return OptionalInt.of(value);
+        }
+
+        @Override
+        public int rightOrElse(int other) {
+            return value;
+        }
+
+        @Override
+        public IntEither<L> peek(Consumer<? super L> left, IntConsumer right) {
+            right.accept(value);
+            return this;
+        }
+
+        @Override
+        public void accept(Consumer<? super L> left, IntConsumer right) {
+            right.accept(value);
+        }
+
+        @Override
+        public void ifLeft(Consumer<? super L> left) {}
+
+        @Override
+        public void ifRight(IntConsumer right) {
+            right.accept(value);
+        }
+
+        @Override
+        public Either<L, Integer> asEither() {
+            return new Either.Right<>(value);
+        }
+    }
+
+    /// Creates a [Left] instance.
+    ///
+    /// @param value left value
+    /// @param <L>   left type
+    /// @return an [IntEither] in the [Left] state
+    /// @since 1.1.0
+    static <L> Left<L> left(L value) {
+        return new Left<>(value);
+    }
+
+    /// Creates a [Right] instance.
+    ///
+    /// @param value right value
+    /// @param <L>   left type
+    /// @return an [IntEither] in the [Right] state
+    /// @since 1.1.0
+    static <L> Right<L> right(int value) {
+        return new Right<>(value);
+    }
+
+    /// Creates an [IntEither] by unboxing the right value of an [Either].
+    ///
+    /// @param either source either
+    /// @param <L>    left type
+    /// @return an [IntEither] in the same state as the given [Either]
+    /// @since 1.1.0
+    static <L> IntEither<L> intEitherFromEither(Either<L, Integer> either) {
+        return switch (either) {
+            case Either.Left(var value) -> left(value);
+            case Either.Right(var value) -> right(value);
+        };
+    }
+
+    /// Applies a bifunctional mapping to both branches.
+    ///
+    /// @param left  mapping function for the left branch
+    /// @param right mapping function for the right branch
+    /// @param <NL>  new left type
+    /// @return a new [IntEither] with transformed value
+    /// @since 1.1.0
+    <NL> IntEither<NL> map(Function<? super L, ? extends NL> left, IntUnaryOperator right);
+
+    /// Maps only the left branch.
+    ///
+    /// @param left mapping function
+    /// @param <NL> new left type
+    /// @return [IntEither] with transformed left value
+    /// @since 1.1.0
+    <NL> IntEither<NL> mapLeft(Function<? super L, ? extends NL> left);
+
+    /// Maps only the right branch.
+    ///
+    /// @param right mapping function
+    /// @return [IntEither] with transformed right value
+    /// @since 1.1.0
+    IntEither<L> mapRight(IntUnaryOperator right);
+
+    /// Maps the right branch to an object, producing a regular [Either].
+    ///
+    /// @param right mapping function
+    /// @param <NR>  new right type
+    /// @return [Either] with the same left value or the transformed right value
+    /// @since 1.1.0
+    <NR> Either<L, NR> mapRightToObj(IntFunction<? extends NR> right);
+
+    /// Performs monadic composition on both branches.
+    ///
+    /// @param left  mapping function for the left branch
+    /// @param right mapping function for the right branch
+    /// @param <NL>  new left type
+    /// @return result of the composition
+    /// @since 1.1.0
+    <NL> IntEither<NL> flatMap(
+            Function<? super L, ? extends IntEither<? extends NL>> left,
+            IntFunction<? extends IntEither<? extends NL>> right);
+
+    /// Monadic composition on the left branch only.
+    ///
+    /// @param left mapping function
+    /// @param <NL> new left type
+    /// @return composed [IntEither]
+    /// @since 1.1.0
+    <NL> IntEither<NL> flatMapLeft(Function<? super L, ? extends IntEither<? extends NL>> left);
+
+    /// Monadic composition on the right branch only.
+    ///
+    /// @param right mapping function
+    /// @return composed [IntEither]
+    /// @since 1.1.0
+    IntEither<L> flatMapRight(IntFunction<? extends IntEither<? extends L>> right);
+
+    /// Folds this [IntEither] into a single value.
+    ///
+    /// @param left  function applied to the left value
+    /// @param right function applied to the right value
+    /// @param <T>   result type
+    /// @return result of applying the corresponding function
+    /// @since 1.1.0
+    <T> T fold(Function<? super L, ? extends T> left, IntFunction<? extends T> right);
+
+    /// Folds this [IntEither] into a single `int` value without boxing the result.
+    ///
+    /// @param left  function applied to the left value
+    /// @param right function applied to the right value
+    /// @return result of applying the corresponding function
+    /// @since 1.1.0
+    int foldToInt(ToIntFunction<? super L> left, IntUnaryOperator right);
+
+    /// Returns the left value wrapped in [Optional], if present.
+    ///
+    /// @return optional left value
+    /// @since 1.1.0
+    Optional<L> left();
+
+    /// Returns the right value wrapped in [OptionalInt], if present.
+    ///
+    /// @return optional right value
+    /// @since 1.1.0
+    OptionalInt right();
+
+    /// Returns the right value if present, otherwise `other`.
+    ///
+    /// @param other value returned when this is [Left]
+    /// @return the right value or `other`
+    /// @since 1.1.0
+    int rightOrElse(int other);
+
+    /// Executes side effects for the corresponding branch without modifying this [IntEither].
+    ///
+    /// @param left  consumer for the left branch
+    /// @param right consumer for the right branch
+    /// @return this [IntEither]
+    /// @since 1.1.0
+    IntEither<L> peek(Consumer<? super L> left, IntConsumer right);
+
+    /// Consumes the value using the appropriate consumer.
+    ///
+    /// @param left  consumer for the left branch
+    /// @param right consumer for the right branch
+    /// @since 1.1.0
+    void accept(Consumer<? super L> left, IntConsumer right);
+
+    /// Executes the given consumer if this value is [Left].
+    ///
+    /// @param left consumer for the left branch
+    /// @since 1.1.0
+    void ifLeft(Consumer<? super L> left);
+
+    /// Executes the given consumer if this value is [Right].
+    ///
+    /// @param right consumer for the right branch
+    /// @since 1.1.0
+    void ifRight(IntConsumer right);
+
+    /// Converts this value into a regular [Either] with a boxed right value.
+    ///
+    /// @return an [Either] in the same state as this value
+    /// @since 1.1.0
+    Either<L, Integer> asEither();
+}
@@ -0,0 +1,124 @@
+package me.supcheg.routine;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+
+/// An immutable ordered pair of an `int` value and a non-null object.
+///
+/// This is the counterpart of [Pair] with an unboxed left component, typically used for `(id, value)` tuples.
+///
+/// @param left  left component
+/// @param right right component
+/// @param <R>   type of the right component
+/// @see ObjIntPair
+/// @see Pair
+/// @since 1.1.0
+public record IntObjPair<R>(int left, R right) {
+
+    /// Constructs an [IntObjPair] with a non-null right component.
+    ///
+    /// @throws NullPointerException if [IntObjPair#right] is `null`
+    /// @since 1.1.0
+    public IntObjPair {
+        Objects.requireNonNull(right, "right");
+    }
+
+    /// Creates an [IntObjPair] instance.
+    ///
+    /// This is a convenience factory method equivalent to invoking the constructor directly.
+    ///
+    /// @param left  left component
+    /// @param right right component
+    /// @param <R>   right type
+    /// @return a new [IntObjPair] containing the given values
+    /// @since 1.1.0
+    public static <R> IntObjPair<R> intObjPair(int left, R right) {
+        return new IntObjPair<>(left, right);
+    }
+
+    /// Creates an [IntObjPair] by unboxing the left component of a [Pair].
+    ///
+    /// @param pair source pair
+    /// @param <R>  right type
+    /// @return an [IntObjPair] holding the components of the given pair
+    /// @since 1.1.0
+    public static <R> IntObjPair<R> intObjPairFromPair(Pair<Integer, R> pair) {
+        return new IntObjPair<>(pair.left(), pair.right());
+    }
+
+    /// Applies independent mapping functions to both components of this pair.
+    ///
+    /// @param left  mapping function for the left component
+    /// @param right mapping function for the right component
+    /// @param <NR>  new right type
+    /// @return a new [IntObjPair] with both components transformed
+    /// @since 1.1.0
+    public <NR> IntObjPair<NR> map(IntUnaryOperator left, Function<? super R, ? extends NR> right) {
+        return new IntObjPair<>(left.applyAsInt(this.left), right.apply(this.right));
+    }
+
+    /// Maps the left component while leaving the right component unchanged.
+    ///
+    /// @param left mapping function for the left component
+    /// @return a new [IntObjPair] with a transformed left component
+    /// @since 1.1.0
+    public IntObjPair<R> mapLeft(IntUnaryOperator left) {
+        return new IntObjPair<>(left.applyAsInt(this.left), right);
+    }
+
+    /// Maps the right component while leaving the left component unchanged.
+    ///
+    /// @param right mapping function for the right component
+    /// @param <NR>  new right type
+    /// @return a new [IntObjPair] with a transformed right component
+    /// @since 1.1.0
+    public <NR> IntObjPair<NR> mapRight(Function<? super R, ? extends NR> right) {
+        return new IntObjPair<>(left, right.apply(this.right));
+    }
+
+    /// Replaces the left component with a new value.
+    ///
+    /// @param left new left value
+    /// @return a new [IntObjPair] with the specified left component
+    /// @since 1.1.0
+    public IntObjPair<R> withLeft(int left) {
+        return new IntObjPair<>(left, right);
+    }
+
+    /// Replaces the right component with a new value.
+    ///
+    /// @param right new right value
+    /// @param <NR>  new right type
+    /// @return a new [IntObjPair] with the specified right component
+    /// @since 1.1.0
+    public <NR> IntObjPair<NR> withRight(NR right) {
+        return new IntObjPair<>(left, right);
+    }
+
+    /// Swaps the left and right components.
+    ///
+    /// @return an [ObjIntPair] with inverted component order
+    /// @since 1.1.0
+    public ObjIntPair<R> flip() {
+        return new ObjIntPair<>(right, left);
+    }
+
+    /// Folds this [IntObjPair] into a single value.
+    ///
+    /// @param function a function applied to the left and right components
+    /// @param <T>      result type
+    /// @return the result of applying the function to both components
+    /// @since 1.1.0
+    public <T> T fold(IntObjFunction<? super R, ? extends T> function) {
+        return function.apply(left, right);
+    }
+
+    /// Converts this pair into a boxed [Pair].
+    ///
+    /// @return a [Pair] holding the boxed left component and the right component of this pair
+    /// @since 1.1.0
+    public Pair<Integer, R> asPair() {
+        return new Pair<>(left, right);
+    }
+}
@@ -0,0 +1,118 @@
+package me.supcheg.routine;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+
+/// An immutable ordered pair of two `int` values.
+///
+/// This is the `int`-specialized counterpart of [Pair]: both components are stored unboxed, so the pair itself is the
+/// only allocation and no `Integer` wrappers are created on the way.
+///
+/// @param left  left component
+/// @param right right component
+/// @see Pair
+/// @since 1.1.0
+public record IntPair(int left, int right) {
+
+    /// Creates an [IntPair] instance.
+    ///
+    /// This is a convenience factory method equivalent to invoking the constructor directly.
+    ///
+    /// @param left  left component
+    /// @param right right component
+    /// @return a new [IntPair] containing the given values
+    /// @since 1.1.0
+    public static IntPair intPair(int left, int right) {
+        return new IntPair(left, right);
+    }
+
+    /// Creates an [IntPair] by unboxing both components of a [Pair].
+    ///
+    /// @param pair source pair
+    /// @return an [IntPair] holding the unboxed components of the given pair
+    /// @since 1.1.0
+    public static IntPair intPairFromPair(Pair<Integer, Integer> pair) {
+        return new IntPair(pair.left(), pair.right());
+    }
+
+    /// Applies independent mapping functions to both components of this pair.
+    ///
+    /// @param left  mapping function for the left component
+    /// @param right mapping function for the right component
+    /// @return a new [IntPair] with both components transformed
+    /// @since 1.1.0
+    public IntPair map(IntUnaryOperator left, IntUnaryOperator right) {
+        return new IntPair(left.applyAsInt(this.left), right.applyAsInt(this.right));
+    }
+
+    /// Maps the left component while leaving the right component unchanged.
+    ///
+    /// @param left mapping function for the left component
+    /// @return a new [IntPair] with a transformed left component
+    /// @since 1.1.0
+    public IntPair mapLeft(IntUnaryOperator left) {
+        return new IntPair(left.applyAsInt(this.left), right);
+    }
+
+    /// Maps the right component while leaving the left component unchanged.
+    ///
+    /// @param right mapping function for the right component
+    /// @return a new [IntPair] with a transformed right component
+    /// @since 1.1.0
+    public IntPair mapRight(IntUnaryOperator right) {
+        return new IntPair(left, right.applyAsInt(this.right));
+    }
+
+    /// Replaces the left component with a new value.
+    ///
+    /// @param left new left value
+    /// @return a new [IntPair] with the specified left component
+    /// @since 1.1.0
+    public IntPair withLeft(int left) {
+        return new IntPair(left, right);
+    }
+
+    /// Replaces the right component with a new value.
+    ///
+    /// @param right new right value
+    /// @return a new [IntPair] with the specified right component
+    /// @since 1.1.0
+    public IntPair withRight(int right) {
+        return new IntPair(left, right);
+    }
+
+    /// Swaps the left and right components.
+    ///
+    /// @return an [IntPair] with inverted component order
+    /// @since 1.1.0
+    public IntPair flip() {
+        return new IntPair(right, left);
+    }
+
+    /// Folds this [IntPair] into a single value.
+    ///
+    /// @param function a function applied to the left and right components
+    /// @param <T>      result type
+    /// @return the result of applying the function to both components
+    /// @since 1.1.0
+    public <T> T fold(IntBiFunction<? extends T> function) {
+        return function.apply(left, right);
+    }
+
+    /// Folds this [IntPair] into a single `int` value without boxing the result.
+    ///
+    /// @param function an operator applied to the left and right components
+    /// @return the result of applying the operator to both components
+    /// @since 1.1.0
+    public int foldToInt(IntBinaryOperator function) {
+        return function.applyAsInt(left, right);
+    }
+
+    /// Converts this pair into a boxed [Pair].
+    ///
+    /// @return a [Pair] holding the boxed components of this pair
+    /// @since 1.1.0
+    public Pair<Integer, Integer> asPair() {
+        return new Pair<>(left, right);
+    }
+}
@@ -0,0 +1,215 @@
+package me.supcheg.routine;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/// An opt-in canonicalizing factory for [Either] and [Pair] instances.
+///
+/// Values are looked up in a bounded, direct-mapped table: every combination of components hashes to one slot, which
+/// holds the most recently created instance for that slot. A hit returns the cached instance, a miss creates a new
+/// one and evicts whatever occupied the slot. Memory use is therefore fixed by the capacity, and frequently repeated
+/// values end up sharing one instance instead of allocating on every call.
+///
+/// ```java
+/// static final Interner ERRORS = Interner.create(1024, Interner.Mode.IDENTITY);
+///
+/// Either<ErrorCode, Order> failure = ERRORS.left(ErrorCode.OUT_OF_STOCK);
+/// ```
+///
+/// The interner is thread-safe and lock-free. Canonicalization is best effort: threads racing on the same slot, or
+/// values colliding in one slot, may still produce distinct but equal instances, so callers must keep comparing
+/// values with `equals`.
+///
+/// @see Either
+/// @see Pair
+/// @since 1.1.0
+public final class Interner {
+
+    private static final int LEFT_SEED = 0x9E3779B9;
+    private static final int RIGHT_SEED = 0x7F4A7C15;
+    private static final int PAIR_SEED = 0x61C88647;
+
+    private final Mode mode;
+    private final AtomicReferenceArray<@Nullable Object> table;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private Interner(int capacity, Mode mode) {
+        this.mode = mode;
+        this.table = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /// Defines how components of a requested value are matched against cached instances.
+    ///
+    /// @since 1.1.0
+    public enum Mode {
+        /// Components match when they are the same object. Lookups never call `hashCode` or `equals` of the
+        /// components, which suits enum constants and other already canonical values.
+        ///
+        /// @since 1.1.0
+        IDENTITY,
+
+        /// Components match when they are of the same class and equal according to `equals`, and are hashed with
+        /// `hashCode`. Equal components of different classes, such as a [java.util.List#of()] list and an equal
+        /// [java.util.ArrayList], are never substituted for each other.
+        ///
+        /// @since 1.1.0
+        EQUALITY
+    }
+
+    /// Hit and miss counts of an [Interner].
+    ///
+    /// @param hits   number of requests served by a cached instance
+    /// @param misses number of requests that created a new instance
+    /// @since 1.1.0
+    public record Stats(long hits, long misses) {
+
+        /// Returns the total number of requests.
+        ///
+        /// @return `hits + misses`
+        /// @since 1.1.0
+        public long requests() {
+            return hits + misses;
+        }
+
+        /// Returns the fraction of requests served by a cached instance.
+        ///
+        /// @return hit rate between `0` and `1`, or `0` if there were no requests
+        /// @since 1.1.0
+        public double hitRate() {
+            long requests = requests();
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+
+    /// Creates an [Interner] with the given number of slots.
+    ///
+    /// @param capacity number of slots, rounded up to a power of two
+    /// @param mode     how components are matched
+    /// @return a new [Interner]
+    /// @throws IllegalArgumentException if `capacity` is not positive or is greater than `2^30`
+    /// @since 1.1.0
+    public static Interner create(int capacity, Mode mode) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30: " + capacity);
+        }
+        return new Interner(
+                capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1, Objects.requireNonNull(mode, "mode"));
+    }
+
+    /// Returns the matching mode of this interner.
+    ///
+    /// @return the [Mode] used for lookups
+    /// @since 1.1.0
+    public Mode mode() {
+        return mode;
+    }
+
+    /// Returns a canonical [Either.Left] holding the given value.
+    ///
+    /// @param value left value
+    /// @param <L>   type of the left value
+    /// @param <R>   type of the right value
+    /// @return a cached or new [Either.Left] holding `value`
+    /// @throws NullPointerException if `value` is `null`
+    /// @since 1.1.0
+    @SuppressWarnings("unchecked")
+    public <L, R> Either.Left<L, R> left(L value) {
+        int slot = slot(LEFT_SEED ^ hash(value));
+        if (table.getAcquire(slot) instanceof Either.Left<?, ?> cached && matches(cached.value(), value)) {
+            hits.increment();
+            return (Either.Left<L, R>) cached;
+        }
+        var created = new Either.Left<L, R>(value);
+        miss(slot, created);
+        return created;
+    }
+
+    /// Returns a canonical [Either.Right] holding the given value.
+    ///
+    /// @param value right value
+    /// @param <L>   type of the left value
+    /// @param <R>   type of the right value
+    /// @return a cached or new [Either.Right] holding `value`
+    /// @throws NullPointerException if `value` is `null`
+    /// @since 1.1.0
+    @SuppressWarnings("unchecked")
+    public <L, R> Either.Right<L, R> right(R value) {
+        int slot = slot(RIGHT_SEED ^ hash(value));
+        if (table.getAcquire(slot) instanceof Either.Right<?, ?> cached && matches(cached.value(), value)) {
+            hits.increment();
+            return (Either.Right<L, R>) cached;
+        }
+        var created = new Either.Right<L, R>(value);
+        miss(slot, created);
+        return created;
+    }
+
+    /// Returns a canonical [Pair] of the given components.
+    ///
+    /// @param left  left component
+    /// @param right right component
+    /// @param <L>   type of the left component
+    /// @param <R>   type of the right component
+    /// @return a cached or new [Pair] of `left` and `right`
+    /// @throws NullPointerException if either component is `null`
+    /// @since 1.1.0
+    @SuppressWarnings("unchecked")
+    public <L, R> Pair<L, R> pair(L left, R right) {
+        int slot = slot(PAIR_SEED ^ (31 * hash(left) + hash(right)));
+        if (table.getAcquire(slot) instanceof Pair<?, ?> cached
+                && matches(cached.left(), left)
+                && matches(cached.right(), right)) {
+            hits.increment();
+            return (Pair<L, R>) cached;
+        }
+        var created = new Pair<>(left, right);
+        miss(slot, created);
+        return created;
+    }
+
+    /// Returns a snapshot of the hit and miss counts.
+    ///
+    /// The counts are not reset by [#clear()].
+    ///
+    /// @return current [Stats]
+    /// @since 1.1.0
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum());
+    }
+
+    /// Evicts every cached instance.
+    ///
+    /// @since 1.1.0
+    public void clear() {
+        for (int slot = 0; slot < table.length(); slot++) {
+            table.setRelease(slot, null);
+        }
+    }
+
+    private int hash(Object value) {
+        return mode == Mode.IDENTITY ? System.identityHashCode(value) : value.hashCode();
+    }
+
+    // An equal component of another class is not a match: the cached instance is returned as the caller's type, so
+    // handing out a List12 for an ArrayList request would pollute the heap.
+    private boolean matches(Object cached, Object requested) {
+        return cached == requested
+                || (mode == Mode.EQUALITY && cached.getClass() == requested.getClass() && cached.equals(requested));
+    }
+
+    private int slot(int hash) {
+        hash *= 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void miss(int slot, Object created) {
+        misses.increment();
+        table.setRelease(slot, created);
+    }
+}
@@ -0,0 +1,285 @@
+package me.supcheg.routine;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static me.supcheg.routine.Pair.pair;
+
+/// Utility class joining two inputs by key into a stream of matched [Pair] and unmatched [Either] rows.
+///
+/// Every join produces a `Stream<Either<Either<A, B>, Pair<A, B>>>`: a right value is a match of a left and a right
+/// row with equal keys, and a left value is an outer row, which is an [Either] of the left or right row that has no
+/// match. Which outer rows are produced is selected by [JoinType]. A row matching several rows on the other side
+/// produces one [Pair] per match.
+///
+/// The result can be split with the collectors of [EitherCollectors]:
+///
+/// ```java
+/// Pair<List<Either<Order, Payment>>, List<Pair<Order, Payment>>> result = Joins.hashJoin(
+///         orders, Order::id,
+///         payments, Payment::orderId,
+///         Joins.JoinType.FULL)
+///     .collect(EitherCollectors.groupingTo(Collectors.toList(), Collectors.toList()));
+/// // result.left()  -> orders without payments and payments without orders
+/// // result.right() -> every matching (order, payment)
+/// ```
+///
+/// Two strategies are available:
+///
+/// - a hash join builds a table of one side and probes it with every row of the other. [#hashJoin] compares keys
+///   with `equals`, [#hashJoinLong] extracts primitive `long` keys into an open-addressed table without boxing. The
+///   table is read-only while probing, so the probe side may be a parallel stream;
+/// - a merge join, [#mergeJoin], walks two inputs sorted by key side by side and holds only the rows of one key in
+///   memory.
+///
+/// @see Either
+/// @see Pair
+/// @since 1.1.0
+public final class Joins {
+
+    private Joins() {}
+
+    /// Selects which unmatched rows a join produces in addition to the matches.
+    ///
+    /// @since 1.1.0
+    public enum JoinType {
+        /// Only matches are produced.
+        ///
+        /// @since 1.1.0
+        INNER,
+
+        /// Matches and left rows without a match are produced.
+        ///
+        /// @since 1.1.0
+        LEFT,
+
+        /// Matches and right rows without a match are produced.
+        ///
+        /// @since 1.1.0
+        RIGHT,
+
+        /// Matches and unmatched rows of both sides are produced.
+        ///
+        /// @since 1.1.0
+        FULL;
+
+        boolean keepsLefts() {
+            return this == LEFT || this == FULL;
+        }
+
+        boolean keepsRights() {
+            return this == RIGHT || this == FULL;
+        }
+    }
+
+    /// Hash-joins two collections, building the table on the smaller one and probing it with the larger one.
+    ///
+    /// The result follows the encounter order of the probed collection, with all matches of one probe row in the
+    /// encounter order of the build collection. Unmatched rows of the build collection follow all probe results. The
+    /// returned stream is sequential; make it [parallel][Stream#parallel()] to probe in parallel, in which case the
+    /// unmatched build rows are emitted after every split has been probed and the stream is not ordered.
+    ///
+    /// Keys are compared like [java.util.HashMap] keys, so rows whose keys are both `null` match each other rather
+    /// than being emitted as outer rows. Map `null` keys to a unique value in `leftKey` and `rightKey` for SQL
+    /// semantics.
+    ///
+    /// @param left     left rows
+    /// @param leftKey  function extracting the key of a left row
+    /// @param right    right rows
+    /// @param rightKey function extracting the key of a right row
+    /// @param type     unmatched rows to produce
+    /// @param <A>      type of left rows
+    /// @param <B>      type of right rows
+    /// @param <K>      type of keys, compared with `equals`; `null` keys match each other, as in a [java.util.HashMap]
+    /// @return a lazy stream of matches and unmatched rows
+    /// @since 1.1.0
+    public static <A, B, K> Stream<Either<Either<A, B>, Pair<A, B>>> hashJoin(
+            Collection<? extends A> left,
+            Function<? super A, ? extends K> leftKey,
+            Collection<? extends B> right,
+            Function<? super B, ? extends K> rightKey,
+            JoinType type) {
+        Objects.requireNonNull(leftKey, "leftKey");
+        Objects.requireNonNull(rightKey, "rightKey");
+        Objects.requireNonNull(type, "type");
+        if (left.size() <= right.size()) {
+            return probeRights(HashJoin.hashed(left, leftKey, rightKey), right.spliterator(), false, type);
+        }
+        return probeLefts(HashJoin.hashed(right, rightKey, leftKey), left.spliterator(), false, type);
+    }
+
+    /// Hash-joins a stream of left rows against a table built on a collection of right rows.
+    ///
+    /// The stream is consumed lazily as the probe side and may be much larger than `right`. If it is parallel, so is
+    /// the result, and the splits probe the table concurrently. Closing the result closes `left`.
+    ///
+    /// @param left     left rows, probing the table
+    /// @param leftKey  function extracting the key of a left row
+    /// @param right    right rows, held in the table
+    /// @param rightKey function extracting the key of a right row
+    /// @param type     unmatched rows to produce; unmatched right rows are emitted after all left rows are probed,
+    ///                 and the result of a parallel stream is then not ordered
+    /// @param <A>      type of left rows
+    /// @param <B>      type of right rows
+    /// @param <K>      type of keys, compared with `equals`; `null` keys match each other, as in a [java.util.HashMap]
+    /// @return a lazy stream of matches and unmatched rows
+    /// @since 1.1.0
+    public static <A, B, K> Stream<Either<Either<A, B>, Pair<A, B>>> hashJoin(
+            Stream<? extends A> left,
+            Function<? super A, ? extends K> leftKey,
+            Collection<? extends B> right,
+            Function<? super B, ? extends K> rightKey,
+            JoinType type) {
+        Objects.requireNonNull(leftKey, "leftKey");
+        Objects.requireNonNull(rightKey, "rightKey");
+        Objects.requireNonNull(type, "type");
+        var join = HashJoin.<A, B, K>hashed(right, rightKey, leftKey);
+        return probeLefts(join, left.spliterator(), left.isParallel(), type).onClose(left::close);
+    }
+
+    /// Hash-joins two collections by `long` keys, building the table on the smaller one.
+    ///
+    /// Behaves like [#hashJoin(Collection, Function, Collection, Function, JoinType)], but keys are extracted as
+    /// primitives and kept in an open-addressed `long` table, so neither building nor probing boxes a key.
+    ///
+    /// @param left     left rows
+    /// @param leftKey  function extracting the key of a left row
+    /// @param right    right rows
+    /// @param rightKey function extracting the key of a right row
+    /// @param type     unmatched rows to produce
+    /// @param <A>      type of left rows
+    /// @param <B>      type of right rows
+    /// @return a lazy stream of matches and unmatched rows
+    /// @since 1.1.0
+    public static <A, B> Stream<Either<Either<A, B>, Pair<A, B>>> hashJoinLong(
+            Collection<? extends A> left,
+            ToLongFunction<? super A> leftKey,
+            Collection<? extends B> right,
+            ToLongFunction<? super B> rightKey,
+            JoinType type) {
+        Objects.requireNonNull(leftKey, "leftKey");
+        Objects.requireNonNull(rightKey, "rightKey");
+        Objects.requireNonNull(type, "type");
+        if (left.size() <= right.size()) {
+            return probeRights(HashJoin.longs(left, leftKey, rightKey), right.spliterator(), false, type);
+        }
+        return probeLefts(HashJoin.longs(right, rightKey, leftKey), left.spliterator(), false, type);
+    }
+
+    /// Hash-joins a stream of left rows by `long` keys against a table built on a collection of right rows.
+    ///
+    /// Behaves like [#hashJoin(Stream, Function, Collection, Function, JoinType)], but keys are extracted as
+    /// primitives and kept in an open-addressed `long` table, so neither building nor probing boxes a key.
+    ///
+    /// @param left     left rows, probing the table
+    /// @param leftKey  function extracting the key of a left row
+    /// @param right    right rows, held in the table
+    /// @param rightKey function extracting the key of a right row
+    /// @param type     unmatched rows to produce
+    /// @param <A>      type of left rows
+    /// @param <B>      type of right rows
+    /// @return a lazy stream of matches and unmatched rows
+    /// @since 1.1.0
+    public static <A, B> Stream<Either<Either<A, B>, Pair<A, B>>> hashJoinLong(
+            Stream<? extends A> left,
+            ToLongFunction<? super A> leftKey,
+            Collection<? extends B> right,
+            ToLongFunction<? super B> rightKey,
+            JoinType type) {
+        Objects.requireNonNull(leftKey, "leftKey");
+        Objects.requireNonNull(rightKey, "rightKey");
+        Objects.requireNonNull(type, "type");
+        var join = HashJoin.<A, B>longs(right, rightKey, leftKey);
+        return probeLefts(join, left.spliterator(), left.isParallel(), type).onClose(left::close);
+    }
+
+    /// Merge-joins two streams sorted by key.
+    ///
+    /// Both streams are consumed lazily and in step, so the join runs in constant memory apart from the right rows
+    /// sharing the current key, which are buffered to be paired with every left row of that key. The result is
+    /// ordered by key, with rows of equal keys in their encounter order, and is sequential. Closing it closes both
+    /// inputs.
+    ///
+    /// ```java
+    /// try (var joined = Joins.mergeJoin(
+    ///         readSorted(ledgerFile), Entry::account,
+    ///         readSorted(bankFile), Statement::account,
+    ///         Comparator.naturalOrder(), Joins.JoinType.FULL)) {
+    ///     joined.forEach(reconciliation::accept);
+    /// }
+    /// ```
+    ///
+    /// @param left       left rows, sorted by `leftKey` according to `comparator`
+    /// @param leftKey    function extracting the key of a left row
+    /// @param right      right rows, sorted by `rightKey` according to `comparator`
+    /// @param rightKey   function extracting the key of a right row
+    /// @param comparator order of the keys; keys comparing as equal match. Keys may be `null` if the comparator
+    ///                   accepts them, as [Comparator#nullsFirst(Comparator)] does
+    /// @param type       unmatched rows to produce
+    /// @param <A>        type of left rows
+    /// @param <B>        type of right rows
+    /// @param <K>        type of keys
+    /// @return a lazy stream of matches and unmatched rows
+    /// @throws IllegalStateException by the returned stream if a key of either input is smaller than the previous one
+    /// @since 1.1.0
+    public static <A, B, K> Stream<Either<Either<A, B>, Pair<A, B>>> mergeJoin(
+            Stream<? extends A> left,
+            Function<? super A, ? extends K> leftKey,
+            Stream<? extends B> right,
+            Function<? super B, ? extends K> rightKey,
+            Comparator<? super K> comparator,
+            JoinType type) {
+        Objects.requireNonNull(leftKey, "leftKey");
+        Objects.requireNonNull(rightKey, "rightKey");
+        Objects.requireNonNull(comparator, "comparator");
+        Objects.requireNonNull(type, "type");
+        var spliterator = new MergeJoinSpliterator<A, B, K, Either<Either<A, B>, Pair<A, B>>>(
+                left.spliterator(),
+                right.spliterator(),
+                leftKey,
+                rightKey,
+                comparator,
+                Joins::matched,
+                type.keepsLefts() ? Joins::leftOnly : null,
+                type.keepsRights() ? Joins::rightOnly : null);
+        return StreamSupport.stream(spliterator, false).onClose(left::close).onClose(right::close);
+    }
+
+    private static <A, B> Stream<Either<Either<A, B>, Pair<A, B>>> probeLefts(
+            HashJoin<A, B> join, Spliterator<? extends A> lefts, boolean parallel, JoinType type) {
+        return join.probe(
+                lefts,
+                parallel,
+                Joins::matched,
+                type.keepsLefts() ? Joins::leftOnly : null,
+                type.keepsRights() ? Joins::rightOnly : null);
+    }
+
+    private static <A, B> Stream<Either<Either<A, B>, Pair<A, B>>> probeRights(
+            HashJoin<B, A> join, Spliterator<? extends B> rights, boolean parallel, JoinType type) {
+        return join.probe(
+                rights,
+                parallel,
+                (B right, A left) -> matched(left, right),
+                type.keepsRights() ? Joins::rightOnly : null,
+                type.keepsLefts() ? Joins::leftOnly : null);
+    }
+
+    private static <A, B> Either<Either<A, B>, Pair<A, B>> matched(A left, B right) {
+        return Either.right(pair(left, right));
+    }
+
+    private static <A, B> Either<Either<A, B>, Pair<A, B>> leftOnly(A left) {
+        return Either.left(Either.left(left));
+    }
+
+    private static <A, B> Either<Either<A, B>, Pair<A, B>> rightOnly(B right) {
+        return Either.left(Either.right(right));
+    }
+}
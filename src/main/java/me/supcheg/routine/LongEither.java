@@ -0,0 +1,390 @@
+package me.supcheg.routine;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+/// A variant of [Either] whose right branch holds an unboxed `long`.
+///
+/// - [Left] — contains a value of type `L`, usually an error
+/// - [Right] — contains a `long` value, usually a successfully computed result
+///
+/// Operations on the right branch take `long`-specialized functions, so parsing and metric pipelines can produce and
+/// transform numeric results without creating `Long` boxes.
+///
+/// @param <L> type of the left value
+/// @see Either
+/// @see EitherCollectors
+/// @since 1.1.0
+public sealed interface LongEither<L> {
+
+    /// Represents the left variant of [LongEither].
+    ///
+    /// `value` is guaranteed to be non-null.
+    ///
+    /// @param value left value
+    /// @param <L>   type of the stored value
+    /// @since 1.1.0
+    record Left<L>(L value) implements LongEither<L> {
+
+        /// Constructs a [Left] instance with a non-null value.
+        ///
+        /// @throws NullPointerException if [Left#value] is `null`
+        /// @since 1.1.0
+        public Left {
+            Objects.requireNonNull(value, "value");
+        }
+
+        @Override
+        public <NL> LongEither<NL> map(Function<? super L, ? extends NL> left, LongUnaryOperator right) {
+            return new Left<>(left.apply(value));
+        }
+
+        @Override
+        public <NL> LongEither<NL> mapLeft(Function<? super L, ? extends NL> left) {
+            return new Left<>(left.apply(value));
+        }
+
+        @Override
+        public LongEither<L> mapRight(LongUnaryOperator right) {
+            return this;
+        }
+
+        @Override
+        public <NR> Either<L, NR> mapRightToObj(LongFunction<? extends NR> right) {
+            return new Either.Left<>(value);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NL> LongEither<NL> flatMap(
+                Function<? super L, ? extends LongEither<? extends NL>> left,
+                LongFunction<? extends LongEither<? extends NL>> right) {
+            return (LongEither<NL>) Objects.requireNonNull(left.apply(value));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NL> LongEither<NL> flatMapLeft(Function<? super L, ? extends LongEither<? extends NL>> left) {
+            return (LongEither<NL>) Objects.requireNonNull(left.apply(value));
+        }
+
+        @Override
+        public LongEither<L> flatMapRight(LongFunction<? extends LongEither<? extends L>> right) {
+            return this;
+        }
+
+        @Override
+        public <T> T fold(Function<? super L, ? extends T> left, LongFunction<? extends T> right) {
+            return left.apply(value);
+        }
+
+        @Override
+        public long foldToLong(ToLongFunction<? super L> left, LongUnaryOperator right) {
+            return left.applyAsLong(value);
+        }
+
+        @Override
+        public Optional<L> left() {
+            return Optional.of(value);
+        }
+
+        @Override
+        public OptionalLong right() {
+            return OptionalLong.empty();
+        }
+
+        @Override
+        public long rightOrElse(long other) {
+            return other;
+        }
+
+        @Override
+        public LongEither<L> peek(Consumer<? super L> left, LongConsumer right) {
+            left.accept(value);
+            return this;
+        }
+
+        @Override
+        public void accept(Consumer<? super L> left, LongConsumer right) {
+            left.accept(value);
+        }
+
+        @Override
+        public void ifLeft(Consumer<? super L> left) {
+            left.accept(value);
+        }
+
+        @Override
+        public void ifRight(LongConsumer right) {}
+
+        @Override
+        public Either<L, Long> asEither() {
+            return new Either.Left<>(value);
+        }
+    }
+
+    /// Represents the right variant of [LongEither].
+    ///
+    /// @param value right value
+    /// @param <L>   type of the left branch (phantom type parameter)
+    /// @since 1.1.0
+    record Right<L>(long value) implements LongEither<L> {
+
+        @Override
+        public <NL> LongEither<NL> map(Function<? super L, ? extends NL> left, LongUnaryOperator right) {
+            return new Right<>(right.applyAsLong(value));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NL> LongEither<NL> mapLeft(Function<? super L, ? extends NL> left) {
+            return (LongEither<NL>) this;
+        }
+
+        @Override
+        public LongEither<L> mapRight(LongUnaryOperator right) {
+            return new Right<>(right.applyAsLong(value));
+        }
+
+        @Override
+        public <NR> Either<L, NR> mapRightToObj(LongFunction<? extends NR> right) {
+            return new Either.Right<>(right.apply(value));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NL> LongEither<NL> flatMap(
+                Function<? super L, ? extends LongEither<? extends NL>> left,
+                LongFunction<? extends LongEither<? extends NL>> right) {
+            return (LongEither<NL>) Objects.requireNonNull(right.apply(value));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <NL> LongEither<NL> flatMapLeft(Function<? super L, ? extends LongEither<? extends NL>> left) {
+            return (LongEither<NL>) this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public LongEither<L> flatMapRight(LongFunction<? extends LongEither<? extends L>> right) {
+            return (LongEither<L>) Objects.requireNonNull(right.apply(value));
+        }
+
+        @Override
+        public <T> T fold(Function<? super L, ? extends T> left, LongFunction<? extends T> right) {
+            return right.apply(value);
+        }
+
+        @Override
+        public long foldToLong(ToLongFunction<? super L> left, LongUnaryOperator right) {
+            return right.applyAsLong(value);
+        }
+
+        @Override
+        public Optional<L> left() {
+            return Optional.empty();
+        }
+
+        @Override
+        public OptionalLong right() {
+            return OptionalLong.of(value);
+        }
+
+        @Override
+        public long rightOrElse(long other) {
+            return value;
+        }
+
+        @Override
+        public LongEither<L> peek(Consumer<? super L> left, LongConsumer right) {
+            right.accept(value);
+            return this;
+        }
+
+        @Override
+        public void accept(Consumer<? super L> left, LongConsumer right) {
+            right.accept(value);
+        }
+
+        @Override
+        public void ifLeft(Consumer<? super L> left) {}
+
+        @Override
+        public void ifRight(LongConsumer right) {
+            right.accept(value);
+        }
+
+        @Override
+        public Either<L, Long> asEither() {
+            return new Either.Right<>(value);
+        }
+    }
+
+    /// Creates a [Left] instance.
+    ///
+    /// @param value left value
+    /// @param <L>   left type
+    /// @return an [LongEither] in the [Left] state
+    /// @since 1.1.0
+    static <L> Left<L> left(L value) {
+        return new Left<>(value);
+    }
+
+    /// Creates a [Right] instance.
+    ///
+    /// @param value right value
+    /// @param <L>   left type
+    /// @return an [LongEither] in the [Right] state
+    /// @since 1.1.0
+    static <L> Right<L> right(long value) {
+        return new Right<>(value);
+    }
+
+    /// Creates an [LongEither] by unboxing the right value of an [Either].
+    ///
+    /// @param either source either
+    /// @param <L>    left type
+    /// @return an [LongEither] in the same state as the given [Either]
+    /// @since 1.1.0
+    static <L> LongEither<L> longEitherFromEither(Either<L, Long> either) {
+        return switch (either) {
+            case Either.Left(var value) -> left(value);
+            case Either.Right(var value) -> right(value);
+        };
+    }
+
+    /// Applies a bifunctional mapping to both branches.
+    ///
+    /// @param left  mapping function for the left branch
+    /// @param right mapping function for the right branch
+    /// @param <NL>  new left type
+    /// @return a new [LongEither] with transformed value
+    /// @since 1.1.0
+    <NL> LongEither<NL> map(Function<? super L, ? extends NL> left, LongUnaryOperator right);
+
+    /// Maps only the left branch.
+    ///
+    /// @param left mapping function
+    /// @param <NL> new left type
+    /// @return [LongEither] with transformed left value
+    /// @since 1.1.0
+    <NL> LongEither<NL> mapLeft(Function<? super L, ? extends NL> left);
+
+    /// Maps only the right branch.
+    ///
+    /// @param right mapping function
+    /// @return [LongEither] with transformed right value
+    /// @since 1.1.0
+    LongEither<L> mapRight(LongUnaryOperator right);
+
+    /// Maps the right branch to an object, producing a regular [Either].
+    ///
+    /// @param right mapping function
+    /// @param <NR>  new right type
+    /// @return [Either] with the same left value or the transformed right value
+    /// @since 1.1.0
+    <NR> Either<L, NR> mapRightToObj(LongFunction<? extends NR> right);
+
+    /// Performs monadic composition on both branches.
+    ///
+    /// @param left  mapping function for the left branch
+    /// @param right mapping function for the right branch
+    /// @param <NL>  new left type
+    /// @return result of the composition
+    /// @since 1.1.0
+    <NL> LongEither<NL> flatMap(
+            Function<? super L, ? extends LongEither<? extends NL>> left,
+            LongFunction<? extends LongEither<? extends NL>> right);
+
+    /// Monadic composition on the left branch only.
+    ///
+    /// @param left mapping function
+    /// @param <NL> new left type
+    /// @return composed [LongEither]
+    /// @since 1.1.0
+    <NL> LongEither<NL> flatMapLeft(Function<? super L, ? extends LongEither<? extends NL>> left);
+
+    /// Monadic composition on the right branch only.
+    ///
+    /// @param right mapping function
+    /// @return composed [LongEither]
+    /// @since 1.1.0
+    LongEither<L> flatMapRight(LongFunction<? extends LongEither<? extends L>> right);
+
+    /// Folds this [LongEither] into a single value.
+    ///
+    /// @param left  function applied to the left value
+    /// @param right function applied to the right value
+    /// @param <T>   result type
+    /// @return result of applying the corresponding function
+    /// @since 1.1.0
+    <T> T fold(Function<? super L, ? extends T> left, LongFunction<? extends T> right);
+
+    /// Folds this [LongEither] into a single `long` value without boxing the result.
+    ///
+    /// @param left  function applied to the left value
+    /// @param right function applied to the right value
+    /// @return result of applying the corresponding function
+    /// @since 1.1.0
+    long foldToLong(ToLongFunction<? super L> left, LongUnaryOperator right);
+
+    /// Returns the left value wrapped in [Optional], if present.
+    ///
+    /// @return optional left value
+    /// @since 1.1.0
+    Optional<L> left();
+
+    /// Returns the right value wrapped in [OptionalLong], if present.
+    ///
+    /// @return optional right value
+    /// @since 1.1.0
+    OptionalLong right();
+
+    /// Returns the right value if present, otherwise `other`.
+    ///
+    /// @param other value returned when this is [Left]
+    /// @return the right value or `other`
+    /// @since 1.1.0
+    long rightOrElse(long other);
+
+    /// Executes side effects for the corresponding branch without modifying this [LongEither].
+    ///
+    /// @param left  consumer for the left branch
+    /// @param right consumer for the right branch
+    /// @return this [LongEither]
+    /// @since 1.1.0
+    LongEither<L> peek(Consumer<? super L> left, LongConsumer right);
+
+    /// Consumes the value using the appropriate consumer.
+    ///
+    /// @param left  consumer for the left branch
+    /// @param right consumer for the right branch
+    /// @since 1.1.0
+    void accept(Consumer<? super L> left, LongConsumer right);
+
+    /// Executes the given consumer if this value is [Left].
+    ///
+    /// @param left consumer for the left branch
+    /// @since 1.1.0
+    void ifLeft(Consumer<? super L> left);
+
+    /// Executes the given consumer if this value is [Right].
+    ///
+    /// @param right consumer for the right branch
+    /// @since 1.1.0
+    void ifRight(LongConsumer right);
+
+    /// Converts this value into a regular [Either] with a boxed right value.
+    ///
+    /// @return an [Either] in the same state as this value
+    /// @since 1.1.0
+    Either<L, Long> asEither();
+}
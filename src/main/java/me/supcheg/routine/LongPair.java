@@ -0,0 +1,118 @@
+package me.supcheg.routine;
+
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+/// An immutable ordered pair of two `long` values.
+///
+/// This is the `long`-specialized counterpart of [Pair]: both components are stored unboxed, so the pair itself is the
+/// only allocation and no `Long` wrappers are created on the way.
+///
+/// @param left  left component
+/// @param right right component
+/// @see Pair
+/// @since 1.1.0
+public record LongPair(long left, long right) {
+
+    /// Creates a [LongPair] instance.
+    ///
+    /// This is a convenience factory method equivalent to invoking the constructor directly.
+    ///
+    /// @param left  left component
+    /// @param right right component
+    /// @return a new [LongPair] containing the given values
+    /// @since 1.1.0
+    public static LongPair longPair(long left, long right) {
+        return new LongPair(left, right);
+    }
+
+    /// Creates a [LongPair] by unboxing both components of a [Pair].
+    ///
+    /// @param pair source pair
+    /// @return a [LongPair] holding the unboxed components of the given pair
+    /// @since 1.1.0
+    public static LongPair longPairFromPair(Pair<Long, Long> pair) {
+        return new LongPair(pair.left(), pair.right());
+    }
+
+    /// Applies independent mapping functions to both components of this pair.
+    ///
+    /// @param left  mapping function for the left component
+    /// @param right mapping function for the right component
+    /// @return a new [LongPair] with both components transformed
+    /// @since 1.1.0
+    public LongPair map(LongUnaryOperator left, LongUnaryOperator right) {
+        return new LongPair(left.applyAsLong(this.left), right.applyAsLong(this.right));
+    }
+
+    /// Maps the left component while leaving the right component unchanged.
+    ///
+    /// @param left mapping function for the left component
+    /// @return a new [LongPair] with a transformed left component
+    /// @since 1.1.0
+    public LongPair mapLeft(LongUnaryOperator left) {
+        return new LongPair(left.applyAsLong(this.left), right);
+    }
+
+    /// Maps the right component while leaving the left component unchanged.
+    ///
+    /// @param right mapping function for the right component
+    /// @return a new [LongPair] with a transformed right component
+    /// @since 1.1.0
+    public LongPair mapRight(LongUnaryOperator right) {
+        return new LongPair(left, right.applyAsLong(this.right));
+    }
+
+    /// Replaces the left component with a new value.
+    ///
+    /// @param left new left value
+    /// @return a new [LongPair] with the specified left component
+    /// @since 1.1.0
+    public LongPair withLeft(long left) {
+        return new LongPair(left, right);
+    }
+
+    /// Replaces the right component with a new value.
+    ///
+    /// @param right new right value
+    /// @return a new [LongPair] with the specified right component
+    /// @since 1.1.0
+    public LongPair withRight(long right) {
+        return new LongPair(left, right);
+    }
+
+    /// Swaps the left and right components.
+    ///
+    /// @return a [LongPair] with inverted component order
+    /// @since 1.1.0
+    public LongPair flip() {
+        return new LongPair(right, left);
+    }
+
+    /// Folds this [LongPair] into a single value.
+    ///
+    /// @param function a function applied to the left and right components
+    /// @param <T>      result type
+    /// @return the result of applying the function to both components
+    /// @since 1.1.0
+    public <T> T fold(LongBiFunction<? extends T> function) {
+        return function.apply(left, right);
+    }
+
+    /// Folds this [LongPair] into a single `long` value without boxing the result.
+    ///
+    /// @param function an operator applied to the left and right components
+    /// @return the result of applying the operator to both components
+    /// @since 1.1.0
+    public long foldToLong(LongBinaryOperator function) {
+        return function.applyAsLong(left, right);
+    }
+
+    /// Converts this pair into a boxed [Pair].
+    ///
+    /// @return a [Pair] holding the boxed components of this pair
+    /// @since 1.1.0
+    public Pair<Long, Long> asPair() {
+        return new Pair<>(left, right);
+    }
+}
@@ -0,0 +1,249 @@
+package me.supcheg.routine;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+/// An off-heap [PairBuffer] of `(long, long)` pairs.
+///
+/// Each pair takes 16 bytes of native memory, with the left component followed by the right one. The memory is held in
+/// a shared [Arena] that is replaced whenever the buffer grows and closed together with the buffer.
+///
+/// ```java
+/// try (var buffer = new LongPairBuffer()) {
+///     buffer.append(40, 2);
+///     buffer.append(10, 5);
+///     buffer.sortByLeft();
+///     buffer.pairAt(0); // LongPair[left=10, right=5]
+/// }
+/// ```
+///
+/// @see LongPair
+/// @since 1.1.0
+public final class LongPairBuffer implements PairBuffer<Long, Long> {
+
+    private static final long RIGHT_OFFSET = JAVA_LONG.byteSize();
+    private static final long PAIR_BYTES = 2 * RIGHT_OFFSET;
+    private static final long DEFAULT_CAPACITY = 1024;
+
+    private Arena arena;
+    private MemorySegment segment;
+    private long capacity;
+    private long size;
+
+    /// Constructs an empty [LongPairBuffer] with a default initial capacity.
+    ///
+    /// @since 1.1.0
+    public LongPairBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /// Constructs an empty [LongPairBuffer] able to hold `initialCapacity` pairs without growing.
+    ///
+    /// @param initialCapacity initial capacity
+    /// @throws IllegalArgumentException if `initialCapacity` is negative
+    /// @since 1.1.0
+    public LongPairBuffer(long initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+        }
+        this.arena = Arena.ofShared();
+        this.segment = arena.allocate(Math.multiplyExact(initialCapacity, PAIR_BYTES), JAVA_LONG.byteAlignment());
+        this.capacity = initialCapacity;
+    }
+
+    @Override
+    public long size() {
+        ensureOpen();
+        return size;
+    }
+
+    /// Appends a pair of components.
+    ///
+    /// @param left  left component
+    /// @param right right component
+    /// @throws IllegalStateException if this buffer is closed
+    /// @since 1.1.0
+    public void append(long left, long right) {
+        if (size == capacity) {
+            grow(size + 1);
+        }
+        long offset = size * PAIR_BYTES;
+        segment.set(JAVA_LONG, offset, left);
+        segment.set(JAVA_LONG, offset + RIGHT_OFFSET, right);
+        size++;
+    }
+
+    /// Appends the components of a [LongPair].
+    ///
+    /// @param pair pair to append
+    /// @throws IllegalStateException if this buffer is closed
+    /// @since 1.1.0
+    public void append(LongPair pair) {
+        append(pair.left(), pair.right());
+    }
+
+    /// Returns the left component at the given index.
+    ///
+    /// @param index index of the pair
+    /// @return left component
+    /// @throws IndexOutOfBoundsException if `index` is out of range
+    /// @throws IllegalStateException     if this buffer is closed
+    /// @since 1.1.0
+    public long left(long index) {
+        return segment.get(JAVA_LONG, Objects.checkIndex(index, size) * PAIR_BYTES);
+    }
+
+    /// Returns the right component at the given index.
+    ///
+    /// @param index index of the pair
+    /// @return right component
+    /// @throws IndexOutOfBoundsException if `index` is out of range
+    /// @throws IllegalStateException     if this buffer is closed
+    /// @since 1.1.0
+    public long right(long index) {
+        return segment.get(JAVA_LONG, Objects.checkIndex(index, size) * PAIR_BYTES + RIGHT_OFFSET);
+    }
+
+    /// Returns the pair at the given index as a [LongPair].
+    ///
+    /// @param index index of the pair
+    /// @return a [LongPair] of the components at `index`
+    /// @throws IndexOutOfBoundsException if `index` is out of range
+    /// @throws IllegalStateException     if this buffer is closed
+    /// @since 1.1.0
+    public LongPair pairAt(long index) {
+        long offset = Objects.checkIndex(index, size) * PAIR_BYTES;
+        return new LongPair(segment.get(JAVA_LONG, offset), segment.get(JAVA_LONG, offset + RIGHT_OFFSET));
+    }
+
+    @Override
+    public Pair<Long, Long> get(long index) {
+        return pairAt(index).asPair();
+    }
+
+    /// Replaces the pair at the given index.
+    ///
+    /// @param index index of the pair
+    /// @param left  new left component
+    /// @param right new right component
+    /// @throws IndexOutOfBoundsException if `index` is out of range
+    /// @throws IllegalStateException     if this buffer is closed
+    /// @since 1.1.0
+    public void set(long index, long left, long right) {
+        long offset = Objects.checkIndex(index, size) * PAIR_BYTES;
+        segment.set(JAVA_LONG, offset, left);
+        segment.set(JAVA_LONG, offset + RIGHT_OFFSET, right);
+    }
+
+    @Override
+    public void sortByLeft() {
+        sort(0);
+    }
+
+    @Override
+    public void sortByRight() {
+        sort(RIGHT_OFFSET);
+    }
+
+    @Override
+    public void clear() {
+        ensureOpen();
+        size = 0;
+    }
+
+    /// Returns a sequential [Stream] of the pairs in this buffer as [LongPair].
+    ///
+    /// The stream reads the buffer lazily up to its size at the time this method is called, and splits evenly when
+    /// made parallel.
+    ///
+    /// @return a stream of pairs in index order
+    /// @since 1.1.0
+    public Stream<LongPair> longPairs() {
+        ensureOpen();
+        return StreamSupport.stream(new IndexedSpliterator<>(this::pairAt, 0, size), false);
+    }
+
+    @Override
+    public Stream<Pair<Long, Long>> stream() {
+        ensureOpen();
+        return StreamSupport.stream(new IndexedSpliterator<>(this::get, 0, size), false);
+    }
+
+    @Override
+    public void close() {
+        if (arena.scope().isAlive()) {
+            arena.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LongPairBuffer[size=" + size + ", capacity=" + capacity + "]";
+    }
+
+    // Backing memory for PairSort; only the first size() pairs are valid.
+    MemorySegment segment() {
+        ensureOpen();
+        return segment;
+    }
+
+    private void sort(long keyOffset) {
+        ensureOpen();
+        long otherOffset = RIGHT_OFFSET - keyOffset;
+        var segment = this.segment;
+        IndexedSort.sort(
+                new IndexedSort.Sortable() {
+                    @Override
+                    public int compare(long i, long j) {
+                        long a = i * PAIR_BYTES;
+                        long b = j * PAIR_BYTES;
+                        int byKey = Long.compare(
+                                segment.get(JAVA_LONG, a + keyOffset), segment.get(JAVA_LONG, b + keyOffset));
+                        if (byKey != 0) {
+                            return byKey;
+                        }
+                        return Long.compare(
+                                segment.get(JAVA_LONG, a + otherOffset), segment.get(JAVA_LONG, b + otherOffset));
+                    }
+
+                    @Override
+                    public void swap(long i, long j) {
+                        long a = i * PAIR_BYTES;
+                        long b = j * PAIR_BYTES;
+                        long left = segment.get(JAVA_LONG, a);
+                        long right = segment.get(JAVA_LONG, a + RIGHT_OFFSET);
+                        segment.set(JAVA_LONG, a, segment.get(JAVA_LONG, b));
+                        segment.set(JAVA_LONG, a + RIGHT_OFFSET, segment.get(JAVA_LONG, b + RIGHT_OFFSET));
+                        segment.set(JAVA_LONG, b, left);
+                        segment.set(JAVA_LONG, b + RIGHT_OFFSET, right);
+                    }
+                },
+                0,
+                size);
+    }
+
+    // Native memory cannot be resized in place: the pairs are copied into a segment of a fresh arena and the old arena
+    // is closed right away, so at most two segments are alive at any time.
+    private void grow(long minCapacity) {
+        ensureOpen();
+        long newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));
+        var newArena = Arena.ofShared();
+        var newSegment = newArena.allocate(Math.multiplyExact(newCapacity, PAIR_BYTES), JAVA_LONG.byteAlignment());
+        MemorySegment.copy(segment, 0, newSegment, 0, size * PAIR_BYTES);
+        arena.close();
+        arena = newArena;
+        segment = newSegment;
+        capacity = newCapacity;
+    }
+
+    private void ensureOpen() {
+        if (!arena.scope().isAlive()) {
+            throw new IllegalStateException("Buffer is closed");
+        }
+    }
+}
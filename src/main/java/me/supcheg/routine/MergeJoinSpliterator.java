@@ -0,0 +1,158 @@
+package me.supcheg.routine;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Sort-merge join of Joins#mergeJoin over two inputs sorted by key. Both inputs are read one row at a time; the only
+// rows held in memory are the current run of right rows sharing a key, which every left row with that key is paired
+// with. Keys that go backwards on either side fail the join instead of silently dropping matches. Keys may be null
+// if the comparator accepts them, so the presence of a run or a previous key is tracked by flags rather than by null.
+final class MergeJoinSpliterator<A, B, K, R> implements Spliterator<R> {
+
+    private final Spliterator<? extends A> lefts;
+    private final Spliterator<? extends B> rights;
+    private final Function<? super A, ? extends K> leftKey;
+    private final Function<? super B, ? extends K> rightKey;
+    private final Comparator<? super K> comparator;
+    private final BiFunction<? super A, ? super B, ? extends R> match;
+    private final @Nullable Function<? super A, ? extends R> leftOnly;
+    private final @Nullable Function<? super B, ? extends R> rightOnly;
+
+    private final ArrayList<B> run = new ArrayList<>();
+    private @Nullable K runKey;
+    private boolean inRun;
+    private int runCursor = -1;
+
+    private @Nullable A left;
+    private @Nullable K leftKeyValue;
+    private boolean hasLeft;
+    private @Nullable B right;
+    private @Nullable K rightKeyValue;
+    private boolean hasRight;
+    private boolean started;
+
+    MergeJoinSpliterator(
+            Spliterator<? extends A> lefts,
+            Spliterator<? extends B> rights,
+            Function<? super A, ? extends K> leftKey,
+            Function<? super B, ? extends K> rightKey,
+            Comparator<? super K> comparator,
+            BiFunction<? super A, ? super B, ? extends R> match,
+            @Nullable Function<? super A, ? extends R> leftOnly,
+            @Nullable Function<? super B, ? extends R> rightOnly) {
+        this.lefts = lefts;
+        this.rights = rights;
+        this.leftKey = leftKey;
+        this.rightKey = rightKey;
+        this.comparator = comparator;
+        this.match = match;
+        this.leftOnly = leftOnly;
+        this.rightOnly = rightOnly;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        if (!started) {
+            started = true;
+            advanceLeft();
+            advanceRight();
+        }
+        while (true) {
+            if (runCursor >= 0) {
+                if (runCursor < run.size()) {
+                    action.accept(match.apply(left, run.get(runCursor++)));
+                    return true;
+                }
+                runCursor = -1;
+                advanceLeft();
+            }
+            if (inRun) {
+                if (hasLeft && comparator.compare(leftKeyValue, runKey) == 0) {
+                    runCursor = 0;
+                    continue;
+                }
+                run.clear();
+                runKey = null;
+                inRun = false;
+            }
+            if (!hasLeft && !hasRight) {
+                return false;
+            }
+            int order = !hasLeft ? 1 : !hasRight ? -1 : comparator.compare(leftKeyValue, rightKeyValue);
+            if (order < 0) {
+                var value = left;
+                advanceLeft();
+                if (leftOnly != null) {
+                    action.accept(leftOnly.apply(value));
+                    return true;
+                }
+            } else if (order > 0) {
+                var value = right;
+                advanceRight();
+                if (rightOnly != null) {
+                    action.accept(rightOnly.apply(value));
+                    return true;
+                }
+            } else {
+                runKey = rightKeyValue;
+                inRun = true;
+                do {
+                    run.add(right);
+                    advanceRight();
+                } while (hasRight && comparator.compare(rightKeyValue, runKey) == 0);
+                runCursor = 0;
+            }
+        }
+    }
+
+    @Override
+    public @Nullable Spliterator<R> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = lefts.estimateSize() + rights.estimateSize();
+        return size < 0 ? Long.MAX_VALUE : size;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    private void advanceLeft() {
+        boolean hadLeft = hasLeft;
+        var previous = leftKeyValue;
+        hasLeft = lefts.tryAdvance(value -> {
+            left = value;
+            leftKeyValue = leftKey.apply(value);
+        });
+        if (!hasLeft) {
+            left = null;
+        } else if (hadLeft && comparator.compare(previous, leftKeyValue) > 0) {
+            throw new IllegalStateException("Left input is not sorted by key: " + leftKeyValue + " after " + previous);
+        }
+    }
+
+    private void advanceRight() {
+        boolean hadRight = hasRight;
+        var previous = rightKeyValue;
+        hasRight = rights.tryAdvance(value -> {
+            right = value;
+            rightKeyValue = rightKey.apply(value);
+        });
+        if (!hasRight) {
+            right = null;
+        } else if (hadRight && comparator.compare(previous, rightKeyValue) > 0) {
+            throw new IllegalStateException(
+                    "Right input is not sorted by key: " + rightKeyValue + " after " + previous);
+        }
+    }
+}
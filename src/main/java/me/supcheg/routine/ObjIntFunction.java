@@ -0,0 +1,21 @@
+package me.supcheg.routine;
+
+/// Represents a function that accepts an object-valued and an `int`-valued argument and produces a result.
+///
+/// This is the `(U, int)` specialization of [java.util.function.BiFunction].
+///
+/// @param <U> the type of the first argument to the function
+/// @param <T> the type of the result of the function
+/// @see ObjIntPair
+/// @since 1.1.0
+@FunctionalInterface
+public interface ObjIntFunction<U, T> {
+
+    /// Applies this function to the given arguments.
+    ///
+    /// @param left  the first function argument
+    /// @param right the second function argument
+    /// @return the function result
+    /// @since 1.1.0
+    T apply(U left, int right);
+}
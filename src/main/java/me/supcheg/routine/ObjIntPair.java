@@ -0,0 +1,124 @@
+package me.supcheg.routine;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+
+/// An immutable ordered pair of a non-null object and an `int` value.
+///
+/// This is the counterpart of [Pair] with an unboxed right component, typically used for `(value, count)` tuples.
+///
+/// @param left  left component
+/// @param right right component
+/// @param <L>   type of the left component
+/// @see IntObjPair
+/// @see Pair
+/// @since 1.1.0
+public record ObjIntPair<L>(L left, int right) {
+
+    /// Constructs an [ObjIntPair] with a non-null left component.
+    ///
+    /// @throws NullPointerException if [ObjIntPair#left] is `null`
+    /// @since 1.1.0
+    public ObjIntPair {
+        Objects.requireNonNull(left, "left");
+    }
+
+    /// Creates an [ObjIntPair] instance.
+    ///
+    /// This is a convenience factory method equivalent to invoking the constructor directly.
+    ///
+    /// @param left  left component
+    /// @param right right component
+    /// @param <L>   left type
+    /// @return a new [ObjIntPair] containing the given values
+    /// @since 1.1.0
+    public static <L> ObjIntPair<L> objIntPair(L left, int right) {
+        return new ObjIntPair<>(left, right);
+    }
+
+    /// Creates an [ObjIntPair] by unboxing the right component of a [Pair].
+    ///
+    /// @param pair source pair
+    /// @param <L>  left type
+    /// @return an [ObjIntPair] holding the components of the given pair
+    /// @since 1.1.0
+    public static <L> ObjIntPair<L> objIntPairFromPair(Pair<L, Integer> pair) {
+        return new ObjIntPair<>(pair.left(), pair.right());
+    }
+
+    /// Applies independent mapping functions to both components of this pair.
+    ///
+    /// @param left  mapping function for the left component
+    /// @param right mapping function for the right component
+    /// @param <NL>  new left type
+    /// @return a new [ObjIntPair] with both components transformed
+    /// @since 1.1.0
+    public <NL> ObjIntPair<NL> map(Function<? super L, ? extends NL> left, IntUnaryOperator right) {
+        return new ObjIntPair<>(left.apply(this.left), right.applyAsInt(this.right));
+    }
+
+    /// Maps the left component while leaving the right component unchanged.
+    ///
+    /// @param left mapping function for the left component
+    /// @param <NL> new left type
+    /// @return a new [ObjIntPair] with a transformed left component
+    /// @since 1.1.0
+    public <NL> ObjIntPair<NL> mapLeft(Function<? super L, ? extends NL> left) {
+        return new ObjIntPair<>(left.apply(this.left), right);
+    }
+
+    /// Maps the right component while leaving the left component unchanged.
+    ///
+    /// @param right mapping function for the right component
+    /// @return a new [ObjIntPair] with a transformed right component
+    /// @since 1.1.0
+    public ObjIntPair<L> mapRight(IntUnaryOperator right) {
+        return new ObjIntPair<>(left, right.applyAsInt(this.right));
+    }
+
+    /// Replaces the left component with a new value.
+    ///
+    /// @param left new left value
+    /// @param <NL> new left type
+    /// @return a new [ObjIntPair] with the specified left component
+    /// @since 1.1.0
+    public <NL> ObjIntPair<NL> withLeft(NL left) {
+        return new ObjIntPair<>(left, right);
+    }
+
+    /// Replaces the right component with a new value.
+    ///
+    /// @param right new right value
+    /// @return a new [ObjIntPair] with the specified right component
+    /// @since 1.1.0
+    public ObjIntPair<L> withRight(int right) {
+        return new ObjIntPair<>(left, right);
+    }
+
+    /// Swaps the left and right components.
+    ///
+    /// @return an [IntObjPair] with inverted component order
+    /// @since 1.1.0
+    public IntObjPair<L> flip() {
+        return new IntObjPair<>(right, left);
+    }
+
+    /// Folds this [ObjIntPair] into a single value.
+    ///
+    /// @param function a function applied to the left and right components
+    /// @param <T>      result type
+    /// @return the result of applying the function to both components
+    /// @since 1.1.0
+    public <T> T fold(ObjIntFunction<? super L, ? extends T> function) {
+        return function.apply(left, right);
+    }
+
+    /// Converts this pair into a boxed [Pair].
+    ///
+    /// @return a [Pair] holding the left component and the boxed right component of this pair
+    /// @since 1.1.0
+    public Pair<L, Integer> asPair() {
+        return new Pair<>(left, right);
+    }
+}
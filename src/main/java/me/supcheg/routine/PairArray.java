@@ -0,0 +1,346 @@
+package me.supcheg.routine;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/// A growable, columnar sequence of pairs of **non-null values**.
+///
+/// Left and right components are stored in two parallel arrays instead of one [Pair] object per element, so a
+/// `PairArray` of `n` elements costs two array slots per element rather than an object header plus three references.
+/// Elements are materialized as [Pair] only when requested through [#get(int)] or [#stream()]; [#view(int)] and
+/// [#forEach(BiConsumer)] read components in place.
+///
+/// This class is not thread-safe. Streams and spliterators cover the pairs present when they are created and are
+/// not affected by later appends. They read the arrays that back this one at creation time in place rather than
+/// copying them: [#set(int, Object, Object)] is visible to them only until an append grows those arrays, and they
+/// must not be used after [#clear()].
+///
+/// @param <L> type of the left components
+/// @param <R> type of the right components
+/// @see Pair
+/// @see EitherArray
+/// @since 1.1.0
+public final class PairArray<L, R> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] lefts;
+    private Object[] rights;
+    private int size;
+
+    /// Constructs an empty [PairArray] with a default initial capacity.
+    ///
+    /// @since 1.1.0
+    public PairArray() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /// Constructs an empty [PairArray] able to hold `initialCapacity` pairs without growing.
+    ///
+    /// @param initialCapacity initial capacity
+    /// @throws IllegalArgumentException if `initialCapacity` is negative
+    /// @since 1.1.0
+    public PairArray(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+        }
+        this.lefts = new Object[initialCapacity];
+        this.rights = new Object[initialCapacity];
+    }
+
+    /// Returns a [Collector] that accumulates pairs into a new [PairArray] in encounter order.
+    ///
+    /// @param <L> type of the left components
+    /// @param <R> type of the right components
+    /// @return a [Collector] producing a [PairArray]
+    /// @since 1.1.0
+    public static <L, R> Collector<Pair<? extends L, ? extends R>, ?, PairArray<L, R>> toPairArray() {
+        return Collector.of(PairArray::new, PairArray::add, (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+    }
+
+    /// Returns the number of pairs in this array.
+    ///
+    /// @return number of pairs
+    /// @since 1.1.0
+    public int size() {
+        return size;
+    }
+
+    /// Returns whether this array contains no pairs.
+    ///
+    /// @return `true` if [#size()] is `0`
+    /// @since 1.1.0
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /// Appends a pair of components.
+    ///
+    /// @param left  left component
+    /// @param right right component
+    /// @throws NullPointerException if either component is `null`
+    /// @since 1.1.0
+    public void add(L left, R right) {
+        Objects.requireNonNull(left, "left");
+        Objects.requireNonNull(right, "right");
+        if (size == lefts.length) {
+            grow(size + 1);
+        }
+        lefts[size] = left;
+        rights[size] = right;
+        size++;
+    }
+
+    /// Appends the components of a [Pair].
+    ///
+    /// @param pair pair to append
+    /// @since 1.1.0
+    public void add(Pair<? extends L, ? extends R> pair) {
+        add(pair.left(), pair.right());
+    }
+
+    /// Appends all pairs of another [PairArray].
+    ///
+    /// @param other array to append
+    /// @since 1.1.0
+    public void addAll(PairArray<? extends L, ? extends R> other) {
+        int count = other.size;
+        if (size + count > lefts.length) {
+            grow(size + count);
+        }
+        System.arraycopy(other.lefts, 0, lefts, size, count);
+        System.arraycopy(other.rights, 0, rights, size, count);
+        size += count;
+    }
+
+    /// Appends all pairs of a stream in encounter order.
+    ///
+    /// Parallel streams are collected into intermediate arrays that are then copied in bulk.
+    ///
+    /// @param stream stream of pairs to append
+    /// @since 1.1.0
+    public void addAll(Stream<? extends Pair<? extends L, ? extends R>> stream) {
+        if (stream.isParallel()) {
+            addAll(stream.collect(PairArray.<L, R>toPairArray()));
+        } else {
+            stream.forEachOrdered(this::add);
+        }
+    }
+
+    /// Returns the left component at the given index.
+    ///
+    /// @param index index of the pair
+    /// @return left component
+    /// @throws IndexOutOfBoundsException if `index` is out of range
+    /// @since 1.1.0
+    @SuppressWarnings("unchecked")
+    public L left(int index) {
+        return (L) lefts[Objects.checkIndex(index, size)];
+    }
+
+    /// Returns the right component at the given index.
+    ///
+    /// @param index index of the pair
+    /// @return right component
+    /// @throws IndexOutOfBoundsException if `index` is out of range
+    /// @since 1.1.0
+    @SuppressWarnings("unchecked")
+    public R right(int index) {
+        return (R) rights[Objects.checkIndex(index, size)];
+    }
+
+    /// Returns the pair at the given index as a new [Pair].
+    ///
+    /// @param index index of the pair
+    /// @return a [Pair] of the components at `index`
+    /// @throws IndexOutOfBoundsException if `index` is out of range
+    /// @since 1.1.0
+    public Pair<L, R> get(int index) {
+        return new Pair<>(left(index), right(index));
+    }
+
+    /// Replaces the pair at the given index.
+    ///
+    /// @param index index of the pair
+    /// @param left  new left component
+    /// @param right new right component
+    /// @throws IndexOutOfBoundsException if `index` is out of range
+    /// @throws NullPointerException      if either component is `null`
+    /// @since 1.1.0
+    public void set(int index, L left, R right) {
+        Objects.checkIndex(index, size);
+        lefts[index] = Objects.requireNonNull(left, "left");
+        rights[index] = Objects.requireNonNull(right, "right");
+    }
+
+    /// Returns a [View] positioned at the given index.
+    ///
+    /// @param index index of the pair
+    /// @return a view reading the pair at `index` in place
+    /// @throws IndexOutOfBoundsException if `index` is out of range
+    /// @since 1.1.0
+    public View<L, R> view(int index) {
+        return new View<>(this, Objects.checkIndex(index, size));
+    }
+
+    /// Performs the given action for each pair in index order without materializing [Pair] instances.
+    ///
+    /// @param action action to perform on the left and right components
+    /// @since 1.1.0
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super L, ? super R> action) {
+        var lefts = this.lefts;
+        var rights = this.rights;
+        for (int index = 0, size = this.size; index < size; index++) {
+            action.accept((L) lefts[index], (R) rights[index]);
+        }
+    }
+
+    /// Removes all pairs from this array, keeping its capacity.
+    ///
+    /// @since 1.1.0
+    public void clear() {
+        Arrays.fill(lefts, 0, size, null);
+        Arrays.fill(rights, 0, size, null);
+        size = 0;
+    }
+
+    /// Returns a [Spliterator] over the pairs of this array.
+    ///
+    /// The spliterator is `ORDERED`, `SIZED`, `SUBSIZED` and `NONNULL`, and splits the remaining range in halves. It
+    /// covers the pairs present when it is created and reads the current backing arrays in place, so it sees later
+    /// [#set(int, Object, Object)] calls only until an append grows the array, and must not be used after
+    /// [#clear()].
+    ///
+    /// @return a spliterator materializing each element as a [Pair]
+    /// @since 1.1.0
+    @SuppressWarnings("unchecked")
+    public Spliterator<Pair<L, R>> spliterator() {
+        var lefts = this.lefts;
+        var rights = this.rights;
+        return new IndexedSpliterator<>(index -> new Pair<>((L) lefts[(int) index], (R) rights[(int) index]), 0, size);
+    }
+
+    /// Returns a sequential [Stream] over the pairs of this array.
+    ///
+    /// @return a stream of pairs in index order
+    /// @since 1.1.0
+    public Stream<Pair<L, R>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /// Returns a parallel [Stream] over the pairs of this array.
+    ///
+    /// @return a parallel stream of pairs in index order
+    /// @since 1.1.0
+    public Stream<Pair<L, R>> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    @Override
+    public String toString() {
+        var builder = new StringBuilder("[");
+        for (int index = 0; index < size; index++) {
+            if (index > 0) {
+                builder.append(", ");
+            }
+            builder.append('(').append(lefts[index]).append(", ").append(rights[index]).append(')');
+        }
+        return builder.append(']').toString();
+    }
+
+    // Backing columns for PairSort; only the first size() slots hold pairs.
+    Object[] lefts() {
+        return lefts;
+    }
+
+    Object[] rights() {
+        return rights;
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required array length is too large");
+        }
+        int capacity = Math.max(minCapacity, lefts.length + (lefts.length >> 1));
+        if (capacity < 0) {
+            capacity = minCapacity;
+        }
+        lefts = Arrays.copyOf(lefts, capacity);
+        rights = Arrays.copyOf(rights, capacity);
+    }
+
+    /// A reusable cursor reading one pair of a [PairArray] in place.
+    ///
+    /// A view does not copy components; it reflects the current contents of the array at its index. One view can be
+    /// moved over the whole array with [#moveTo(int)] to read all pairs without allocating.
+    ///
+    /// @param <L> type of the left component
+    /// @param <R> type of the right component
+    /// @since 1.1.0
+    public static final class View<L, R> {
+        private final PairArray<L, R> array;
+        private int index;
+
+        private View(PairArray<L, R> array, int index) {
+            this.array = array;
+            this.index = index;
+        }
+
+        /// Returns the index this view is positioned at.
+        ///
+        /// @return current index
+        /// @since 1.1.0
+        public int index() {
+            return index;
+        }
+
+        /// Positions this view at another index.
+        ///
+        /// @param index new index
+        /// @return this view
+        /// @throws IndexOutOfBoundsException if `index` is out of range
+        /// @since 1.1.0
+        public View<L, R> moveTo(int index) {
+            this.index = Objects.checkIndex(index, array.size);
+            return this;
+        }
+
+        /// Returns the left component at the current index.
+        ///
+        /// @return left component
+        /// @since 1.1.0
+        public L left() {
+            return array.left(index);
+        }
+
+        /// Returns the right component at the current index.
+        ///
+        /// @return right component
+        /// @since 1.1.0
+        public R right() {
+            return array.right(index);
+        }
+
+        /// Materializes the pair at the current index.
+        ///
+        /// @return a new [Pair]
+        /// @since 1.1.0
+        public Pair<L, R> toPair() {
+            return array.get(index);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left() + ", " + right() + ")";
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package me.supcheg.routine;
+
+import java.util.stream.Stream;
+
+/// A growable, off-heap sequence of pairs of primitive values.
+///
+/// Pairs are stored in native memory owned by the buffer, so they are invisible to the garbage collector no matter how
+/// many there are. The memory is released by [#close()]; any access to a closed buffer throws
+/// [IllegalStateException].
+///
+/// Buffers are not thread-safe for writing. Reading, including from parallel streams, is safe as long as no thread
+/// appends, sorts or closes the buffer at the same time.
+///
+/// @param <L> boxed type of the left components
+/// @param <R> boxed type of the right components
+/// @see LongPairBuffer
+/// @see IntPairBuffer
+/// @since 1.1.0
+public sealed interface PairBuffer<L, R> extends AutoCloseable permits IntPairBuffer, LongPairBuffer {
+
+    /// Returns the number of pairs in this buffer.
+    ///
+    /// @return number of pairs
+    /// @since 1.1.0
+    long size();
+
+    /// Returns whether this buffer contains no pairs.
+    ///
+    /// @return `true` if [#size()] is `0`
+    /// @since 1.1.0
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /// Returns the pair at the given index as a boxed [Pair].
+    ///
+    /// @param index index of the pair
+    /// @return a [Pair] of the components at `index`
+    /// @throws IndexOutOfBoundsException if `index` is out of range
+    /// @since 1.1.0
+    Pair<L, R> get(long index);
+
+    /// Sorts the pairs in ascending order of their left components, breaking ties by right components.
+    ///
+    /// @since 1.1.0
+    void sortByLeft();
+
+    /// Sorts the pairs in ascending order of their right components, breaking ties by left components.
+    ///
+    /// @since 1.1.0
+    void sortByRight();
+
+    /// Removes all pairs from this buffer, keeping the allocated memory.
+    ///
+    /// @since 1.1.0
+    void clear();
+
+    /// Returns a sequential [Stream] of the pairs in this buffer, boxed as [Pair].
+    ///
+    /// The stream reads the buffer lazily up to its size at the time this method is called, and splits evenly when
+    /// made parallel.
+    ///
+    /// @return a stream of pairs in index order
+    /// @since 1.1.0
+    Stream<Pair<L, R>> stream();
+
+    /// Releases the native memory of this buffer.
+    ///
+    /// Closing an already closed buffer has no effect.
+    ///
+    /// @since 1.1.0
+    @Override
+    void close();
+}
@@ -0,0 +1,153 @@
+package me.supcheg.routine;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collector.Characteristics;
+
+/// Utility class providing collectors for aggregating [Pair].
+///
+/// @see Pair
+/// @see EitherCollectors
+/// @since 1.1.0
+public final class PairCollectors {
+
+    private PairCollectors() {}
+
+    /// Collects a stream of [Pair] into a [Pair], feeding the left and right components to separate downstream
+    /// collectors in a single pass.
+    ///
+    /// The returned collector has the characteristics shared by both downstream collectors, so it is `CONCURRENT`,
+    /// `UNORDERED` or `IDENTITY_FINISH` only if both downstreams are. In a parallel stream the left and right
+    /// containers of two splits are combined with their own downstream combiners.
+    ///
+    /// @param leftDownstream  collector to accumulate left components
+    /// @param rightDownstream collector to accumulate right components
+    /// @param <L>             type of left components
+    /// @param <R>             type of right components
+    /// @param <LA>            intermediate accumulation type of the left collector
+    /// @param <RA>            intermediate accumulation type of the right collector
+    /// @param <LR>            final type for left components
+    /// @param <RR>            final type for right components
+    /// @return a [Collector] producing a [Pair] of the left and right downstream results
+    ///
+    /// ```java
+    /// Stream<Pair<String, Integer>> stream = Stream.of(
+    ///     Pair.pair("a", 1),
+    ///     Pair.pair("b", 2)
+    /// );
+    ///
+    /// Pair<List<String>, Integer> result = stream.collect(
+    ///     PairCollectors.unzipping(
+    ///         Collectors.toList(),
+    ///         Collectors.summingInt(Integer::intValue)
+    ///     )
+    /// );
+    /// // result.left() -> ["a", "b"]
+    /// // result.right() -> 3
+    /// ```
+    /// @since 1.1.0
+    public static <L, R, LA, RA, LR, RR> Collector<Pair<L, R>, ?, Pair<LR, RR>> unzipping(
+            Collector<? super L, LA, ? extends LR> leftDownstream,
+            Collector<? super R, RA, ? extends RR> rightDownstream) {
+        Objects.requireNonNull(leftDownstream, "leftDownstream");
+        Objects.requireNonNull(rightDownstream, "rightDownstream");
+        return new UnzippingCollector<>(leftDownstream, rightDownstream);
+    }
+
+    /// Collects a stream of [Pair] into a [HashMap], using the left components as keys and the right components as
+    /// values.
+    ///
+    /// Unlike `Collectors.toMap(Pair::left, Pair::right)` or collecting [Pair#asEntry()], the components are put into
+    /// the map directly, without key and value extractors or intermediate [Map.Entry] objects.
+    ///
+    /// @param <K> type of left components, the keys
+    /// @param <V> type of right components, the values
+    /// @return a [Collector] producing a [Map] from left to right components
+    /// @throws IllegalStateException at collection time, if two pairs have equal left components
+    /// @since 1.1.0
+    public static <K, V> Collector<Pair<K, V>, ?, Map<K, V>> toMap() {
+        return Collector.of(
+                HashMap::new,
+                PairCollectors::putUnique,
+                PairCollectors::putAllUnique,
+                Characteristics.IDENTITY_FINISH);
+    }
+
+    /// Collects a stream of [Pair] into a [HashMap] like [#toMap()], merging the right components of pairs with
+    /// equal left components.
+    ///
+    /// @param mergeFunction function resolving collisions between values associated with the same key
+    /// @param <K>           type of left components, the keys
+    /// @param <V>           type of right components, the values
+    /// @return a [Collector] producing a [Map] from left to merged right components
+    /// @since 1.1.0
+    public static <K, V> Collector<Pair<K, V>, ?, Map<K, V>> toMap(BinaryOperator<V> mergeFunction) {
+        return toMap(mergeFunction, HashMap::new);
+    }
+
+    /// Collects a stream of [Pair] into a [Map] created by the given factory like [#toMap()], merging the right
+    /// components of pairs with equal left components.
+    ///
+    /// @param mergeFunction function resolving collisions between values associated with the same key
+    /// @param mapFactory    supplier of new empty maps
+    /// @param <K>           type of left components, the keys
+    /// @param <V>           type of right components, the values
+    /// @param <M>           type of the resulting map
+    /// @return a [Collector] producing a [Map] from left to merged right components
+    /// @since 1.1.0
+    public static <K, V, M extends Map<K, V>> Collector<Pair<K, V>, ?, M> toMap(
+            BinaryOperator<V> mergeFunction, Supplier<M> mapFactory) {
+        Objects.requireNonNull(mergeFunction, "mergeFunction");
+        Objects.requireNonNull(mapFactory, "mapFactory");
+        return Collector.of(
+                mapFactory,
+                (map, pair) -> map.merge(pair.left(), pair.right(), mergeFunction),
+                (left, right) -> {
+                    right.forEach((key, value) -> left.merge(key, value, mergeFunction));
+                    return left;
+                },
+                Characteristics.IDENTITY_FINISH);
+    }
+
+    private static <K, V> void putUnique(Map<K, V> map, Pair<K, V> pair) {
+        var previous = map.putIfAbsent(pair.left(), pair.right());
+        if (previous != null) {
+            throw duplicateKey(pair.left(), previous, pair.right());
+        }
+    }
+
+    private static <K, V> Map<K, V> putAllUnique(Map<K, V> left, Map<K, V> right) {
+        for (var entry : right.entrySet()) {
+            var previous = left.putIfAbsent(entry.getKey(), entry.getValue());
+            if (previous != null) {
+                throw duplicateKey(entry.getKey(), previous, entry.getValue());
+            }
+        }
+        return left;
+    }
+
+    private static IllegalStateException duplicateKey(Object key, Object previous, Object value) {
+        return new IllegalStateException(
+                "Duplicate key " + key + " (attempted merging values " + previous + " and " + value + ")");
+    }
+
+    private static final class UnzippingCollector<L, R, LA, RA, LR, RR>
+            extends BiDownstreamCollector<Pair<L, R>, L, R, LA, RA, LR, RR> {
+
+        private UnzippingCollector(
+                Collector<? super L, LA, ? extends LR> leftDownstream,
+                Collector<? super R, RA, ? extends RR> rightDownstream) {
+            super(leftDownstream, rightDownstream);
+        }
+
+        @Override
+        void accumulate(Pair<LA, RA> container, Pair<L, R> pair) {
+            leftAccumulator.accept(container.left(), pair.left());
+            rightAccumulator.accept(container.right(), pair.right());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package me.supcheg.routine;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.Objects;
+
+/// Utility class providing lexicographic comparators for [Pair], [IntPair] and [LongPair].
+///
+/// Each comparator is a single class comparing both components in one `compare` call, instead of a
+/// `Comparator.comparing(Pair::left).thenComparing(Pair::right)` chain of key extractors and wrapped comparators. The
+/// natural-order variants call `compareTo` directly, and the primitive variants compare unboxed components.
+///
+/// ```java
+/// pairs.sort(PairComparators.leftThenRight());
+/// ranking.sort(PairComparators.rightThenLeft(Comparator.reverseOrder(), Comparator.naturalOrder()));
+/// ```
+///
+/// All comparators are serializable if the given component comparators are.
+///
+/// @see Pair
+/// @see PairSort
+/// @since 1.1.0
+public final class PairComparators {
+
+    private PairComparators() {}
+
+    /// Returns a comparator ordering pairs by the natural order of their left components, then of their right ones.
+    ///
+    /// @param <L> type of the left components
+    /// @param <R> type of the right components
+    /// @return a lexicographic comparator, left component first
+    /// @since 1.1.0
+    @SuppressWarnings("unchecked")
+    public static <L extends Comparable<? super L>, R extends Comparable<? super R>>
+            Comparator<Pair<L, R>> leftThenRight() {
+        return (Comparator<Pair<L, R>>) (Comparator<?>) NaturalOrder.LEFT_THEN_RIGHT;
+    }
+
+    /// Returns a comparator ordering pairs by the natural order of their right components, then of their left ones.
+    ///
+    /// @param <L> type of the left components
+    /// @param <R> type of the right components
+    /// @return a lexicographic comparator, right component first
+    /// @since 1.1.0
+    @SuppressWarnings("unchecked")
+    public static <L extends Comparable<? super L>, R extends Comparable<? super R>>
+            Comparator<Pair<L, R>> rightThenLeft() {
+        return (Comparator<Pair<L, R>>) (Comparator<?>) NaturalOrder.RIGHT_THEN_LEFT;
+    }
+
+    /// Returns a comparator ordering pairs by their left components, then by their right ones.
+    ///
+    /// @param left  order of the left components
+    /// @param right order of the right components, applied to pairs with equal left components
+    /// @param <L>   type of the left components
+    /// @param <R>   type of the right components
+    /// @return a lexicographic comparator, left component first
+    /// @since 1.1.0
+    public static <L, R> Comparator<Pair<L, R>> leftThenRight(
+            Comparator<? super L> left, Comparator<? super R> right) {
+        return new LeftThenRight<>(Objects.requireNonNull(left, "left"), Objects.requireNonNull(right, "right"));
+    }
+
+    /// Returns a comparator ordering pairs by their right components, then by their left ones.
+    ///
+    /// @param right order of the right components
+    /// @param left  order of the left components, applied to pairs with equal right components
+    /// @param <L>   type of the left components
+    /// @param <R>   type of the right components
+    /// @return a lexicographic comparator, right component first
+    /// @since 1.1.0
+    public static <L, R> Comparator<Pair<L, R>> rightThenLeft(
+            Comparator<? super R> right, Comparator<? super L> left) {
+        return new RightThenLeft<>(Objects.requireNonNull(right, "right"), Objects.requireNonNull(left, "left"));
+    }
+
+    /// Returns a comparator ordering [IntPair] by left component, then by right component, without boxing.
+    ///
+    /// @return a lexicographic comparator, left component first
+    /// @since 1.1.0
+    public static Comparator<IntPair> intPairs() {
+        return PrimitiveOrder.INT_PAIRS;
+    }
+
+    /// Returns a comparator ordering [LongPair] by left component, then by right component, without boxing.
+    ///
+    /// @return a lexicographic comparator, left component first
+    /// @since 1.1.0
+    public static Comparator<LongPair> longPairs() {
+        return PrimitiveOrder.LONG_PAIRS;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private enum NaturalOrder implements Comparator<Pair<Comparable, Comparable>> {
+        LEFT_THEN_RIGHT {
+            @Override
+            public int compare(Pair<Comparable, Comparable> first, Pair<Comparable, Comparable> second) {
+                int byLeft = first.left().compareTo(second.left());
+                return byLeft != 0 ? byLeft : first.right().compareTo(second.right());
+            }
+        },
+        RIGHT_THEN_LEFT {
+            @Override
+            public int compare(Pair<Comparable, Comparable> first, Pair<Comparable, Comparable> second) {
+                int byRight = first.right().compareTo(second.right());
+                return byRight != 0 ? byRight : first.left().compareTo(second.left());
+            }
+        }
+    }
+
+    private static final class PrimitiveOrder {
+        static final Comparator<IntPair> INT_PAIRS = (Comparator<IntPair> & Serializable) (first, second) -> {
+            int byLeft = Integer.compare(first.left(), second.left());
+            return byLeft != 0 ? byLeft : Integer.compare(first.right(), second.right());
+        };
+
+        static final Comparator<LongPair> LONG_PAIRS = (Comparator<LongPair> & Serializable) (first, second) -> {
+            int byLeft = Long.compare(first.left(), second.left());
+            return byLeft != 0 ? byLeft : Long.compare(first.right(), second.right());
+        };
+    }
+
+    private record LeftThenRight<L, R>(Comparator<? super L> left, Comparator<? super R> right)
+            implements Comparator<Pair<L, R>>, Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public int compare(Pair<L, R> first, Pair<L, R> second) {
+            int byLeft = left.compare(first.left(), second.left());
+            return byLeft != 0 ? byLeft : right.compare(first.right(), second.right());
+        }
+    }
+
+    private record RightThenLeft<L, R>(Comparator<? super R> right, Comparator<? super L> left)
+            implements Comparator<Pair<L, R>>, Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public int compare(Pair<L, R> first, Pair<L, R> second) {
+            int byRight = right.compare(first.right(), second.right());
+            return byRight != 0 ? byRight : left.compare(first.left(), second.left());
+        }
+    }
+}
@@ -0,0 +1,466 @@
+package me.supcheg.routine;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/// A hash map keyed by a pair of **non-null** components, looked up without creating a [Pair].
+///
+/// Keys are stored as two separate components next to their cached hash code, in open-addressed arrays with linear
+/// probing. [#get(Object, Object)], [#put(Object, Object, Object)] and
+/// [#computeIfAbsent(Object, Object, BiFunction)] take the components directly, so probing allocates nothing and
+/// calls `equals` only on slots whose cached hash matches.
+///
+/// Values are **non-null** as well. For code that expects a [Map], [#asMap()] returns a live view keyed by [Pair].
+///
+/// This class is not thread-safe.
+///
+/// @param <A> type of the left key component
+/// @param <B> type of the right key component
+/// @param <V> type of the values
+/// @see Pair
+/// @since 1.1.0
+public final class PairKeyMap<A, B, V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    // Marks a removed entry in the lefts array, so that probe sequences running through it stay intact.
+    private static final Object TOMBSTONE = new Object();
+
+    private @Nullable Object[] lefts;
+    private @Nullable Object[] rights;
+    private @Nullable Object[] values;
+    private int[] hashes;
+    private int size;
+    private int used;
+    // Counts insertions and removals, so that iterators of the map view fail fast on concurrent modification.
+    private int modCount;
+    private @Nullable MapView view;
+
+    /// Constructs an empty [PairKeyMap] with a default initial capacity.
+    ///
+    /// @since 1.1.0
+    public PairKeyMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /// Constructs an empty [PairKeyMap] able to hold `expectedSize` entries without resizing.
+    ///
+    /// @param expectedSize expected number of entries
+    /// @throws IllegalArgumentException if `expectedSize` is negative
+    /// @since 1.1.0
+    public PairKeyMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /// Returns the number of entries in this map.
+    ///
+    /// @return number of entries
+    /// @since 1.1.0
+    public int size() {
+        return size;
+    }
+
+    /// Returns whether this map contains no entries.
+    ///
+    /// @return `true` if [#size()] is `0`
+    /// @since 1.1.0
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /// Returns the value mapped to the given key components.
+    ///
+    /// @param left  left key component
+    /// @param right right key component
+    /// @return the mapped value, or `null` if there is none
+    /// @since 1.1.0
+    @SuppressWarnings("unchecked")
+    public @Nullable V get(Object left, Object right) {
+        int slot = find(left, right, hash(left, right));
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    /// Returns the value mapped to the given key components, or a default value.
+    ///
+    /// @param left         left key component
+    /// @param right        right key component
+    /// @param defaultValue value to return if there is no mapping
+    /// @return the mapped value, or `defaultValue` if there is none
+    /// @since 1.1.0
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Object left, Object right, V defaultValue) {
+        int slot = find(left, right, hash(left, right));
+        return slot < 0 ? defaultValue : (V) values[slot];
+    }
+
+    /// Returns whether a value is mapped to the given key components.
+    ///
+    /// @param left  left key component
+    /// @param right right key component
+    /// @return `true` if there is a mapping
+    /// @since 1.1.0
+    public boolean containsKey(Object left, Object right) {
+        return find(left, right, hash(left, right)) >= 0;
+    }
+
+    /// Maps the given key components to a value.
+    ///
+    /// @param left  left key component
+    /// @param right right key component
+    /// @param value value to map
+    /// @return the previously mapped value, or `null` if there was none
+    /// @throws NullPointerException if any argument is `null`
+    /// @since 1.1.0
+    @SuppressWarnings("unchecked")
+    public @Nullable V put(A left, B right, V value) {
+        Objects.requireNonNull(value, "value");
+        int hash = hash(left, right);
+        int slot = find(left, right, hash);
+        if (slot >= 0) {
+            var previous = (V) values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        insert(left, right, hash, value);
+        return null;
+    }
+
+    /// Returns the value mapped to the given key components, computing and mapping it first if there is none.
+    ///
+    /// If the function returns `null`, nothing is mapped and `null` is returned. The function must not map the same
+    /// key components itself.
+    ///
+    /// @param left     left key component
+    /// @param right    right key component
+    /// @param function function computing a value from the key components
+    /// @return the current or computed value, or `null` if the function returned `null`
+    /// @throws NullPointerException            if a key component is `null`
+    /// @throws ConcurrentModificationException if the function mapped the same key components
+    /// @since 1.1.0
+    @SuppressWarnings("unchecked")
+    public @Nullable V computeIfAbsent(
+            A left, B right, BiFunction<? super A, ? super B, ? extends @Nullable V> function) {
+        int hash = hash(left, right);
+        int slot = find(left, right, hash);
+        if (slot >= 0) {
+            return (V) values[slot];
+        }
+        V value = function.apply(left, right);
+        if (value != null) {
+            // The function may have modified this map; insert() probes again, but must not duplicate the key.
+            if (find(left, right, hash) >= 0) {
+                throw new ConcurrentModificationException();
+            }
+            insert(left, right, hash, value);
+        }
+        return value;
+    }
+
+    /// Removes the value mapped to the given key components.
+    ///
+    /// @param left  left key component
+    /// @param right right key component
+    /// @return the removed value, or `null` if there was none
+    /// @since 1.1.0
+    @SuppressWarnings("unchecked")
+    public @Nullable V remove(Object left, Object right) {
+        int slot = find(left, right, hash(left, right));
+        if (slot < 0) {
+            return null;
+        }
+        var previous = (V) values[slot];
+        removeAt(slot);
+        return previous;
+    }
+
+    /// Removes all entries from this map, keeping its capacity.
+    ///
+    /// @since 1.1.0
+    public void clear() {
+        Arrays.fill(lefts, null);
+        Arrays.fill(rights, null);
+        Arrays.fill(values, null);
+        size = 0;
+        used = 0;
+        modCount++;
+    }
+
+    /// Returns a [Map] view of this map keyed by [Pair].
+    ///
+    /// The view is backed by this map: changes to either are visible in the other. Lookups through the view take the
+    /// components out of the given [Pair]; iteration creates a [Pair] for every key it returns.
+    ///
+    /// @return a live [Map] view
+    /// @since 1.1.0
+    public Map<Pair<A, B>, V> asMap() {
+        var view = this.view;
+        if (view == null) {
+            view = this.view = new MapView();
+        }
+        return view;
+    }
+
+    @Override
+    public String toString() {
+        return asMap().toString();
+    }
+
+    private static int hash(Object left, Object right) {
+        int hash = 31 * left.hashCode() + right.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private int find(Object left, Object right, int hash) {
+        Objects.requireNonNull(left, "left");
+        Objects.requireNonNull(right, "right");
+        var lefts = this.lefts;
+        int mask = lefts.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            var candidate = lefts[slot];
+            if (candidate == null) {
+                return -1;
+            }
+            if (hashes[slot] == hash
+                    && candidate != TOMBSTONE
+                    && (candidate == left || candidate.equals(left))
+                    && (rights[slot] == right || right.equals(rights[slot]))) {
+                return slot;
+            }
+        }
+    }
+
+    private void insert(Object left, Object right, int hash, Object value) {
+        if ((used + 1) * 3L > lefts.length * 2L) {
+            rehash(size + 1);
+        }
+        var lefts = this.lefts;
+        int mask = lefts.length - 1;
+        int slot = hash & mask;
+        while (lefts[slot] != null && lefts[slot] != TOMBSTONE) {
+            slot = (slot + 1) & mask;
+        }
+        if (lefts[slot] == null) {
+            used++;
+        }
+        lefts[slot] = left;
+        rights[slot] = right;
+        values[slot] = value;
+        hashes[slot] = hash;
+        size++;
+        modCount++;
+    }
+
+    private void removeAt(int slot) {
+        lefts[slot] = TOMBSTONE;
+        rights[slot] = null;
+        values[slot] = null;
+        size--;
+        modCount++;
+    }
+
+    // Rebuilds the table without tombstones, growing it if the live entries need more room.
+    private void rehash(int minSize) {
+        var oldLefts = lefts;
+        var oldRights = rights;
+        var oldValues = values;
+        var oldHashes = hashes;
+        allocate(Math.max(oldLefts.length, tableSizeFor(minSize)));
+        int mask = lefts.length - 1;
+        for (int i = 0; i < oldLefts.length; i++) {
+            var left = oldLefts[i];
+            if (left != null && left != TOMBSTONE) {
+                int slot = oldHashes[i] & mask;
+                while (lefts[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                lefts[slot] = left;
+                rights[slot] = oldRights[i];
+                values[slot] = oldValues[i];
+                hashes[slot] = oldHashes[i];
+            }
+        }
+        used = size;
+    }
+
+    private void allocate(int capacity) {
+        lefts = new Object[capacity];
+        rights = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+    }
+
+    // Smallest power of two table that keeps expectedSize entries within a 2/3 load factor.
+    private static int tableSizeFor(int expectedSize) {
+        long minCapacity = Math.max(DEFAULT_CAPACITY, (expectedSize * 3L + 1) / 2);
+        if (minCapacity > 1 << 30) {
+            throw new IllegalArgumentException("expectedSize is too large: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) minCapacity - 1) << 1;
+    }
+
+    private final class MapView extends AbstractMap<Pair<A, B>, V> {
+        private @Nullable Set<Entry<Pair<A, B>, V>> entrySet;
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public @Nullable V get(Object key) {
+            return key instanceof Pair<?, ?>(var left, var right) ? PairKeyMap.this.get(left, right) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Pair<?, ?>(var left, var right) && PairKeyMap.this.containsKey(left, right);
+        }
+
+        @Override
+        public @Nullable V put(Pair<A, B> key, V value) {
+            return PairKeyMap.this.put(key.left(), key.right(), value);
+        }
+
+        @Override
+        public @Nullable V remove(Object key) {
+            return key instanceof Pair<?, ?>(var left, var right) ? PairKeyMap.this.remove(left, right) : null;
+        }
+
+        @Override
+        public void clear() {
+            PairKeyMap.this.clear();
+        }
+
+        @Override
+        public Set<Entry<Pair<A, B>, V>> entrySet() {
+            var entrySet = this.entrySet;
+            if (entrySet == null) {
+                entrySet = this.entrySet = new AbstractSet<>() {
+                    @Override
+                    public Iterator<Entry<Pair<A, B>, V>> iterator() {
+                        return new EntryIterator();
+                    }
+
+                    @Override
+                    public int size() {
+                        return size;
+                    }
+
+                    @Override
+                    public void clear() {
+                        PairKeyMap.this.clear();
+                    }
+                };
+            }
+            return entrySet;
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<Pair<A, B>, V>> {
+        private final @Nullable Object[] table = lefts;
+        private final @Nullable Object[] rightTable = rights;
+        private int expectedModCount = modCount;
+        private int next = advance(0);
+        private int last = -1;
+
+        private int advance(int from) {
+            while (from < table.length && (table[from] == null || table[from] == TOMBSTONE)) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < table.length;
+        }
+
+        @Override
+        public Map.Entry<Pair<A, B>, V> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = advance(next + 1);
+            @SuppressWarnings("unchecked")
+            var key = new Pair<>((A) table[last], (B) rightTable[last]);
+            return new KeyEntry(key);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            expectedModCount = modCount;
+            last = -1;
+        }
+    }
+
+    // Entries read and write through the map by key, so they stay valid across rehashing.
+    private final class KeyEntry implements Map.Entry<Pair<A, B>, V> {
+        private final Pair<A, B> key;
+
+        private KeyEntry(Pair<A, B> key) {
+            this.key = key;
+        }
+
+        @Override
+        public Pair<A, B> getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            var value = get(key.left(), key.right());
+            if (value == null) {
+                throw new IllegalStateException("Entry was removed");
+            }
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            if (!containsKey(key.left(), key.right())) {
+                throw new IllegalStateException("Entry was removed");
+            }
+            return Objects.requireNonNull(put(key.left(), key.right(), value));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> entry
+                    && key.equals(entry.getKey())
+                    && getValue().equals(entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ getValue().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
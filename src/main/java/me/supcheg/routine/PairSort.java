@@ -0,0 +1,348 @@
+package me.supcheg.routine;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.RecursiveAction;
+
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+/// Utility class sorting large collections of pairs in their columnar containers.
+///
+/// - [#parallelSort(PairArray, Comparator, Comparator)] sorts a [PairArray] of objects with a stable, parallel merge
+///   sort that moves the left and right columns together and never materializes a [Pair]. Both the halves and the
+///   merges of large ranges are split into [java.util.concurrent.ForkJoinPool] tasks.
+/// - [#radixSortByLeft(PairBuffer)] and [#radixSortByRight(PairBuffer)] sort an off-heap [PairBuffer] of `int` or
+///   `long` pairs with an LSD radix sort, one byte per pass. They run in linear time and skip every byte position
+///   whose value is the same for all pairs, so small or narrow keys take few passes.
+///
+/// ```java
+/// try (var scores = new LongPairBuffer(300_000_000)) {
+///     events.forEach(event -> scores.append(event.score(), event.itemId()));
+///     PairSort.radixSortByLeft(scores);
+///     // scores.pairAt(scores.size() - 1) holds the highest score
+/// }
+/// ```
+///
+/// Both sorts need scratch memory of the size of the sorted data: two object arrays for the merge sort and a native
+/// copy of the buffer for the radix sort. Where that is not affordable, [PairBuffer#sortByLeft()] and
+/// [PairBuffer#sortByRight()] sort in place in `O(n log n)`.
+///
+/// @see PairComparators
+/// @since 1.1.0
+public final class PairSort {
+
+    // Ranges up to this size are sorted or merged by the current task without forking.
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+    private static final int RADIX = 256;
+
+    private PairSort() {}
+
+    /// Sorts a [PairArray] by its left components, then by its right ones, using a parallel merge sort.
+    ///
+    /// The sort is stable: pairs comparing as equal in both components keep their relative order.
+    ///
+    /// ```java
+    /// PairSort.parallelSort(ranking, Comparator.<Long>reverseOrder(), Comparator.<String>naturalOrder());
+    /// ```
+    ///
+    /// @param pairs pairs to sort in place
+    /// @param left  order of the left components
+    /// @param right order of the right components, applied to pairs with equal left components
+    /// @param <L>   type of the left components
+    /// @param <R>   type of the right components
+    /// @since 1.1.0
+    @SuppressWarnings("unchecked")
+    public static <L, R> void parallelSort(
+            PairArray<L, R> pairs, Comparator<? super L> left, Comparator<? super R> right) {
+        var order = new ColumnOrder(
+                (Comparator<Object>) Objects.requireNonNull(left, "left"),
+                (Comparator<Object>) Objects.requireNonNull(right, "right"));
+        int size = pairs.size();
+        if (size < 2) {
+            return;
+        }
+        var lefts = pairs.lefts();
+        var rights = pairs.rights();
+        var scratch = new Columns(Arrays.copyOf(lefts, size), Arrays.copyOf(rights, size));
+        new SortTask(order, scratch, new Columns(lefts, rights), 0, size).invoke();
+    }
+
+    /// Sorts a [PairArray] by the natural order of its left components, then of its right ones.
+    ///
+    /// @param pairs pairs to sort in place
+    /// @param <L>   type of the left components
+    /// @param <R>   type of the right components
+    /// @see #parallelSort(PairArray, Comparator, Comparator)
+    /// @since 1.1.0
+    public static <L extends Comparable<? super L>, R extends Comparable<? super R>> void parallelSort(
+            PairArray<L, R> pairs) {
+        parallelSort(pairs, Comparator.naturalOrder(), Comparator.naturalOrder());
+    }
+
+    /// Sorts a [PairBuffer] in ascending order of its left components, breaking ties by right components, using an
+    /// LSD radix sort.
+    ///
+    /// Produces the same order as [PairBuffer#sortByLeft()].
+    ///
+    /// @param buffer buffer to sort in place
+    /// @throws IllegalStateException if the buffer is closed
+    /// @since 1.1.0
+    public static void radixSortByLeft(PairBuffer<?, ?> buffer) {
+        radixSort(buffer, true);
+    }
+
+    /// Sorts a [PairBuffer] in ascending order of its right components, breaking ties by left components, using an
+    /// LSD radix sort.
+    ///
+    /// Produces the same order as [PairBuffer#sortByRight()].
+    ///
+    /// @param buffer buffer to sort in place
+    /// @throws IllegalStateException if the buffer is closed
+    /// @since 1.1.0
+    public static void radixSortByRight(PairBuffer<?, ?> buffer) {
+        radixSort(buffer, false);
+    }
+
+    private static void radixSort(PairBuffer<?, ?> buffer, boolean byLeft) {
+        switch (buffer) {
+            case IntPairBuffer ints -> radixSort(ints.segment(), ints.size(), (int) JAVA_INT.byteSize(), byLeft);
+            case LongPairBuffer longs -> radixSort(longs.segment(), longs.size(), (int) JAVA_LONG.byteSize(), byLeft);
+        }
+    }
+
+    // Sorts `size` pairs of two signed components of `width` bytes each by (key, other). The digits are counted in one
+    // pass up front; every digit that is not shared by all pairs then costs one stable scatter into the other segment.
+    private static void radixSort(MemorySegment segment, long size, int width, boolean byLeft) {
+        if (size < 2) {
+            return;
+        }
+        boolean ints = width == JAVA_INT.byteSize();
+        long pairBytes = 2L * width;
+        long keyOffset = byLeft ? 0 : width;
+        long otherOffset = width - keyOffset;
+        long bytes = size * pairBytes;
+
+        var counts = new long[2 * width][RADIX];
+        for (long offset = 0; offset < bytes; offset += pairBytes) {
+            long key = read(segment, offset + keyOffset, ints);
+            long other = read(segment, offset + otherOffset, ints);
+            for (int digit = 0; digit < width; digit++) {
+                counts[digit][digit(other, digit, width)]++;
+                counts[width + digit][digit(key, digit, width)]++;
+            }
+        }
+
+        try (var arena = Arena.ofConfined()) {
+            var source = segment;
+            var target = arena.allocate(bytes, JAVA_LONG.byteAlignment());
+            for (int pass = 0; pass < 2 * width; pass++) {
+                var count = counts[pass];
+                if (isConstant(count, size)) {
+                    continue;
+                }
+                long position = 0;
+                for (int bucket = 0; bucket < RADIX; bucket++) {
+                    long bucketSize = count[bucket];
+                    count[bucket] = position;
+                    position += bucketSize;
+                }
+                long componentOffset = pass < width ? otherOffset : keyOffset;
+                int digit = pass % width;
+                for (long offset = 0; offset < bytes; offset += pairBytes) {
+                    long value = read(source, offset + componentOffset, ints);
+                    long destination = count[digit(value, digit, width)]++ * pairBytes;
+                    target.set(JAVA_LONG, destination, source.get(JAVA_LONG, offset));
+                    if (!ints) {
+                        target.set(JAVA_LONG, destination + width, source.get(JAVA_LONG, offset + width));
+                    }
+                }
+                var swap = source;
+                source = target;
+                target = swap;
+            }
+            if (source != segment) {
+                MemorySegment.copy(source, 0, segment, 0, bytes);
+            }
+        }
+    }
+
+    private static long read(MemorySegment segment, long offset, boolean ints) {
+        return ints ? segment.get(JAVA_INT, offset) : segment.get(JAVA_LONG, offset);
+    }
+
+    // Byte `digit` of `value`, with the sign bit of the most significant byte flipped so that negatives sort first.
+    private static int digit(long value, int digit, int width) {
+        int bucket = (int) (value >>> (digit << 3)) & 0xFF;
+        return digit == width - 1 ? bucket ^ 0x80 : bucket;
+    }
+
+    private static boolean isConstant(long[] count, long size) {
+        for (long bucketSize : count) {
+            if (bucketSize != 0) {
+                return bucketSize == size;
+            }
+        }
+        return true;
+    }
+
+    private record Columns(Object[] lefts, Object[] rights) {}
+
+    private record ColumnOrder(Comparator<Object> left, Comparator<Object> right) {
+        int compare(Columns columns, int i, int j) {
+            return compare(columns, i, columns, j);
+        }
+
+        int compare(Columns first, int i, Columns second, int j) {
+            int byLeft = left.compare(first.lefts[i], second.lefts[j]);
+            return byLeft != 0 ? byLeft : right.compare(first.rights[i], second.rights[j]);
+        }
+    }
+
+    // Sorts [lo, hi) into `target`, using `source` as scratch. Both hold the same pairs in that range on entry, so the
+    // halves are sorted into `source` with the roles swapped and then merged back into `target`.
+    @SuppressWarnings("serial")
+    private static final class SortTask extends RecursiveAction {
+
+        private final ColumnOrder order;
+        private final Columns source;
+        private final Columns target;
+        private final int lo;
+        private final int hi;
+
+        private SortTask(ColumnOrder order, Columns source, Columns target, int lo, int hi) {
+            this.order = order;
+            this.source = source;
+            this.target = target;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= INSERTION_SORT_THRESHOLD) {
+                insertionSort();
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            var first = new SortTask(order, target, source, lo, mid);
+            var second = new SortTask(order, target, source, mid, hi);
+            if (hi - lo > SEQUENTIAL_THRESHOLD) {
+                invokeAll(first, second);
+            } else {
+                first.compute();
+                second.compute();
+            }
+            if (order.compare(source, mid - 1, source, mid) <= 0) {
+                System.arraycopy(source.lefts, lo, target.lefts, lo, hi - lo);
+                System.arraycopy(source.rights, lo, target.rights, lo, hi - lo);
+                return;
+            }
+            new MergeTask(order, source, target, lo, mid, mid, hi, lo).compute();
+        }
+
+        private void insertionSort() {
+            var lefts = target.lefts;
+            var rights = target.rights;
+            for (int i = lo + 1; i < hi; i++) {
+                var left = lefts[i];
+                var right = rights[i];
+                int j = i - 1;
+                while (j >= lo && order.compare(target, j, target, i) > 0) {
+                    j--;
+                }
+                if (++j < i) {
+                    System.arraycopy(lefts, j, lefts, j + 1, i - j);
+                    System.arraycopy(rights, j, rights, j + 1, i - j);
+                    lefts[j] = left;
+                    rights[j] = right;
+                }
+            }
+        }
+    }
+
+    // Merges the sorted runs [aLo, aHi) and [bLo, bHi) of `source` into `target` from index `to`. Large merges split
+    // the longer run at its middle and binary-search the matching position in the other run, so both halves can be
+    // merged in parallel; equal pairs of the first run always end up before those of the second, keeping it stable.
+    @SuppressWarnings("serial")
+    private static final class MergeTask extends RecursiveAction {
+
+        private final ColumnOrder order;
+        private final Columns source;
+        private final Columns target;
+        private final int aLo;
+        private final int aHi;
+        private final int bLo;
+        private final int bHi;
+        private final int to;
+
+        private MergeTask(
+                ColumnOrder order, Columns source, Columns target, int aLo, int aHi, int bLo, int bHi, int to) {
+            this.order = order;
+            this.source = source;
+            this.target = target;
+            this.aLo = aLo;
+            this.aHi = aHi;
+            this.bLo = bLo;
+            this.bHi = bHi;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            int aLength = aHi - aLo;
+            int bLength = bHi - bLo;
+            if (aLength + bLength <= SEQUENTIAL_THRESHOLD || aLength == 0 || bLength == 0) {
+                merge();
+                return;
+            }
+            int aMid;
+            int bMid;
+            if (aLength >= bLength) {
+                aMid = (aLo + aHi) >>> 1;
+                bMid = search(bLo, bHi, aMid, false);
+            } else {
+                bMid = (bLo + bHi) >>> 1;
+                aMid = search(aLo, aHi, bMid, true);
+            }
+            int split = to + (aMid - aLo) + (bMid - bLo);
+            invokeAll(
+                    new MergeTask(order, source, target, aLo, aMid, bLo, bMid, to),
+                    new MergeTask(order, source, target, aMid, aHi, bMid, bHi, split));
+        }
+
+        // First index of [lo, hi) whose pair is greater than the pair at `pivot`, or not less than it if `inclusive`
+        // is false.
+        private int search(int lo, int hi, int pivot, boolean inclusive) {
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                int comparison = order.compare(source, mid, pivot);
+                if (comparison < 0 || (inclusive && comparison == 0)) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        private void merge() {
+            int a = aLo;
+            int b = bLo;
+            int out = to;
+            while (a < aHi && b < bHi) {
+                int from = order.compare(source, b, a) < 0 ? b++ : a++;
+                target.lefts[out] = source.lefts[from];
+                target.rights[out++] = source.rights[from];
+            }
+            int rest = a < aHi ? a : b;
+            int length = a < aHi ? aHi - a : bHi - b;
+            System.arraycopy(source.lefts, rest, target.lefts, out, length);
+            System.arraycopy(source.rights, rest, target.rights, out, length);
+        }
+    }
+}
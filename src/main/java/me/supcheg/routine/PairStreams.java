@@ -0,0 +1,265 @@
+package me.supcheg.routine;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/// Static factories for streams of [Pair].
+///
+/// Every `zip` pairs up elements of two sources by position and stops at the end of the shorter source. The
+/// resulting streams keep the `SIZED` and `SUBSIZED` characteristics of the sources whenever both have them, and split
+/// both sources in lockstep, so they parallelize as well as the sources themselves.
+///
+/// ```java
+/// Stream<Pair<String, Integer>> pairs = PairStreams.zip(List.of("a", "b", "c"), List.of(1, 2));
+/// // pairs -> [("a", 1), ("b", 2)]
+/// ```
+///
+/// @see Pair
+/// @since 1.1.0
+public final class PairStreams {
+
+    private PairStreams() {}
+
+    /// Zips two arrays into a sequential stream of pairs.
+    ///
+    /// Elements are read lazily, so the stream reflects changes to the arrays made before the terminal operation.
+    ///
+    /// @param lefts  array of left components
+    /// @param rights array of right components
+    /// @param <L>    type of the left components
+    /// @param <R>    type of the right components
+    /// @return a stream of `min(lefts.length, rights.length)` pairs
+    /// @throws NullPointerException if an element within the zipped range is `null`, when that element is reached
+    /// @since 1.1.0
+    public static <L, R> Stream<Pair<L, R>> zip(L[] lefts, R[] rights) {
+        Objects.requireNonNull(lefts, "lefts");
+        Objects.requireNonNull(rights, "rights");
+        var spliterator = new IndexedSpliterator<Pair<L, R>>(
+                index -> new Pair<>(lefts[(int) index], rights[(int) index]),
+                0,
+                Math.min(lefts.length, rights.length));
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /// Zips two lists into a sequential stream of pairs.
+    ///
+    /// When both lists implement [RandomAccess], elements are read by index and the stream splits both lists at the
+    /// same index. Otherwise the lists are zipped through their spliterators, see [#zip(Spliterator, Spliterator)].
+    ///
+    /// @param lefts  list of left components
+    /// @param rights list of right components
+    /// @param <L>    type of the left components
+    /// @param <R>    type of the right components
+    /// @return a stream of `min(lefts.size(), rights.size())` pairs
+    /// @throws NullPointerException if an element within the zipped range is `null`, when that element is reached
+    /// @since 1.1.0
+    public static <L, R> Stream<Pair<L, R>> zip(List<? extends L> lefts, List<? extends R> rights) {
+        if (lefts instanceof RandomAccess && rights instanceof RandomAccess) {
+            var spliterator = new IndexedSpliterator<Pair<L, R>>(
+                    index -> new Pair<>(lefts.get((int) index), rights.get((int) index)),
+                    0,
+                    Math.min(lefts.size(), rights.size()));
+            return StreamSupport.stream(spliterator, false);
+        }
+        return zip(lefts.spliterator(), rights.spliterator());
+    }
+
+    /// Zips two streams into a stream of pairs.
+    ///
+    /// Both streams are consumed through their spliterators, see [#zip(Spliterator, Spliterator)]. As with
+    /// [Stream#concat(Stream, Stream)], the resulting stream is parallel if either source stream is parallel. The
+    /// spliterator of a stream pipeline only splits when the pipeline is parallel, so the sources should be made
+    /// parallel, rather than the result, for the zip to split. Closing the returned stream closes both source streams.
+    ///
+    /// @param lefts  stream of left components
+    /// @param rights stream of right components
+    /// @param <L>    type of the left components
+    /// @param <R>    type of the right components
+    /// @return a stream of pairs, as long as the shorter source
+    /// @throws NullPointerException if a source yields `null` within the zipped range, when that element is reached
+    /// @since 1.1.0
+    public static <L, R> Stream<Pair<L, R>> zip(Stream<? extends L> lefts, Stream<? extends R> rights) {
+        boolean parallel = lefts.isParallel() || rights.isParallel();
+        var zipped = new ZipSpliterator<L, R>(lefts.spliterator(), rights.spliterator());
+        return StreamSupport.stream(zipped, parallel).onClose(() -> {
+            try {
+                lefts.close();
+            } finally {
+                rights.close();
+            }
+        });
+    }
+
+    /// Zips two spliterators into a sequential stream of pairs.
+    ///
+    /// When both spliterators are `SIZED` and `SUBSIZED`, the result is too, and it splits by splitting both
+    /// spliterators and pairing up the prefixes. This works as long as both sides split at the same position, which
+    /// holds for array- and range-backed spliterators of equal size. Other spliterators, and ranges where the sides
+    /// split at different positions, are split by buffering batches of pairs, the way the JDK splits iterator-backed
+    /// streams.
+    ///
+    /// @param lefts  spliterator of left components
+    /// @param rights spliterator of right components
+    /// @param <L>    type of the left components
+    /// @param <R>    type of the right components
+    /// @return a stream of pairs, as long as the shorter source
+    /// @throws NullPointerException if a source yields `null` within the zipped range, when that element is reached
+    /// @since 1.1.0
+    public static <L, R> Stream<Pair<L, R>> zip(Spliterator<? extends L> lefts, Spliterator<? extends R> rights) {
+        return StreamSupport.stream(new ZipSpliterator<L, R>(lefts, rights), false);
+    }
+
+    private static final class ZipSpliterator<L, R> implements Spliterator<Pair<L, R>> {
+        private static final int RETAINED_CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | IMMUTABLE | CONCURRENT;
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+
+        private Spliterator<? extends L> lefts;
+        private Spliterator<? extends R> rights;
+        private final Holder<L> left = new Holder<>("left");
+        private final Holder<R> right = new Holder<>("right");
+        private int batch;
+
+        private ZipSpliterator(Spliterator<? extends L> lefts, Spliterator<? extends R> rights) {
+            this.lefts = lefts;
+            this.rights = rights;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Pair<L, R>> action) {
+            if (!lefts.tryAdvance(left) || !rights.tryAdvance(right)) {
+                return false;
+            }
+            action.accept(new Pair<>(left.take(), right.take()));
+            return true;
+        }
+
+        @Override
+        public @Nullable Spliterator<Pair<L, R>> trySplit() {
+            if (hasCharacteristics(SUBSIZED)) {
+                return splitInLockstep();
+            }
+            return splitBatch();
+        }
+
+        private @Nullable Spliterator<Pair<L, R>> splitInLockstep() {
+            var leftPrefix = lefts.trySplit();
+            if (leftPrefix == null) {
+                return null;
+            }
+            var rightPrefix = rights.trySplit();
+            if (rightPrefix != null && leftPrefix.estimateSize() == rightPrefix.estimateSize()) {
+                return new ZipSpliterator<>(leftPrefix, rightPrefix);
+            }
+
+            // The sides split at different positions: glue them back together and fall back to batches, which no longer
+            // depend on where either side splits.
+            lefts = new Concatenation<>(leftPrefix, lefts);
+            if (rightPrefix != null) {
+                rights = new Concatenation<>(rightPrefix, rights);
+            }
+            return splitBatch();
+        }
+
+        private @Nullable Spliterator<Pair<L, R>> splitBatch() {
+            long size = estimateSize();
+            if (size <= 1) {
+                return null;
+            }
+            int limit = (int) Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), size);
+            var buffer = new Object[limit];
+            int count = 0;
+            while (count < limit && lefts.tryAdvance(left)) {
+                if (!rights.tryAdvance(right)) {
+                    left.take();
+                    break;
+                }
+                buffer[count++] = new Pair<>(left.take(), right.take());
+            }
+            if (count == 0) {
+                return null;
+            }
+            batch = count;
+            return Spliterators.spliterator(buffer, 0, count, ORDERED | NONNULL | IMMUTABLE);
+        }
+
+        @Override
+        public long estimateSize() {
+            return Math.min(lefts.estimateSize(), rights.estimateSize());
+        }
+
+        @Override
+        public int characteristics() {
+            return (lefts.characteristics() & rights.characteristics() & RETAINED_CHARACTERISTICS) | NONNULL;
+        }
+    }
+
+    // Reads one element out of a spliterator without allocating a capturing lambda per element.
+    private static final class Holder<T> implements Consumer<T> {
+        private final String name;
+        private @Nullable T value;
+
+        private Holder(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void accept(T value) {
+            this.value = value;
+        }
+
+        private T take() {
+            var value = this.value;
+            this.value = null;
+            return Objects.requireNonNull(value, name);
+        }
+    }
+
+    // Sequential concatenation of a prefix and a suffix produced by one split, keeping the exact size.
+    private static final class Concatenation<T> implements Spliterator<T> {
+        private @Nullable Spliterator<? extends T> first;
+        private final Spliterator<? extends T> second;
+        private final int characteristics;
+
+        private Concatenation(Spliterator<? extends T> first, Spliterator<? extends T> second) {
+            this.first = first;
+            this.second = second;
+            this.characteristics = first.characteristics() & second.characteristics() & (ORDERED | SIZED | NONNULL);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (first != null) {
+                if (first.tryAdvance(action)) {
+                    return true;
+                }
+                first = null;
+            }
+            return second.tryAdvance(action);
+        }
+
+        @Override
+        public @Nullable Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            long size = (first == null ? 0 : first.estimateSize()) + second.estimateSize();
+            return size < 0 ? Long.MAX_VALUE : size;
+        }
+
+        @Override
+        public int characteristics() {
+            return characteristics;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package me.supcheg.routine;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/// A sequence of elements collected under a memory budget, whose oldest elements may live in a temporary file.
+///
+/// Produced by [EitherCollectors#groupingToSpill(long, Codec, Codec)]. Elements that did not fit into the budget were
+/// encoded with a [Codec] and appended to a file; the rest are retained in memory. Iterating a spill reads the file
+/// back sequentially, one buffer at a time, followed by the retained elements, so the encounter order of the
+/// collected stream is preserved and only one element of the file is decoded at a time.
+///
+/// A spill can be iterated any number of times until it is closed. Closing it deletes the file and releases the file
+/// handles of all unfinished streams and iterators:
+///
+/// ```java
+/// var partition = records.stream().collect(EitherCollectors.groupingToSpill(64 << 20, failureCodec, recordCodec));
+/// try (Spill<Failure> failures = partition.left(); Spill<Record> records = partition.right()) {
+///     try (var stream = records.stream()) {
+///         stream.forEach(reconciler::apply);
+///     }
+/// }
+/// ```
+///
+/// @param <T> type of the elements
+/// @see EitherCollectors#groupingToSpill(long, Codec, Codec, Path)
+/// @since 1.1.0
+public final class Spill<T> implements Iterable<T>, AutoCloseable {
+
+    private final Codec<T> codec;
+    private final @Nullable Path file;
+    private final long spilled;
+    private final List<T> retained;
+    private final int bufferSize;
+    private final Set<FileChannel> readers = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    Spill(Codec<T> codec, @Nullable Path file, long spilled, List<T> retained, int bufferSize) {
+        this.codec = codec;
+        this.file = file;
+        this.spilled = spilled;
+        this.retained = retained;
+        this.bufferSize = bufferSize;
+    }
+
+    /// Returns the total number of elements.
+    ///
+    /// @return number of spilled and retained elements
+    /// @since 1.1.0
+    public long size() {
+        return spilled + retained.size();
+    }
+
+    /// Returns the number of elements stored in the file.
+    ///
+    /// @return number of spilled elements, `0` if the budget was never exceeded
+    /// @since 1.1.0
+    public long spilled() {
+        return spilled;
+    }
+
+    /// Returns whether some elements are stored in a file.
+    ///
+    /// @return `true` if [#spilled()] is positive
+    /// @since 1.1.0
+    public boolean isSpilled() {
+        return spilled > 0;
+    }
+
+    /// Returns a sequential stream of all elements in encounter order.
+    ///
+    /// The stream opens its own handle to the file, which is released when the stream is closed or when this spill
+    /// is closed.
+    ///
+    /// @return a lazy stream of the spilled elements followed by the retained ones
+    /// @throws IllegalStateException if this spill is closed
+    /// @throws UncheckedIOException  if the file cannot be opened; read failures are thrown by the stream
+    /// @since 1.1.0
+    public Stream<T> stream() {
+        if (closed) {
+            throw new IllegalStateException("Spill is closed");
+        }
+        if (file == null) {
+            return retained.stream();
+        }
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        readers.add(channel);
+        var spilledElements = Codecs.readAll(codec, channel, ByteBuffer.allocateDirect(bufferSize));
+        return Stream.concat(spilledElements, retained.stream()).onClose(() -> release(channel));
+    }
+
+    /// Returns an iterator over all elements in encounter order.
+    ///
+    /// The file handle of the iterator is released when this spill is closed; use [#stream()] with
+    /// try-with-resources to release it earlier.
+    ///
+    /// @return an iterator over the spilled elements followed by the retained ones
+    /// @throws IllegalStateException if this spill is closed
+    /// @since 1.1.0
+    @Override
+    public Iterator<T> iterator() {
+        return stream().iterator();
+    }
+
+    /// Releases all file handles and deletes the file.
+    ///
+    /// Closing an already closed spill has no effect.
+    ///
+    /// @throws UncheckedIOException if the file cannot be deleted
+    /// @since 1.1.0
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (var channel : readers) {
+            release(channel);
+        }
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Spill[size=" + size() + ", spilled=" + spilled + "]";
+    }
+
+    private void release(FileChannel channel) {
+        readers.remove(channel);
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package me.supcheg.routine;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+
+// One side of EitherCollectors#groupingToSpill: elements are retained in memory until the owner asks to spill them,
+// which appends them to a temporary file created on first use. The file always holds the oldest elements, so the
+// encounter order is the file followed by the retained elements. Sizes are the encoded sizes reported by the codec.
+final class SpillBuffer<T> {
+
+    private static final int MIN_BUFFER_SIZE = 1 << 16;
+
+    private final Codec<T> codec;
+    private final Path directory;
+    private final ArrayList<T> retained = new ArrayList<>();
+    private long retainedBytes;
+    private int maxElementSize;
+    private @Nullable Path file;
+    private @Nullable FileChannel channel;
+    private @Nullable ByteBuffer staging;
+    private long spilled;
+
+    SpillBuffer(Codec<T> codec, Path directory) {
+        this.codec = codec;
+        this.directory = directory;
+    }
+
+    long retainedBytes() {
+        return retainedBytes;
+    }
+
+    void add(T value) {
+        int size = codec.size(value);
+        retained.add(value);
+        retainedBytes += size;
+        maxElementSize = Math.max(maxElementSize, size);
+    }
+
+    void spill() {
+        if (retained.isEmpty()) {
+            return;
+        }
+        try {
+            var channel = channel();
+            Codecs.writeAll(codec, retained.stream(), channel, staging());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        spilled += retained.size();
+        retained.clear();
+        retainedBytes = 0;
+    }
+
+    // Appends the elements of a later buffer, which is discarded afterwards.
+    void append(SpillBuffer<T> next) {
+        maxElementSize = Math.max(maxElementSize, next.maxElementSize);
+        if (next.file != null) {
+            spill();
+            try {
+                next.closeChannel();
+                var target = channel();
+                try (var source = FileChannel.open(next.file, StandardOpenOption.READ)) {
+                    long size = source.size();
+                    for (long position = 0; position < size; ) {
+                        position += source.transferTo(position, size - position, target);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            spilled += next.spilled;
+            next.discard();
+        }
+        retained.addAll(next.retained);
+        retainedBytes += next.retainedBytes;
+    }
+
+    Spill<T> finish() {
+        try {
+            closeChannel();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Spill<>(
+                codec,
+                file,
+                spilled,
+                Collections.unmodifiableList(retained),
+                Math.max(MIN_BUFFER_SIZE, maxElementSize));
+    }
+
+    // Best-effort cleanup after a failure; the original exception is the one worth reporting.
+    void discard() {
+        try {
+            closeChannel();
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException ignored) {
+            // nothing left to clean up reliably
+        }
+        file = null;
+    }
+
+    private FileChannel channel() throws IOException {
+        var channel = this.channel;
+        if (channel == null) {
+            if (file == null) {
+                file = Files.createTempFile(directory, "routine-spill-", ".bin");
+            }
+            channel = this.channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+
+    private ByteBuffer staging() {
+        var staging = this.staging;
+        if (staging == null || staging.capacity() < maxElementSize) {
+            staging = this.staging = ByteBuffer.allocateDirect(Math.max(MIN_BUFFER_SIZE, maxElementSize));
+        }
+        return staging;
+    }
+
+    private void closeChannel() throws IOException {
+        var channel = this.channel;
+        if (channel != null) {
+            this.channel = null;
+            channel.close();
+        }
+    }
+}
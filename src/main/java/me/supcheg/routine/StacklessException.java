@@ -0,0 +1,51 @@
+package me.supcheg.routine;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.Serial;
+
+/// A checked exception for expected failures that does not capture a stack trace.
+///
+/// Most of the cost of throwing an exception is filling in its stack trace when it is constructed, which is wasted
+/// when the failure is an expected outcome that ends up as a value, for example a [Either.Left] produced by
+/// [Either#catching(Class, ThrowingSupplier)]. Instances of this class skip that step and also disable suppression, so
+/// creating and throwing one costs about as much as an ordinary allocation.
+///
+/// ```java
+/// static final class InvalidPort extends StacklessException {
+///     InvalidPort(String input) {
+///         super("Invalid port: " + input);
+///     }
+/// }
+///
+/// Either<InvalidPort, Integer> port = Either.catching(InvalidPort.class, () -> parsePort(input));
+/// ```
+///
+/// The stack trace of a `StacklessException` is always empty, so it should only be used for failures that are handled
+/// as data rather than logged for diagnosis. Exceptions thrown by code outside of your control, such as
+/// [NumberFormatException], still capture their stack trace when they are created.
+///
+/// @see Either#catching(Class, ThrowingSupplier)
+/// @since 1.1.0
+public class StacklessException extends Exception {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /// Constructs a [StacklessException] with the given detail message.
+    ///
+    /// @param message detail message
+    /// @since 1.1.0
+    public StacklessException(@Nullable String message) {
+        super(message, null, false, false);
+    }
+
+    /// Constructs a [StacklessException] with the given detail message and cause.
+    ///
+    /// @param message detail message
+    /// @param cause   cause of this exception
+    /// @since 1.1.0
+    public StacklessException(@Nullable String message, @Nullable Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
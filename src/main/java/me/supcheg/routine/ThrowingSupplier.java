@@ -0,0 +1,21 @@
+package me.supcheg.routine;
+
+/// Represents a supplier of results that may throw an exception of type `X`.
+///
+/// This is the throwing counterpart of [java.util.function.Supplier], accepted by
+/// [Either#catching(Class, ThrowingSupplier)].
+///
+/// @param <T> the type of results supplied by this supplier
+/// @param <X> the type of exception thrown by this supplier
+/// @see Either#catching(Class, ThrowingSupplier)
+/// @since 1.1.0
+@FunctionalInterface
+public interface ThrowingSupplier<T, X extends Exception> {
+
+    /// Gets a result.
+    ///
+    /// @return a result
+    /// @throws X if the result cannot be supplied
+    /// @since 1.1.0
+    T get() throws X;
+}
@@ -0,0 +1,169 @@
+package me.supcheg.routine;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Lazy split of one EitherStream into a stream of lefts and a stream of rights, behind EitherStream#unzip(int).
+//
+// Both sides pull from the same upstream iterator. A side takes from its own queue when it can; otherwise it pulls
+// the next upstream element itself and queues it for the other side if it belongs there. A side may only pull while
+// the other side's queue has room, so neither queue grows beyond the capacity: a consumer that runs ahead waits for
+// the other one to catch up. Only one thread pulls at a time, without holding the lock, so the other side can keep
+// draining its queue meanwhile. Closing a side discards its queued and future elements and lifts the limit for the
+// other side; closing both sides closes the upstream.
+final class Unzip {
+
+    private final Stream<Either<?, ?>> source;
+    private final EitherRouter router;
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Side lefts = new Side();
+    private final Side rights = new Side();
+    private final Consumer<Object> onLeft = value -> pulled(lefts, value);
+    private final Consumer<Object> onRight = value -> pulled(rights, value);
+    private @Nullable Iterator<Either<?, ?>> iterator;
+    private boolean pulling;
+    private boolean exhausted;
+    private @Nullable Throwable failure;
+
+    private Unzip(Stream<Either<?, ?>> source, EitherRouter router, int capacity) {
+        this.source = source;
+        this.router = router;
+        this.capacity = capacity;
+    }
+
+    static Pair<Stream<Object>, Stream<Object>> unzip(Stream<Either<?, ?>> source, EitherRouter router, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        var unzip = new Unzip(source, router, capacity);
+        return Pair.pair(unzip.stream(unzip.lefts, unzip.rights), unzip.stream(unzip.rights, unzip.lefts));
+    }
+
+    private static final class Side {
+        private final ArrayDeque<Object> queue = new ArrayDeque<>();
+        private boolean closed;
+    }
+
+    private Stream<Object> stream(Side own, Side other) {
+        var spliterator = new Spliterators.AbstractSpliterator<Object>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Object> action) {
+                var value = next(own, other);
+                if (value == null) {
+                    return false;
+                }
+                action.accept(value);
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(() -> close(own));
+    }
+
+    private @Nullable Object next(Side own, Side other) {
+        lock.lock();
+        try {
+            while (true) {
+                var value = own.queue.poll();
+                if (value != null) {
+                    changed.signalAll();
+                    return value;
+                }
+                if (failure != null) {
+                    throw rethrow(failure);
+                }
+                if (exhausted || own.closed) {
+                    return null;
+                }
+                if (pulling || (!other.closed && other.queue.size() >= capacity)) {
+                    awaitChange();
+                    continue;
+                }
+                pull();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Called with the lock held; releases it while the upstream produces the next element.
+    private void pull() {
+        pulling = true;
+        lock.unlock();
+        try {
+            var iterator = this.iterator;
+            if (iterator == null) {
+                iterator = this.iterator = source.iterator();
+            }
+            if (iterator.hasNext()) {
+                router.route(iterator.next(), onLeft, onRight);
+            } else {
+                exhausted = true;
+            }
+        } catch (Throwable throwable) {
+            failure = throwable;
+        } finally {
+            lock.lock();
+            pulling = false;
+            changed.signalAll();
+        }
+    }
+
+    // Runs on the pulling thread without the lock; the queue itself is only touched under the lock.
+    private void pulled(Side side, Object value) {
+        lock.lock();
+        try {
+            if (!side.closed) {
+                side.queue.add(value);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitChange() {
+        try {
+            changed.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the other side of an unzipped stream", e);
+        }
+    }
+
+    private void close(Side side) {
+        boolean closeSource;
+        lock.lock();
+        try {
+            side.closed = true;
+            side.queue.clear();
+            changed.signalAll();
+            closeSource = lefts.closed && rights.closed;
+        } finally {
+            lock.unlock();
+        }
+        if (closeSource) {
+            source.close();
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable throwable) {
+        if (throwable instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        throw new IllegalStateException(throwable);
+    }
+}
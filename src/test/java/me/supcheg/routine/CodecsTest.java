@@ -0,0 +1,183 @@
+package me.supcheg.routine;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static me.supcheg.routine.Pair.pair;
+import static me.supcheg.routine.TestEithers.LEFT;
+import static me.supcheg.routine.TestEithers.RIGHT;
+import static me.supcheg.routine.TestEithers.left;
+import static me.supcheg.routine.TestEithers.right;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CodecsTest {
+
+    static final Codec<Either<String, String>> STRINGS = Codecs.either(Codecs.utf8(), Codecs.utf8());
+
+    @Test
+    void eitherRoundTrip() {
+        for (var buffer : buffers(64)) {
+            STRINGS.encode(left(LEFT), buffer);
+            STRINGS.encode(right(RIGHT), buffer);
+            buffer.flip();
+
+            assertThat(STRINGS.decode(buffer)).isEqualTo(left(LEFT));
+            assertThat(STRINGS.decode(buffer)).isEqualTo(right(RIGHT));
+            assertThat(buffer.hasRemaining()).isFalse();
+        }
+    }
+
+    @Test
+    void eitherIsTagAndPayload() {
+        var codec = Codecs.either(Codecs.ints(), Codecs.longs());
+        var buffer = ByteBuffer.allocate(16);
+
+        codec.encode(Either.right(7L), buffer);
+
+        assertThat(buffer.position()).isEqualTo(9);
+        assertThat(codec.size(Either.right(7L))).isEqualTo(9);
+        assertThat(codec.size(Either.left(7))).isEqualTo(5);
+        assertThat(buffer.get(0)).isEqualTo((byte) 1);
+        assertThat(buffer.getLong(1)).isEqualTo(7L);
+    }
+
+    @Test
+    void pairRoundTrip() {
+        var codec = Codecs.pair(Codecs.utf8(), Codecs.either(Codecs.doubles(), Codecs.ints()));
+        for (var buffer : buffers(64)) {
+            Pair<String, Either<Double, Integer>> value = pair(LEFT, Either.left(1.5));
+
+            codec.encode(value, buffer);
+            assertThat(buffer.position()).isEqualTo(codec.size(value));
+            buffer.flip();
+
+            assertThat(codec.decode(buffer)).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void primitiveRoundTrip() {
+        for (var buffer : buffers(128)) {
+            Codecs.intPairs().encode(IntPair.intPair(1, -2), buffer);
+            Codecs.longPairs().encode(LongPair.longPair(Long.MIN_VALUE, Long.MAX_VALUE), buffer);
+            Codecs.doublePairs().encode(DoublePair.doublePair(0.5, Double.NaN), buffer);
+            Codecs.intEither(Codecs.utf8()).encode(IntEither.right(3), buffer);
+            Codecs.longEither(Codecs.utf8()).encode(LongEither.left(LEFT), buffer);
+            Codecs.doubleEither(Codecs.utf8()).encode(DoubleEither.right(2.5), buffer);
+            buffer.flip();
+
+            assertThat(Codecs.intPairs().decode(buffer)).isEqualTo(IntPair.intPair(1, -2));
+            assertThat(Codecs.longPairs().decode(buffer)).isEqualTo(LongPair.longPair(Long.MIN_VALUE, Long.MAX_VALUE));
+            assertThat(Codecs.doublePairs().decode(buffer)).isEqualTo(DoublePair.doublePair(0.5, Double.NaN));
+            assertThat(Codecs.intEither(Codecs.utf8()).decode(buffer)).isEqualTo(IntEither.right(3));
+            assertThat(Codecs.longEither(Codecs.utf8()).decode(buffer)).isEqualTo(LongEither.left(LEFT));
+            assertThat(Codecs.doubleEither(Codecs.utf8()).decode(buffer)).isEqualTo(DoubleEither.right(2.5));
+            assertThat(buffer.hasRemaining()).isFalse();
+        }
+    }
+
+    @Test
+    void byteOrderOfBufferIsUsed() {
+        var buffer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+
+        Codecs.intPairs().encode(IntPair.intPair(1, 2), buffer);
+
+        assertThat(buffer.get(0)).isEqualTo((byte) 1);
+        assertThat(buffer.get(4)).isEqualTo((byte) 2);
+    }
+
+    @Test
+    void utf8SizeMatchesEncoding() {
+        for (var value : List.of("", "ascii", "ünïcödé", "日本語", "😀", "a\uD800b", "x".repeat(200))) {
+            var buffer = ByteBuffer.allocate(512);
+
+            Codecs.utf8().encode(value, buffer);
+
+            assertThat(buffer.position()).isEqualTo(Codecs.utf8().size(value));
+            buffer.flip();
+            var expected = new String(value.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+            assertThat(Codecs.utf8().decode(buffer)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void invalidTagIsRejected() {
+        var buffer = ByteBuffer.wrap(new byte[] {2, 0, 0, 0, 0});
+
+        assertThatThrownBy(() -> Codecs.either(Codecs.ints(), Codecs.ints()).decode(buffer))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void truncatedValueUnderflows() {
+        var buffer = ByteBuffer.allocate(16);
+        STRINGS.encode(left(LEFT), buffer);
+        buffer.flip().limit(buffer.limit() - 1);
+
+        assertThatThrownBy(() -> STRINGS.decode(buffer)).isInstanceOf(BufferUnderflowException.class);
+    }
+
+    @Test
+    void streamingRoundTrip() throws Exception {
+        List<Either<String, String>> values = IntStream.range(0, 1_000)
+                .<Either<String, String>>mapToObj(i -> i % 3 == 0 ? left("l" + i) : right("r" + i))
+                .toList();
+        for (var buffer : buffers(16)) {
+            var output = new ByteArrayOutputStream();
+
+            Codecs.writeAll(STRINGS, values.stream(), Channels.newChannel(output), buffer);
+            var input = Channels.newChannel(new ByteArrayInputStream(output.toByteArray()));
+
+            assertThat(Codecs.readAll(STRINGS, input, buffer)).containsExactlyElementsOf(values);
+        }
+    }
+
+    @Test
+    void streamingIsLazy() throws Exception {
+        var output = new ByteArrayOutputStream();
+        Codecs.writeAll(Codecs.ints(), Stream.of(1, 2, 3), Channels.newChannel(output), ByteBuffer.allocate(4));
+        var bytes = output.toByteArray();
+        var input = new ByteArrayInputStream(bytes);
+
+        var first = Codecs.readAll(Codecs.ints(), Channels.newChannel(input), ByteBuffer.allocate(4)).findFirst();
+
+        assertThat(first).hasValue(1);
+        assertThat(input.available()).isEqualTo(8);
+    }
+
+    @Test
+    void streamingTruncatedInputFails() throws Exception {
+        var output = new ByteArrayOutputStream();
+        Codecs.writeAll(Codecs.longs(), Stream.of(1L, 2L), Channels.newChannel(output), ByteBuffer.allocate(64));
+        var bytes = Arrays.copyOf(output.toByteArray(), 12);
+        var input = Channels.newChannel(new ByteArrayInputStream(bytes));
+
+        assertThatThrownBy(() -> Codecs.readAll(Codecs.longs(), input, ByteBuffer.allocate(64)).toList())
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void streamingElementLargerThanBuffer() {
+        var output = Channels.newChannel(new ByteArrayOutputStream());
+
+        assertThatThrownBy(() -> Codecs.writeAll(Codecs.longs(), Stream.of(1L), output, ByteBuffer.allocate(4)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<ByteBuffer> buffers(int capacity) {
+        return List.of(ByteBuffer.allocate(capacity), ByteBuffer.allocateDirect(capacity));
+    }
+}
@@ -0,0 +1,160 @@
+package me.supcheg.routine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static me.supcheg.routine.EitherArray.toEitherArray;
+import static me.supcheg.routine.TestEithers.LEFT;
+import static me.supcheg.routine.TestEithers.RIGHT;
+import static me.supcheg.routine.TestEithers.left;
+import static me.supcheg.routine.TestEithers.right;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EitherArrayTest {
+
+    static Either<Integer, Integer> either(int value) {
+        return value % 3 == 0 ? Either.left(value) : Either.right(value);
+    }
+
+    @Test
+    void addAndGet() {
+        var array = new EitherArray<String, String>(0);
+        array.add(left(LEFT));
+        array.addRight(RIGHT);
+        array.addLeft(LEFT);
+
+        assertThat(array.size()).isEqualTo(3);
+        assertThat(array.isLeft(0)).isTrue();
+        assertThat(array.isRight(1)).isTrue();
+        assertThat(array.get(1)).isEqualTo(right(RIGHT));
+        assertThat(array.get(2)).isEqualTo(left(LEFT));
+        assertThat(array.leftCount()).isEqualTo(2);
+        assertThat(array.rightCount()).isEqualTo(1);
+        assertThatThrownBy(() -> array.isLeft(3)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void tagsSurviveGrowth() {
+        var array = new EitherArray<Integer, Integer>(1);
+        for (int i = 0; i < 1_000; i++) {
+            array.add(either(i));
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(array.get(i)).isEqualTo(either(i));
+        }
+        assertThat(array.leftCount()).isEqualTo(334);
+    }
+
+    @Test
+    void setReplacesBranch() {
+        var array = new EitherArray<String, String>();
+        array.add(right(RIGHT));
+        array.set(0, left(LEFT));
+
+        assertThat(array.get(0)).isEqualTo(left(LEFT));
+        array.set(0, right(RIGHT));
+        assertThat(array.get(0)).isEqualTo(right(RIGHT));
+    }
+
+    @Test
+    void viewReadsInPlace() {
+        var array = new EitherArray<String, String>();
+        array.add(left(LEFT));
+        array.add(right(RIGHT));
+
+        var view = array.view(0);
+        assertThat(view.isLeft()).isTrue();
+        assertThat(view.leftValue()).isEqualTo(LEFT);
+        assertThatThrownBy(view::rightValue).isInstanceOf(NoSuchElementException.class);
+        int folded = view.moveTo(1).fold(String::length, r -> -r.length());
+        assertThat(folded).isEqualTo(-RIGHT.length());
+        assertThat(view.toEither()).isEqualTo(right(RIGHT));
+    }
+
+    @Test
+    void forEachDispatchesByBranch() {
+        var array = new EitherArray<Integer, Integer>();
+        array.addAll(IntStream.range(0, 10).mapToObj(EitherArrayTest::either));
+
+        var lefts = new ArrayList<Integer>();
+        var rights = new ArrayList<Integer>();
+        array.forEach(lefts::add, rights::add);
+
+        assertThat(lefts).containsExactly(0, 3, 6, 9);
+        assertThat(rights).containsExactly(1, 2, 4, 5, 7, 8);
+    }
+
+    @Test
+    void addAllAtUnalignedOffset() {
+        var array = new EitherArray<Integer, Integer>();
+        for (int i = 0; i < 37; i++) {
+            array.add(Either.left(i));
+        }
+        var other = new EitherArray<Integer, Integer>();
+        for (int i = 0; i < 200; i++) {
+            other.add(either(i));
+        }
+        array.addAll(other);
+
+        assertThat(array.size()).isEqualTo(237);
+        for (int i = 0; i < 200; i++) {
+            assertThat(array.get(37 + i)).isEqualTo(either(i));
+        }
+    }
+
+    @Test
+    void addAllToItself() {
+        var array = new EitherArray<Integer, Integer>(100);
+        for (int i = 0; i < 100; i++) {
+            array.add(either(i));
+        }
+        array.addAll(array);
+        array.add(Either.left(-1));
+
+        assertThat(array.size()).isEqualTo(201);
+        assertThat(array.rightCount()).isEqualTo(132);
+        for (int i = 0; i < 200; i++) {
+            assertThat(array.get(i)).isEqualTo(either(i % 100));
+        }
+        assertThat(array.get(200)).isEqualTo(Either.left(-1));
+    }
+
+    @Test
+    void parallelCollectorKeepsOrder() {
+        var array = IntStream.range(0, 10_000).parallel().mapToObj(EitherArrayTest::either).collect(toEitherArray());
+
+        assertThat(array.stream().collect(toList()))
+                .containsExactlyElementsOf(IntStream.range(0, 10_000).mapToObj(EitherArrayTest::either).toList());
+    }
+
+    @Test
+    void spliteratorSplitsEvenly() {
+        var array = new EitherArray<Integer, Integer>();
+        array.addAll(IntStream.range(0, 64).mapToObj(EitherArrayTest::either));
+
+        Spliterator<Either<Integer, Integer>> suffix = array.spliterator();
+        Spliterator<Either<Integer, Integer>> prefix = suffix.trySplit();
+
+        assertThat(prefix.estimateSize()).isEqualTo(32L);
+        assertThat(suffix.estimateSize()).isEqualTo(32L);
+        assertThat(array.parallelStream().filter(Either.Left.class::isInstance).count()).isEqualTo(22L);
+    }
+
+    @Test
+    void clearResetsTags() {
+        var array = new EitherArray<String, String>();
+        array.add(right(RIGHT));
+        array.clear();
+        array.add(left(LEFT));
+
+        assertThat(array.get(0)).isEqualTo(left(LEFT));
+        assertThat(array.rightCount()).isZero();
+    }
+}
@@ -2,21 +2,39 @@ package me.supcheg.routine;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static java.util.stream.Collector.Characteristics.CONCURRENT;
 import static java.util.stream.Collector.Characteristics.IDENTITY_FINISH;
 import static java.util.stream.Collector.Characteristics.UNORDERED;
+import static java.util.stream.Collectors.toConcurrentMap;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static java.util.stream.Collectors.toUnmodifiableSet;
+import static me.supcheg.routine.EitherCollectors.RightsOnOverflow.DISCARD;
+import static me.supcheg.routine.EitherCollectors.accumulating;
+import static me.supcheg.routine.EitherCollectors.countingConcurrent;
 import static me.supcheg.routine.EitherCollectors.groupingTo;
+import static me.supcheg.routine.EitherCollectors.groupingToConcurrent;
+import static me.supcheg.routine.EitherCollectors.summarizingLong;
+import static me.supcheg.routine.EitherCollectors.summarizingLongConcurrent;
 import static me.supcheg.routine.TestEithers.LEFT;
 import static me.supcheg.routine.TestEithers.RIGHT;
 import static me.supcheg.routine.TestEithers.left;
 import static me.supcheg.routine.TestEithers.right;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 
 class EitherStreamTest {
+
+    static final String MAP = "_map";
+
     @Test
     void mapMultiIfLeft() {
         assertThat(Stream.of(left(LEFT), right(RIGHT)).<String>mapMulti(Either::ifLeft))
@@ -66,4 +84,386 @@ class EitherStreamTest {
         assertThat(groupingTo(toUnmodifiableSet(), toUnmodifiableSet()).characteristics())
                 .containsExactlyInAnyOrder(UNORDERED);
     }
+
+    @Test
+    void groupingToConcurrentParallel() {
+        var result = IntStream.range(0, 100_000)
+                .parallel()
+                .mapToObj(i -> i % 3 == 0 ? Either.<Integer, Integer>left(i) : Either.<Integer, Integer>right(i))
+                .collect(groupingToConcurrent(toList(), toConcurrentMap(i -> i, i -> i)));
+
+        var lefts = IntStream.range(0, 100_000).filter(i -> i % 3 == 0).boxed().toList();
+        assertThat(result.left()).hasSize(lefts.size()).hasSameElementsAs(lefts);
+        assertThat(result.right()).hasSize(66_666);
+    }
+
+    @Test
+    void groupingToConcurrentSequential() {
+        var result = Stream.of(left(LEFT), right(RIGHT), left(LEFT)).collect(groupingToConcurrent(toList(), toSet()));
+
+        assertThat(result).isEqualTo(Pair.pair(List.of(LEFT, LEFT), Set.of(RIGHT)));
+    }
+
+    @Test
+    void groupingToConcurrentCharacteristics() {
+        assertThat(groupingToConcurrent(toList(), toList()).characteristics())
+                .containsExactlyInAnyOrder(CONCURRENT, UNORDERED);
+    }
+
+    @Test
+    void countingCountsBothSides() {
+        var counts = Stream.of(left(LEFT), right(RIGHT), left(LEFT)).collect(EitherCollectors.counting());
+
+        assertThat(counts).isEqualTo(new EitherCounts(2, 1));
+        assertThat(counts.total()).isEqualTo(3L);
+        assertThat(counts.leftRatio()).isCloseTo(2.0 / 3, within(1e-9));
+    }
+
+    @Test
+    void countingParallelMatchesConcurrent() {
+        var expected = new EitherCounts(33_334, 66_666);
+
+        assertThat(numbers(100_000).parallel().collect(EitherCollectors.counting())).isEqualTo(expected);
+        assertThat(numbers(100_000).parallel().collect(countingConcurrent())).isEqualTo(expected);
+        assertThat(countingConcurrent().characteristics()).containsExactlyInAnyOrder(CONCURRENT, UNORDERED);
+    }
+
+    @Test
+    void summarizingLongSummarizesBothSides() {
+        for (var collector : List.of(
+                summarizingLong(Integer::longValue, Integer::longValue),
+                summarizingLongConcurrent(Integer::longValue, Integer::longValue))) {
+            var result = numbers(1_000).parallel().collect(collector);
+
+            assertThat(result.left().getCount()).isEqualTo(334L);
+            assertThat(result.left().getMin()).isEqualTo(0L);
+            assertThat(result.left().getMax()).isEqualTo(999L);
+            assertThat(result.left().getSum()).isEqualTo(166_833L);
+            assertThat(result.right().getCount()).isEqualTo(666L);
+            assertThat(result.right().getMin()).isEqualTo(1L);
+            assertThat(result.right().getMax()).isEqualTo(998L);
+        }
+    }
+
+    @Test
+    void summarizingLongConcurrentEmpty() {
+        var result = Stream.<Either<Integer, Integer>>empty().collect(summarizingLongConcurrent(i -> i, i -> i));
+
+        assertThat(result.left().getCount()).isEqualTo(0L);
+        assertThat(result.right().getMax()).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    void accumulatingCapsLefts() {
+        var result = IntStream.range(0, 100)
+                .mapToObj(i -> i % 2 == 0 ? Either.<Integer, Integer>left(i) : Either.<Integer, Integer>right(i))
+                .collect(accumulating(3, toList()));
+
+        assertThat(result.left().values()).containsExactly(0, 2, 4);
+        assertThat(result.left().total()).isEqualTo(50);
+        assertThat(result.left().overflowed()).isTrue();
+        assertThat(result.right()).hasSize(50);
+    }
+
+    @Test
+    void accumulatingWithinCapDoesNotOverflow() {
+        var result = Stream.of(left(LEFT), right(RIGHT), left(LEFT)).collect(accumulating(2, DISCARD, toList()));
+
+        assertThat(result.left().values()).containsExactly(LEFT, LEFT);
+        assertThat(result.left().overflowed()).isFalse();
+        assertThat(result.right()).containsExactly(RIGHT);
+    }
+
+    @Test
+    void accumulatingDiscardsRightsOnOverflow() {
+        var result = IntStream.range(0, 100)
+                .mapToObj(i -> i % 2 == 0 ? Either.<Integer, Integer>left(i) : Either.<Integer, Integer>right(i))
+                .collect(accumulating(3, DISCARD, toList()));
+
+        assertThat(result.left().values()).containsExactly(0, 2, 4);
+        assertThat(result.left().total()).isEqualTo(50);
+        assertThat(result.right()).isEmpty();
+    }
+
+    @Test
+    void parallelAccumulatingKeepsFirstLefts() {
+        var result = IntStream.range(0, 10_000)
+                .parallel()
+                .mapToObj(i -> i % 3 == 0 ? Either.<Integer, Integer>left(i) : Either.<Integer, Integer>right(i))
+                .collect(accumulating(5, toList()));
+
+        assertThat(result.left().values()).containsExactly(0, 3, 6, 9, 12);
+        assertThat(result.left().total()).isEqualTo(3334);
+        assertThat(result.right()).hasSize(6666);
+    }
+
+    @Test
+    void parallelAccumulatingDiscardsRightsOnOverflow() {
+        var result = IntStream.range(0, 10_000)
+                .parallel()
+                .mapToObj(i -> i == 9_999 ? Either.<Integer, Integer>left(i) : Either.<Integer, Integer>right(i))
+                .collect(accumulating(0, DISCARD, toList()));
+
+        assertThat(result.left().values()).isEmpty();
+        assertThat(result.left().total()).isEqualTo(1);
+        assertThat(result.right()).isEmpty();
+    }
+
+    @Test
+    void fusedMapRight() {
+        assertThat(EitherStream.of(Stream.of(left(LEFT), right(RIGHT)))
+                        .mapRight(r -> r + MAP)
+                        .mapRight(String::length)
+                        .toStream())
+                .containsExactly(Either.left(LEFT), Either.right((RIGHT + MAP).length()));
+    }
+
+    @Test
+    void fusedMapLeft() {
+        assertThat(EitherStream.of(Stream.of(left(LEFT), right(RIGHT)))
+                        .mapLeft(l -> l + MAP)
+                        .lefts())
+                .containsExactly(LEFT + MAP);
+    }
+
+    @Test
+    void fusedFlatMapRightSwitchesBranch() {
+        var result = EitherStream.of(Stream.of(right("1"), right("x"), left(LEFT)))
+                .flatMapRight(r -> r.equals("x") ? Either.left(r + MAP) : Either.right(Integer.parseInt(r)))
+                .mapLeft(l -> l + MAP)
+                .mapRight(r -> r + 1)
+                .toStream();
+
+        assertThat(result).containsExactly(Either.right(2), Either.left("x" + MAP + MAP), Either.left(LEFT + MAP));
+    }
+
+    @Test
+    void fusedFlatMapLeftSwitchesBranch() {
+        assertThat(EitherStream.of(Stream.of(left(LEFT), right(RIGHT)))
+                        .flatMapLeft(l -> Either.right(l + MAP))
+                        .rights())
+                .containsExactly(LEFT + MAP, RIGHT);
+    }
+
+    @Test
+    void filterRightKeepsLefts() {
+        assertThat(EitherStream.of(Stream.of(left(LEFT), right(RIGHT), right(RIGHT + MAP)))
+                        .filterRight(RIGHT::equals)
+                        .toStream())
+                .containsExactly(Either.left(LEFT), Either.right(RIGHT));
+    }
+
+    @Test
+    void filterLeftKeepsRights() {
+        assertThat(EitherStream.of(Stream.of(left(LEFT), left(LEFT + MAP), right(RIGHT)))
+                        .filterLeft(LEFT::equals)
+                        .toStream())
+                .containsExactly(Either.left(LEFT), Either.right(RIGHT));
+    }
+
+    @Test
+    void leftsAndRights() {
+        assertThat(EitherStream.of(Stream.of(left(LEFT), right(RIGHT))).lefts()).containsExactly(LEFT);
+        assertThat(EitherStream.of(Stream.of(left(LEFT), right(RIGHT))).rights()).containsExactly(RIGHT);
+    }
+
+    @Test
+    void fusedGroupingTo() {
+        int perTypeAmount = 10;
+
+        var result = EitherStream.of(Stream.concat(
+                        Stream.generate(() -> left(LEFT)).limit(perTypeAmount),
+                        Stream.generate(() -> right(RIGHT)).limit(perTypeAmount)))
+                .mapRight(r -> r + MAP)
+                .groupingTo(toList(), toList());
+
+        assertThat(result.left()).hasSize(perTypeAmount).allMatch(LEFT::equals);
+        assertThat(result.right()).hasSize(perTypeAmount).allMatch((RIGHT + MAP)::equals);
+    }
+
+    @Test
+    void parallelFusedGroupingTo() {
+        int perTypeAmount = 10_000;
+
+        var stream = EitherStream.of(Stream.concat(
+                        Stream.generate(() -> Either.<String, Integer>left(LEFT)).limit(perTypeAmount),
+                        IntStream.range(0, perTypeAmount).mapToObj(Either::<String, Integer>right)))
+                .parallel()
+                .filterRight(r -> r % 2 == 0)
+                .mapRight(r -> r / 2);
+
+        assertThat(stream.isParallel()).isTrue();
+
+        var result = stream.groupingTo(toList(), toList());
+
+        assertThat(result.left()).hasSize(perTypeAmount).allMatch(LEFT::equals);
+        assertThat(result.right())
+                .containsExactlyElementsOf(IntStream.range(0, perTypeAmount / 2).boxed().toList());
+    }
+
+    @Test
+    void allRightsOrFirstLeftCollectsRights() {
+        assertThat(EitherStream.of(Stream.of(right(RIGHT), right(RIGHT + MAP))).allRightsOrFirstLeft())
+                .isEqualTo(Either.right(List.of(RIGHT, RIGHT + MAP)));
+    }
+
+    @Test
+    void allRightsOrFirstLeftStopsPulling() {
+        var pulled = new AtomicInteger();
+
+        var result = EitherStream.of(Stream.of(right(RIGHT), left(LEFT), left(LEFT + MAP), right(RIGHT))
+                        .peek(_ -> pulled.incrementAndGet()))
+                .allRightsOrFirstLeft();
+
+        assertThat(result).isEqualTo(Either.left(LEFT));
+        assertThat(pulled.get()).isEqualTo(2);
+    }
+
+    @Test
+    void parallelAllRightsOrFirstLeftReturnsFirstInEncounterOrder() {
+        int size = 1_000_000;
+
+        var result = EitherStream.of(IntStream.range(0, size)
+                        .parallel()
+                        .mapToObj(i -> i % 250_000 == 1000 ? Either.<Integer, Integer>left(i) : Either.right(i)))
+                .allRightsOrFirstLeft();
+
+        assertThat(result).isEqualTo(Either.left(1000));
+    }
+
+    @Test
+    void parallelAllRightsOrFirstLeftCancelsLaterSplits() {
+        int size = 1_000_000;
+        var pulled = new AtomicInteger();
+
+        var result = EitherStream.of(IntStream.range(0, size)
+                        .parallel()
+                        .peek(_ -> pulled.incrementAndGet())
+                        .mapToObj(i -> i == 10 ? Either.<Integer, Integer>left(i) : Either.right(i)))
+                .allRightsOrFirstLeft();
+
+        assertThat(result).isEqualTo(Either.left(10));
+        assertThat(pulled.get()).isLessThan(size);
+    }
+
+    @Test
+    void parallelAllRightsOrFirstLeftKeepsEncounterOrder() {
+        int size = 100_000;
+
+        var result = EitherStream.of(IntStream.range(0, size).parallel().mapToObj(Either::<String, Integer>right))
+                .mapRight(r -> r * 2)
+                .allRightsOrFirstLeft();
+
+        assertThat(result.right().orElseThrow())
+                .containsExactlyElementsOf(
+                        IntStream.range(0, size).map(i -> i * 2).boxed().toList());
+    }
+
+    @Test
+    void unorderedAllRightsOrFirstLeftReturnsAnyLeft() {
+        var result = EitherStream.of(IntStream.range(0, 100_000)
+                        .parallel()
+                        .unordered()
+                        .mapToObj(i -> i % 1000 == 0 ? Either.<Integer, Integer>left(i) : Either.right(i)))
+                .allRightsOrFirstLeft();
+
+        assertThat(result.left().orElseThrow() % 1000).isZero();
+    }
+
+    @Test
+    void unzipIsLazy() {
+        var pulled = new AtomicInteger();
+
+        var unzipped = EitherStream.of(Stream.of(left(LEFT), right(RIGHT)).peek(_ -> pulled.incrementAndGet()))
+                .unzip(1);
+
+        assertThat(pulled.get()).isZero();
+        assertThat(unzipped.left().findFirst()).contains(LEFT);
+        assertThat(pulled.get()).isEqualTo(1);
+    }
+
+    @Test
+    void unzipWithClosedSideRunsFreely() {
+        var unzipped = EitherStream.of(IntStream.range(0, 1_000)
+                        .mapToObj(i -> i % 2 == 0 ? Either.<Integer, Integer>left(i) : Either.right(i)))
+                .mapRight(r -> -r)
+                .unzip(1);
+        unzipped.right().close();
+
+        assertThat(unzipped.left().collect(toList()))
+                .containsExactlyElementsOf(IntStream.range(0, 500).map(i -> i * 2).boxed().toList());
+    }
+
+    @Test
+    void unzipConsumedConcurrently() throws Exception {
+        int size = 100_000;
+        var unzipped = EitherStream.of(IntStream.range(0, size)
+                        .mapToObj(i -> i % 3 == 0 ? Either.<Integer, Integer>left(i) : Either.right(i)))
+                .unzip(16);
+
+        var lefts = new ArrayList<Integer>();
+        var thread = Thread.ofPlatform().start(() -> unzipped.left().forEach(lefts::add));
+        var rights = unzipped.right().collect(toList());
+        thread.join();
+
+        assertThat(lefts)
+                .containsExactlyElementsOf(IntStream.range(0, size)
+                        .filter(i -> i % 3 == 0)
+                        .boxed()
+                        .toList());
+        assertThat(rights)
+                .containsExactlyElementsOf(IntStream.range(0, size)
+                        .filter(i -> i % 3 != 0)
+                        .boxed()
+                        .toList());
+    }
+
+    @Test
+    void unzipBoundsBufferedValues() throws Exception {
+        var pulled = new AtomicInteger();
+        var unzipped = EitherStream.of(IntStream.range(0, 100)
+                        .peek(_ -> pulled.incrementAndGet())
+                        .mapToObj(i -> i == 0 || i == 99 ? Either.<Integer, Integer>left(i) : Either.right(i)))
+                .unzip(4);
+
+        var lefts = new ArrayList<Integer>();
+        var thread = Thread.ofPlatform().start(() -> unzipped.left().forEach(lefts::add));
+        while (thread.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        assertThat(pulled.get()).isEqualTo(5);
+
+        assertThat(unzipped.right().count()).isEqualTo(98L);
+        thread.join();
+        assertThat(lefts).containsExactly(0, 99);
+    }
+
+    @Test
+    void unzipPropagatesFailure() {
+        var unzipped = EitherStream.of(Stream.of(right(RIGHT), left(LEFT)))
+                .mapRight(_ -> {
+                    throw new IllegalArgumentException(MAP);
+                })
+                .unzip(1);
+
+        assertThatThrownBy(() -> unzipped.right().findFirst())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(MAP);
+        assertThatThrownBy(() -> unzipped.left().count()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void unzipClosesSourceWhenBothSidesAreClosed() {
+        var closed = new AtomicInteger();
+        var unzipped = EitherStream.of(Stream.of(left(LEFT)).onClose(closed::incrementAndGet)).unzip(1);
+
+        unzipped.left().close();
+        assertThat(closed.get()).isZero();
+        unzipped.right().close();
+        assertThat(closed.get()).isEqualTo(1);
+    }
+
+    private static Stream<Either<Integer, Integer>> numbers(int count) {
+        return IntStream.range(0, count).mapToObj(i -> i % 3 == 0 ? Either.left(i) : Either.right(i));
+    }
 }
@@ -0,0 +1,154 @@
+package me.supcheg.routine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static me.supcheg.routine.Pair.pair;
+import static me.supcheg.routine.TestEithers.LEFT;
+import static me.supcheg.routine.TestEithers.left;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EitherTasksTest {
+
+    @Test
+    void failFastReturnsRightsInTaskOrder() throws Exception {
+        var tasks = IntStream.range(0, 20)
+                .mapToObj(i -> sleeping(20 - i, Either.<String, Integer>right(i)))
+                .toList();
+
+        Either<String, List<Integer>> result = EitherTasks.failFast(tasks, 8);
+
+        assertThat(result).isEqualTo(Either.right(IntStream.range(0, 20).boxed().toList()));
+    }
+
+    @Test
+    void failFastCancelsRemainingTasks() throws Exception {
+        // A sleeper interrupted before it starts fails in permits.acquire() and never reaches its own code, so only
+        // count the sleepers that ran to completion.
+        var completed = new AtomicInteger();
+        var tasks = IntStream.range(0, 10)
+                .mapToObj(_ -> (Callable<Either<String, Integer>>) () -> {
+                    Thread.sleep(60_000);
+                    completed.incrementAndGet();
+                    return Either.right(0);
+                })
+                .collect(Collectors.toList());
+        tasks.add(sleeping(10, Either.left(LEFT)));
+
+        long start = System.nanoTime();
+        Either<String, List<Integer>> result = EitherTasks.failFast(tasks, tasks.size());
+
+        assertThat(result).isEqualTo(left(LEFT));
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(30));
+        assertThat(completed.get()).isZero();
+    }
+
+    @Test
+    void failFastCancelsWaitingTasks() throws Exception {
+        var started = new AtomicInteger();
+        var tasks = IntStream.range(0, 100)
+                // The semaphore does not admit tasks in submission order, so the first task to start fails.
+                .mapToObj(i -> (Callable<Either<String, Integer>>) () -> started.getAndIncrement() == 0
+                        ? Either.left(LEFT)
+                        : sleeping(50, Either.<String, Integer>right(i)).call())
+                .toList();
+
+        Either<String, List<Integer>> result = EitherTasks.failFast(tasks, 1);
+
+        assertThat(result).isEqualTo(left(LEFT));
+        assertThat(started.get()).isLessThan(100);
+    }
+
+    @Test
+    void concurrencyIsLimited() throws Exception {
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var tasks = IntStream.range(0, 50)
+                .mapToObj(i -> (Callable<Either<String, Integer>>) () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(5);
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                    return Either.right(i);
+                })
+                .toList();
+
+        EitherTasks.failFast(tasks, 4);
+
+        assertThat(maxRunning.get()).isBetween(1, 4);
+    }
+
+    @Test
+    void collectAllPartitionsInTaskOrder() throws Exception {
+        var tasks = IntStream.range(0, 10)
+                .mapToObj(i -> sleeping(10 - i, i % 3 == 0 ? Either.<String, Integer>left("l" + i) : Either.right(i)))
+                .toList();
+
+        Pair<List<String>, List<Integer>> result =
+                EitherTasks.collectAll(tasks, 3, Collectors.toList(), Collectors.toList());
+
+        assertThat(result).isEqualTo(pair(List.of("l0", "l3", "l6", "l9"), List.of(1, 2, 4, 5, 7, 8)));
+    }
+
+    @Test
+    void collectAllAcceptsAnyCollector() throws Exception {
+        var tasks = List.of(sleeping(1, Either.<String, Integer>right(1)), sleeping(1, Either.left(LEFT)));
+
+        long count = EitherTasks.collectAll(tasks, 2, Collectors.counting());
+
+        assertThat(count).isEqualTo(2L);
+    }
+
+    @Test
+    void emptyTasks() throws Exception {
+        List<Callable<Either<String, Integer>>> tasks = List.of();
+
+        Either<String, List<Integer>> result = EitherTasks.failFast(tasks, 1);
+
+        assertThat(result).isEqualTo(Either.right(List.of()));
+    }
+
+    @Test
+    void failingTaskFailsTraversal() {
+        List<Callable<Either<String, Integer>>> tasks = List.of(sleeping(1, Either.right(1)), () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThatThrownBy(() -> EitherTasks.collectAll(tasks, 2, Collectors.toList(), Collectors.toList()))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void nullResultFailsTraversal() {
+        List<Callable<Either<String, Integer>>> tasks = List.of(() -> null);
+
+        assertThatThrownBy(() -> EitherTasks.failFast(tasks, 1))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void nonPositiveConcurrencyIsRejected() {
+        List<Callable<Either<String, Integer>>> tasks = List.of();
+
+        assertThatThrownBy(() -> EitherTasks.failFast(tasks, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static <L, R> Callable<Either<L, R>> sleeping(long millis, Either<L, R> result) {
+        return () -> {
+            Thread.sleep(millis);
+            return result;
+        };
+    }
+}
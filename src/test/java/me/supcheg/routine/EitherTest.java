@@ -8,6 +8,7 @@ import static me.supcheg.routine.TestEithers.consumerMock;
 import static me.supcheg.routine.TestEithers.left;
 import static me.supcheg.routine.TestEithers.right;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.only;
@@ -84,6 +85,47 @@ class EitherTest {
         assertThat(right(RIGHT).right()).contains(RIGHT);
     }
 
+    @Test
+    void isLeftIsRight() {
+        assertThat(left(LEFT).isLeft()).isTrue();
+        assertThat(left(LEFT).isRight()).isFalse();
+        assertThat(right(RIGHT).isLeft()).isFalse();
+        assertThat(right(RIGHT).isRight()).isTrue();
+    }
+
+    @Test
+    void orNull() {
+        assertThat(left(LEFT).leftOrNull()).isEqualTo(LEFT);
+        assertThat(left(LEFT).rightOrNull()).isNull();
+        assertThat(right(RIGHT).leftOrNull()).isNull();
+        assertThat(right(RIGHT).rightOrNull()).isEqualTo(RIGHT);
+    }
+
+    @Test
+    void orElse() {
+        assertThat(left(LEFT).leftOrElse(MAP)).isEqualTo(LEFT);
+        assertThat(left(LEFT).rightOrElse(MAP)).isEqualTo(MAP);
+        assertThat(right(RIGHT).leftOrElse(MAP)).isEqualTo(MAP);
+        assertThat(right(RIGHT).rightOrElse(MAP)).isEqualTo(RIGHT);
+    }
+
+    @Test
+    void orElseGet() {
+        assertThat(left(LEFT).leftOrElseGet(() -> MAP)).isEqualTo(LEFT);
+        assertThat(left(LEFT).rightOrElseGet(() -> MAP)).isEqualTo(MAP);
+        assertThat(right(RIGHT).leftOrElseGet(() -> MAP)).isEqualTo(MAP);
+        assertThat(right(RIGHT).rightOrElseGet(() -> MAP)).isEqualTo(RIGHT);
+    }
+
+    @Test
+    void flipThroughInterface() {
+        Either<String, String> left = left(LEFT);
+        Either<String, String> right = right(RIGHT);
+
+        assertThat(left.flip()).isEqualTo(right(LEFT));
+        assertThat(right.flip()).isEqualTo(left(RIGHT));
+    }
+
     @Test
     void leftPeek() {
         var leftPeek = consumerMock();
@@ -169,4 +211,55 @@ class EitherTest {
         right(RIGHT).ifRight(ifRight);
         verify(ifRight, only()).accept(RIGHT);
     }
+
+    @Test
+    void catchingReturnsRight() {
+        Either<NumberFormatException, Integer> result =
+                Either.catching(NumberFormatException.class, () -> Integer.parseInt("42"));
+
+        assertThat(result).isEqualTo(Either.right(42));
+    }
+
+    @Test
+    void catchingCapturesDeclaredType() {
+        Either<NumberFormatException, Integer> result =
+                Either.catching(NumberFormatException.class, () -> Integer.parseInt(LEFT));
+
+        assertThat(result.isLeft()).isTrue();
+        assertThat(result.leftOrNull()).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void catchingCapturesCheckedException() {
+        Either<StacklessException, String> result = Either.catching(StacklessException.class, () -> {
+            throw new StacklessException(LEFT);
+        });
+
+        assertThat(result.leftOrNull()).hasMessageContaining(LEFT);
+    }
+
+    @Test
+    void catchingRethrowsOtherExceptions() {
+        assertThatThrownBy(() -> Either.catching(NumberFormatException.class, () -> {
+                    throw new IllegalStateException(LEFT);
+                }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(LEFT);
+    }
+
+    @Test
+    void catchingRejectsNullValue() {
+        assertThatThrownBy(() -> Either.catching(RuntimeException.class, () -> null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void stacklessExceptionHasNoStackTrace() {
+        var exception = new StacklessException(LEFT, new IllegalStateException());
+        exception.addSuppressed(new IllegalStateException());
+
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getSuppressed()).isEmpty();
+        assertThat(exception.getCause()).isInstanceOf(IllegalStateException.class);
+    }
 }
@@ -0,0 +1,107 @@
+package me.supcheg.routine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collector;
+import java.util.stream.Collector.Characteristics;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InstrumentedCollectorTest {
+
+    @Test
+    void disabledByDefault() {
+        Collector<Either<String, Long>, ?, EitherCounts> collector = EitherCollectors.counting();
+
+        assertThat(CollectorMetrics.isEnabled()).isFalse();
+        assertThat(collector instanceof InstrumentedCollector).isFalse();
+    }
+
+    @Test
+    void sequentialCollectionReportsOneContainer() {
+        Collector<Either<String, Long>, ?, Pair<List<String>, List<Long>>> grouping =
+                EitherCollectors.groupingTo(Collectors.toList(), Collectors.toList());
+        var samples = new CopyOnWriteArrayList<CollectorMetrics.Sample>();
+
+        var result = collect(eithers(10), InstrumentedCollector.wrap("groupingTo", grouping), samples);
+
+        assertThat(result.left()).hasSize(4);
+        assertThat(result.right()).hasSize(6);
+        assertThat(samples).hasSize(1);
+        var sample = samples.getFirst();
+        assertThat(sample.collector()).isEqualTo("groupingTo");
+        assertThat(sample.lefts()).isEqualTo(4);
+        assertThat(sample.rights()).isEqualTo(6);
+        assertThat(sample.containers()).isEqualTo(1);
+        assertThat(sample.combineNanos()).isZero();
+        assertThat(sample.accumulateNanos()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    void parallelCollectionSumsAllContainers() {
+        Collector<Either<String, Long>, ?, EitherCounts> counting = EitherCollectors.counting();
+        var samples = new CopyOnWriteArrayList<CollectorMetrics.Sample>();
+
+        var result = collect(eithers(10_000).parallel(), InstrumentedCollector.wrap("counting", counting), samples);
+
+        assertThat(result).isEqualTo(new EitherCounts(3_334, 6_666));
+        assertThat(samples).hasSize(1);
+        var sample = samples.getFirst();
+        assertThat(sample.lefts()).isEqualTo(3_334);
+        assertThat(sample.rights()).isEqualTo(6_666);
+        assertThat(sample.containers()).isPositive();
+    }
+
+    @Test
+    void concurrentCollectionSharesOneContainer() {
+        Collector<Either<String, Long>, ?, EitherCounts> counting = EitherCollectors.countingConcurrent();
+        var samples = new CopyOnWriteArrayList<CollectorMetrics.Sample>();
+
+        var result = collect(
+                eithers(10_000).parallel(), InstrumentedCollector.wrap("countingConcurrent", counting), samples);
+
+        assertThat(result).isEqualTo(new EitherCounts(3_334, 6_666));
+        var sample = samples.getFirst();
+        assertThat(sample.lefts() + sample.rights()).isEqualTo(10_000);
+        assertThat(sample.containers()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsCharacteristicsExceptIdentityFinish() {
+        Collector<Either<String, Long>, ?, Pair<List<String>, List<Long>>> grouping =
+                EitherCollectors.groupingToConcurrent(Collectors.toList(), Collectors.toList());
+
+        var collector = InstrumentedCollector.wrap("groupingToConcurrent", grouping);
+
+        assertThat(collector.characteristics())
+                .containsExactlyInAnyOrder(Characteristics.CONCURRENT, Characteristics.UNORDERED);
+    }
+
+    @Test
+    void installRejectsNull() {
+        assertThatThrownBy(() -> CollectorMetrics.install(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    private static <T> T collect(
+            Stream<Either<String, Long>> stream,
+            Collector<Either<String, Long>, ?, T> collector,
+            List<CollectorMetrics.Sample> samples) {
+        CollectorMetrics.install(samples::add);
+        try {
+            return stream.collect(collector);
+        } finally {
+            CollectorMetrics.install(_ -> {});
+        }
+    }
+
+    private static Stream<Either<String, Long>> eithers(int count) {
+        return IntStream.range(0, count)
+                .<Either<String, Long>>mapToObj(i -> i % 3 == 0 ? Either.left("left-" + i) : Either.right((long) i));
+    }
+}
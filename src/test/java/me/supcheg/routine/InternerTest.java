@@ -0,0 +1,117 @@
+package me.supcheg.routine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static me.supcheg.routine.Interner.Mode.EQUALITY;
+import static me.supcheg.routine.Interner.Mode.IDENTITY;
+import static me.supcheg.routine.Pair.pair;
+import static me.supcheg.routine.TestEithers.LEFT;
+import static me.supcheg.routine.TestEithers.RIGHT;
+import static me.supcheg.routine.TestEithers.left;
+import static me.supcheg.routine.TestEithers.right;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InternerTest {
+
+    @Test
+    void repeatedValuesShareInstance() {
+        var interner = Interner.create(64, EQUALITY);
+
+        var first = interner.<String, String>left(LEFT);
+        assertThat(interner.<String, String>left(new String(LEFT))).isSameAs(first).isEqualTo(left(LEFT));
+        assertThat(interner.<String, String>right(RIGHT)).isSameAs(interner.right(RIGHT)).isEqualTo(right(RIGHT));
+        assertThat(interner.pair(LEFT, RIGHT)).isSameAs(interner.pair(LEFT, RIGHT)).isEqualTo(pair(LEFT, RIGHT));
+    }
+
+    @Test
+    void branchesDoNotMix() {
+        var interner = Interner.create(1, EQUALITY);
+
+        Either<String, String> left = interner.left(LEFT);
+        Either<String, String> right = interner.right(LEFT);
+
+        assertThat(left).isEqualTo(left(LEFT));
+        assertThat(right).isEqualTo(right(LEFT));
+    }
+
+    @Test
+    void equalityModeKeepsClassesApart() {
+        var interner = Interner.create(64, EQUALITY);
+
+        var immutable = interner.<List<Integer>, String>left(List.of(1));
+        var mutable = interner.<ArrayList<Integer>, String>left(new ArrayList<>(List.of(1)));
+        var pair = interner.pair(List.of(1), RIGHT);
+
+        assertThat(mutable).isNotSameAs(immutable).isEqualTo(immutable);
+        assertThat(mutable.value()).isInstanceOf(ArrayList.class);
+        assertThat(interner.pair(List.of(1), RIGHT)).isSameAs(pair);
+        assertThat(interner.pair(new ArrayList<>(List.of(1)), RIGHT).left()).isInstanceOf(ArrayList.class);
+    }
+
+    @Test
+    void identityModeComparesReferences() {
+        var interner = Interner.create(64, IDENTITY);
+        var value = new String(LEFT);
+
+        var first = interner.<String, String>left(value);
+
+        assertThat(interner.<String, String>left(value)).isSameAs(first);
+        assertThat(interner.<String, String>left(new String(LEFT))).isNotSameAs(first);
+    }
+
+    @Test
+    void statsCountHitsAndMisses() {
+        var interner = Interner.create(1024, EQUALITY);
+
+        IntStream.range(0, 1_000).forEach(i -> interner.pair(i % 10, LEFT));
+
+        var stats = interner.stats();
+        assertThat(stats.misses()).isEqualTo(10L);
+        assertThat(stats.hits()).isEqualTo(990L);
+        assertThat(stats.requests()).isEqualTo(1_000L);
+        assertThat(stats.hitRate()).isEqualTo(0.99);
+    }
+
+    @Test
+    void boundedTableEvicts() {
+        var interner = Interner.create(1, EQUALITY);
+
+        var first = interner.pair(LEFT, RIGHT);
+        interner.pair(RIGHT, LEFT);
+
+        assertThat(interner.pair(LEFT, RIGHT)).isNotSameAs(first).isEqualTo(first);
+        assertThat(interner.stats().hits()).isZero();
+    }
+
+    @Test
+    void clearEvictsEverything() {
+        var interner = Interner.create(16, EQUALITY);
+        var first = interner.pair(LEFT, RIGHT);
+
+        interner.clear();
+
+        assertThat(interner.pair(LEFT, RIGHT)).isNotSameAs(first);
+    }
+
+    @Test
+    void concurrentUseReturnsEqualValues() {
+        var interner = Interner.create(8, EQUALITY);
+
+        assertThat(IntStream.range(0, 100_000)
+                        .parallel()
+                        .allMatch(i -> interner.pair(i % 100, -(i % 100)).equals(pair(i % 100, -(i % 100)))))
+                .isTrue();
+        assertThat(interner.stats().requests()).isEqualTo(100_000L);
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThatThrownBy(() -> Interner.create(0, EQUALITY)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Interner.create(16, IDENTITY).left(null)).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,262 @@
+package me.supcheg.routine;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static me.supcheg.routine.Pair.pair;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JoinsTest {
+
+    private static final List<Order> ORDERS =
+            List.of(new Order(1, "a"), new Order(2, "b"), new Order(2, "c"), new Order(4, "d"));
+    private static final List<Payment> PAYMENTS =
+            List.of(new Payment(2, 10), new Payment(3, 20), new Payment(2, 30), new Payment(1, 40), new Payment(5, 50));
+
+    @Test
+    void hashJoinInnerPairsEveryMatch() {
+        var joined = Joins.hashJoin(ORDERS, Order::id, PAYMENTS, Payment::orderId, Joins.JoinType.INNER)
+                .toList();
+
+        assertThat(joined)
+                .containsExactlyInAnyOrder(
+                        Either.right(pair(ORDERS.get(0), PAYMENTS.get(3))),
+                        Either.right(pair(ORDERS.get(1), PAYMENTS.get(0))),
+                        Either.right(pair(ORDERS.get(1), PAYMENTS.get(2))),
+                        Either.right(pair(ORDERS.get(2), PAYMENTS.get(0))),
+                        Either.right(pair(ORDERS.get(2), PAYMENTS.get(2))));
+    }
+
+    @Test
+    void hashJoinFullEmitsOuterRowsOfBothSides() {
+        var joined = Joins.hashJoin(ORDERS, Order::id, PAYMENTS, Payment::orderId, Joins.JoinType.FULL)
+                .toList();
+
+        assertThat(joined).hasSize(8);
+        assertThat(outer(joined))
+                .containsExactlyInAnyOrder(
+                        Either.left(ORDERS.get(3)), Either.right(PAYMENTS.get(1)), Either.right(PAYMENTS.get(4)));
+    }
+
+    @Test
+    void hashJoinLeftAndRightKeepOneSide() {
+        var left = Joins.hashJoin(ORDERS, Order::id, PAYMENTS, Payment::orderId, Joins.JoinType.LEFT)
+                .toList();
+        var right = Joins.hashJoin(ORDERS, Order::id, PAYMENTS, Payment::orderId, Joins.JoinType.RIGHT)
+                .toList();
+
+        assertThat(outer(left)).containsExactly(Either.left(ORDERS.get(3)));
+        assertThat(outer(right))
+                .containsExactlyInAnyOrder(Either.right(PAYMENTS.get(1)), Either.right(PAYMENTS.get(4)));
+    }
+
+    @Test
+    void hashJoinOfStreamFollowsProbeOrder() {
+        var joined = Joins.hashJoin(PAYMENTS.stream(), Payment::orderId, ORDERS, Order::id, Joins.JoinType.FULL)
+                .toList();
+
+        assertThat(joined)
+                .containsExactly(
+                        Either.right(pair(PAYMENTS.get(0), ORDERS.get(1))),
+                        Either.right(pair(PAYMENTS.get(0), ORDERS.get(2))),
+                        Either.left(Either.left(PAYMENTS.get(1))),
+                        Either.right(pair(PAYMENTS.get(2), ORDERS.get(1))),
+                        Either.right(pair(PAYMENTS.get(2), ORDERS.get(2))),
+                        Either.right(pair(PAYMENTS.get(3), ORDERS.get(0))),
+                        Either.left(Either.left(PAYMENTS.get(4))),
+                        Either.left(Either.right(ORDERS.get(3))));
+    }
+
+    @Test
+    void parallelProbeEmitsEveryUnmatchedBuildRowOnce() {
+        var orders = IntStream.range(0, 3_000).mapToObj(i -> new Order(i, "o" + i)).toList();
+        var payments = IntStream.range(0, 100_000).mapToObj(i -> new Payment(i % 2_000, i));
+
+        var result = Joins.hashJoin(payments.parallel(), Payment::orderId, orders, Order::id, Joins.JoinType.FULL)
+                .collect(EitherCollectors.groupingTo(Collectors.toList(), Collectors.counting()));
+
+        long matches = result.right();
+        assertThat(matches).isEqualTo(100_000);
+        var unmatchedOrders = result.left().stream()
+                .flatMap(row -> row.right().stream())
+                .map(Order::id)
+                .sorted()
+                .toList();
+        assertThat(unmatchedOrders)
+                .containsExactlyElementsOf(IntStream.range(2_000, 3_000).boxed().toList());
+        assertThat(result.left()).hasSize(1_000);
+    }
+
+    @Test
+    void parallelProbeWithoutMatchesEmitsWholeBuildSide() {
+        var orders = IntStream.range(0, 1_000).mapToObj(i -> new Order(i, "o" + i)).toList();
+        var payments = IntStream.range(0, 50_000).mapToObj(i -> new Payment(-1 - i, i));
+
+        var result = Joins.hashJoin(payments.parallel(), Payment::orderId, orders, Order::id, Joins.JoinType.RIGHT)
+                .flatMap(row -> row.left().stream())
+                .flatMap(row -> row.right().stream())
+                .toList();
+
+        assertThat(result).containsExactlyInAnyOrderElementsOf(orders);
+    }
+
+    @Test
+    void hashJoinLongMatchesHashJoin() {
+        var orders = IntStream.range(0, 5_000).mapToObj(i -> new Order(i % 700, "o" + i)).toList();
+        var payments = IntStream.range(0, 3_000).mapToObj(i -> new Payment(i % 900, i)).toList();
+
+        var expected = Joins.hashJoin(orders, Order::id, payments, Payment::orderId, Joins.JoinType.FULL)
+                .toList();
+        var actual = Joins.hashJoinLong(orders, Order::id, payments, Payment::orderId, Joins.JoinType.FULL)
+                .toList();
+
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void mergeJoinPairsRunsOfEqualKeys() {
+        var orders = Stream.of(new Order(1, "a"), new Order(2, "b"), new Order(2, "c"), new Order(4, "d"));
+        var payments = Stream.of(
+                new Payment(1, 10), new Payment(2, 20), new Payment(2, 30), new Payment(3, 40), new Payment(5, 50));
+
+        var joined = Joins.mergeJoin(
+                        orders,
+                        Order::id,
+                        payments,
+                        Payment::orderId,
+                        Comparator.<Integer>naturalOrder(),
+                        Joins.JoinType.FULL)
+                .toList();
+
+        assertThat(joined)
+                .containsExactly(
+                        Either.right(pair(new Order(1, "a"), new Payment(1, 10))),
+                        Either.right(pair(new Order(2, "b"), new Payment(2, 20))),
+                        Either.right(pair(new Order(2, "b"), new Payment(2, 30))),
+                        Either.right(pair(new Order(2, "c"), new Payment(2, 20))),
+                        Either.right(pair(new Order(2, "c"), new Payment(2, 30))),
+                        Either.left(Either.right(new Payment(3, 40))),
+                        Either.left(Either.left(new Order(4, "d"))),
+                        Either.left(Either.right(new Payment(5, 50))));
+    }
+
+    @Test
+    void mergeJoinMatchesHashJoin() {
+        var orders = IntStream.range(0, 2_000).mapToObj(i -> new Order(i / 3, "o" + i)).toList();
+        var payments = IntStream.range(0, 2_000).mapToObj(i -> new Payment(i / 2 + 100, i)).toList();
+
+        var expected = Joins.hashJoin(orders, Order::id, payments, Payment::orderId, Joins.JoinType.FULL)
+                .toList();
+        var actual = Joins.mergeJoin(
+                        orders.stream(),
+                        Order::id,
+                        payments.stream(),
+                        Payment::orderId,
+                        Comparator.<Integer>naturalOrder(),
+                        Joins.JoinType.FULL)
+                .toList();
+
+        assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    void mergeJoinRejectsUnsortedInput() {
+        var joined = Joins.mergeJoin(
+                Stream.of(new Order(2, "a"), new Order(1, "b")),
+                Order::id,
+                Stream.<Payment>empty(),
+                Payment::orderId,
+                Comparator.<Integer>naturalOrder(),
+                Joins.JoinType.LEFT);
+
+        assertThatThrownBy(joined::toList).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void hashJoinMatchesNullKeys() {
+        var lefts = List.of(new Tagged(null, "a"), new Tagged(1, "b"));
+        var rights = List.of(new Tagged(null, "x"), new Tagged(2, "y"));
+
+        var joined = Joins.hashJoin(lefts, Tagged::key, rights, Tagged::key, Joins.JoinType.FULL).toList();
+
+        assertThat(joined)
+                .containsExactlyInAnyOrder(
+                        Either.right(pair(new Tagged(null, "a"), new Tagged(null, "x"))),
+                        Either.left(Either.left(new Tagged(1, "b"))),
+                        Either.left(Either.right(new Tagged(2, "y"))));
+    }
+
+    @Test
+    void mergeJoinKeepsNullKeysApart() {
+        var lefts = Stream.of(new Tagged(null, "a"), new Tagged(1, "b"));
+        var rights = Stream.of(new Tagged(null, "x"), new Tagged(1, "y"));
+
+        var joined = Joins.mergeJoin(
+                        lefts,
+                        Tagged::key,
+                        rights,
+                        Tagged::key,
+                        Comparator.nullsFirst(Comparator.<Integer>naturalOrder()),
+                        Joins.JoinType.INNER)
+                .toList();
+
+        assertThat(joined)
+                .containsExactly(
+                        Either.right(pair(new Tagged(null, "a"), new Tagged(null, "x"))),
+                        Either.right(pair(new Tagged(1, "b"), new Tagged(1, "y"))));
+    }
+
+    @Test
+    void joinsRejectNullKeyFunctions() {
+        assertThatThrownBy(() -> Joins.hashJoin(
+                        ORDERS, null, List.<Payment>of(), Payment::orderId, Joins.JoinType.LEFT))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> Joins.hashJoinLong(
+                        ORDERS.stream(), Order::id, List.<Payment>of(), null, Joins.JoinType.LEFT))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void mergeJoinClosesBothInputs() {
+        var closed = new AtomicInteger();
+        var orders = ORDERS.stream().onClose(closed::incrementAndGet);
+        var payments = Stream.<Payment>empty().onClose(closed::incrementAndGet);
+
+        try (var joined = Joins.mergeJoin(
+                orders,
+                Order::id,
+                payments,
+                Payment::orderId,
+                Comparator.<Integer>naturalOrder(),
+                Joins.JoinType.INNER)) {
+            assertThat(joined.count()).isZero();
+        }
+
+        assertThat(closed.get()).isEqualTo(2);
+    }
+
+    private static List<Either<Order, Payment>> outer(List<Either<Either<Order, Payment>, Pair<Order, Payment>>> rows) {
+        var outer = new ArrayList<Either<Order, Payment>>();
+        for (var row : rows) {
+            if (row instanceof Either.Left(var value)) {
+                outer.add(value);
+            }
+        }
+        return outer;
+    }
+
+    private record Order(int id, String name) {}
+
+    private record Payment(int orderId, long amount) {}
+
+    private record Tagged(@Nullable Integer key, String name) {}
+}
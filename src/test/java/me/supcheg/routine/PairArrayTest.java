@@ -0,0 +1,117 @@
+package me.supcheg.routine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static me.supcheg.routine.Pair.pair;
+import static me.supcheg.routine.PairArray.toPairArray;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PairArrayTest {
+
+    static final String LEFT = "_left";
+    static final String RIGHT = "_right";
+
+    @Test
+    void addAndGet() {
+        var array = new PairArray<String, Integer>(0);
+        for (int i = 0; i < 100; i++) {
+            array.add(LEFT + i, i);
+        }
+
+        assertThat(array.size()).isEqualTo(100);
+        assertThat(array.left(42)).isEqualTo(LEFT + 42);
+        assertThat(array.right(42)).isEqualTo(42);
+        assertThat(array.get(99)).isEqualTo(pair(LEFT + 99, 99));
+        assertThatThrownBy(() -> array.get(100)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> array.add(LEFT, null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void viewReadsInPlace() {
+        var array = new PairArray<String, String>();
+        array.add(LEFT, RIGHT);
+        array.add(RIGHT, LEFT);
+
+        var view = array.view(0);
+        assertThat(view.left()).isEqualTo(LEFT);
+        array.set(0, RIGHT, RIGHT);
+        assertThat(view.left()).isEqualTo(RIGHT);
+        assertThat(view.moveTo(1).toPair()).isEqualTo(pair(RIGHT, LEFT));
+        assertThatThrownBy(() -> view.moveTo(2)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void forEachVisitsInOrder() {
+        var array = new PairArray<Integer, Integer>();
+        array.addAll(IntStream.range(0, 10).mapToObj(i -> pair(i, -i)));
+
+        var visited = new ArrayList<Integer>();
+        array.forEach((left, right) -> {
+            visited.add(left);
+            visited.add(right);
+        });
+
+        assertThat(visited).hasSize(20).startsWith(0, 0, 1, -1);
+    }
+
+    @Test
+    void parallelAddAllKeepsOrder() {
+        var array = new PairArray<Integer, String>();
+        array.add(-1, RIGHT);
+        array.addAll(IntStream.range(0, 10_000).parallel().mapToObj(i -> pair(i, Integer.toString(i))));
+
+        assertThat(array.size()).isEqualTo(10_001);
+        assertThat(array.get(0)).isEqualTo(pair(-1, RIGHT));
+        assertThat(array.get(5_001)).isEqualTo(pair(5_000, "5000"));
+    }
+
+    @Test
+    void collectorKeepsOrder() {
+        var array = IntStream.range(0, 1_000).parallel().mapToObj(i -> pair(i, i)).collect(toPairArray());
+
+        assertThat(array.stream().map(Pair::left).collect(toList()))
+                .containsExactlyElementsOf(IntStream.range(0, 1_000).boxed().toList());
+    }
+
+    @Test
+    void spliteratorSplitsEvenly() {
+        var array = new PairArray<Integer, Integer>();
+        for (int i = 0; i < 1_001; i++) {
+            array.add(i, i);
+        }
+
+        Spliterator<Pair<Integer, Integer>> suffix = array.spliterator();
+        Spliterator<Pair<Integer, Integer>> prefix = suffix.trySplit();
+
+        assertThat(prefix.estimateSize()).isEqualTo(500L);
+        assertThat(suffix.estimateSize()).isEqualTo(501L);
+        assertThat(suffix.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+        assertThat(array.parallelStream().mapToInt(Pair::left).sum()).isEqualTo(500_500);
+    }
+
+    @Test
+    void streamSnapshotsContents() {
+        var array = new PairArray<String, String>();
+        array.add(LEFT, RIGHT);
+        var stream = array.stream();
+        array.add(RIGHT, LEFT);
+
+        assertThat(stream.collect(toList())).containsExactly(pair(LEFT, RIGHT));
+    }
+
+    @Test
+    void clear() {
+        var array = new PairArray<String, String>();
+        array.add(LEFT, RIGHT);
+        array.clear();
+
+        assertThat(array.isEmpty()).isTrue();
+        assertThat(array.toString()).isEqualTo("[]");
+    }
+}
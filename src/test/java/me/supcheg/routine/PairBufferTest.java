@@ -0,0 +1,140 @@
+package me.supcheg.routine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static me.supcheg.routine.IntPair.intPair;
+import static me.supcheg.routine.LongPair.longPair;
+import static me.supcheg.routine.Pair.pair;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PairBufferTest {
+
+    @Test
+    void appendAndGrow() {
+        try (var buffer = new LongPairBuffer(1)) {
+            for (long i = 0; i < 10_000; i++) {
+                buffer.append(i, -i);
+            }
+
+            assertThat(buffer.size()).isEqualTo(10_000L);
+            assertThat(buffer.left(9_999)).isEqualTo(9_999L);
+            assertThat(buffer.right(9_999)).isEqualTo(-9_999L);
+            assertThat(buffer.pairAt(42)).isEqualTo(longPair(42, -42));
+            assertThat(buffer.get(42)).isEqualTo(pair(42L, -42L));
+            assertThatThrownBy(() -> buffer.left(10_000)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Test
+    void setReplacesPair() {
+        try (var buffer = new IntPairBuffer()) {
+            buffer.append(intPair(1, 2));
+            buffer.set(0, 3, 4);
+
+            assertThat(buffer.pairAt(0)).isEqualTo(intPair(3, 4));
+        }
+    }
+
+    @Test
+    void sortLongPairs() {
+        var random = new SplittableRandom(42);
+        try (var buffer = new LongPairBuffer()) {
+            for (int i = 0; i < 5_000; i++) {
+                buffer.append(random.nextLong(100) - 50, random.nextLong());
+            }
+
+            buffer.sortByLeft();
+            assertThat(buffer.longPairs().collect(toList()))
+                    .isSortedAccordingTo(Comparator.comparingLong(LongPair::left).thenComparingLong(LongPair::right));
+
+            buffer.sortByRight();
+            assertThat(buffer.longPairs().collect(toList()))
+                    .isSortedAccordingTo(Comparator.comparingLong(LongPair::right).thenComparingLong(LongPair::left));
+        }
+    }
+
+    @Test
+    void sortIntPairs() {
+        var random = new SplittableRandom(42);
+        try (var buffer = new IntPairBuffer()) {
+            for (int i = 0; i < 5_000; i++) {
+                buffer.append(random.nextInt(), random.nextInt(10) - 5);
+            }
+
+            buffer.sortByRight();
+            assertThat(buffer.intPairs().collect(toList()))
+                    .isSortedAccordingTo(Comparator.comparingInt(IntPair::right).thenComparingInt(IntPair::left));
+
+            buffer.sortByLeft();
+            assertThat(buffer.intPairs().collect(toList()))
+                    .isSortedAccordingTo(Comparator.comparingInt(IntPair::left).thenComparingInt(IntPair::right));
+        }
+    }
+
+    @Test
+    void sortAlreadySortedAndEqualKeys() {
+        try (var buffer = new IntPairBuffer()) {
+            for (int i = 0; i < 10_000; i++) {
+                buffer.append(i / 1_000, 10_000 - i);
+            }
+
+            buffer.sortByLeft();
+
+            assertThat(buffer.intPairs().collect(toList()))
+                    .isSortedAccordingTo(Comparator.comparingInt(IntPair::left).thenComparingInt(IntPair::right));
+        }
+    }
+
+    @Test
+    void parallelStreamKeepsOrder() {
+        try (var buffer = new IntPairBuffer()) {
+            IntStream.range(0, 10_000).forEach(i -> buffer.append(i, i * 2));
+
+            assertThat(buffer.stream().parallel().map(Pair::left).collect(toList()))
+                    .containsExactlyElementsOf(IntStream.range(0, 10_000).boxed().toList());
+        }
+    }
+
+    @Test
+    void closedBufferRejectsAccess() {
+        var buffer = new LongPairBuffer(1);
+        buffer.append(1, 2);
+        buffer.close();
+        buffer.close();
+
+        assertThatThrownBy(() -> buffer.left(0)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> buffer.append(3, 4)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(buffer::size).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(buffer::clear).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(buffer::stream).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(buffer::longPairs).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(buffer::sortByLeft).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void closedEmptyBufferRejectsAccess() {
+        var buffer = new IntPairBuffer(0);
+        buffer.close();
+
+        assertThatThrownBy(buffer::isEmpty).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(buffer::intPairs).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> PairSort.radixSortByLeft(buffer)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void clear() {
+        try (PairBuffer<Long, Long> buffer = new LongPairBuffer()) {
+            ((LongPairBuffer) buffer).append(1, 2);
+            buffer.clear();
+
+            assertThat(buffer.isEmpty()).isTrue();
+            assertThat(buffer.stream().count()).isZero();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package me.supcheg.routine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collector.Characteristics;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static me.supcheg.routine.Pair.pair;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PairCollectorsTest {
+
+    @Test
+    void unzippingFeedsBothDownstreams() {
+        var result = Stream.of(pair("a", 1), pair("b", 2), pair("c", 3))
+                .collect(PairCollectors.unzipping(Collectors.toList(), Collectors.summingInt(Integer::intValue)));
+
+        assertThat(result).isEqualTo(pair(List.of("a", "b", "c"), 6));
+    }
+
+    @Test
+    void unzippingCombinesInParallel() {
+        var result = IntStream.range(0, 100_000)
+                .parallel()
+                .mapToObj(i -> pair(i, (long) i * 2))
+                .collect(PairCollectors.unzipping(Collectors.toList(), Collectors.summingLong(Long::longValue)));
+
+        assertThat(result.left()).isEqualTo(IntStream.range(0, 100_000).boxed().toList());
+        assertThat(result.right()).isEqualTo(99_999L * 100_000L);
+    }
+
+    @Test
+    void unzippingKeepsSharedCharacteristics() {
+        var both = PairCollectors.unzipping(
+                Collectors.toConcurrentMap(Integer::intValue, Integer::intValue),
+                Collectors.toConcurrentMap(Integer::intValue, Integer::intValue));
+        var mixed = PairCollectors.unzipping(
+                Collectors.toList(), Collectors.toConcurrentMap(Integer::intValue, Integer::intValue));
+
+        assertThat(both.characteristics())
+                .containsExactlyInAnyOrder(
+                        Characteristics.CONCURRENT, Characteristics.UNORDERED, Characteristics.IDENTITY_FINISH);
+        assertThat(mixed.characteristics()).containsExactly(Characteristics.IDENTITY_FINISH);
+    }
+
+    @Test
+    void toMapUsesComponentsDirectly() {
+        var result = Stream.of(pair("a", 1), pair("b", 2)).collect(PairCollectors.toMap());
+
+        assertThat(result).isEqualTo(Map.of("a", 1, "b", 2));
+    }
+
+    @Test
+    void toMapRejectsDuplicateKeys() {
+        var stream = Stream.of(pair("a", 1), pair("a", 2));
+
+        assertThatThrownBy(() -> stream.collect(PairCollectors.toMap()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void toMapMergesInParallel() {
+        var result = IntStream.range(0, 100_000)
+                .parallel()
+                .mapToObj(i -> pair(i % 10, 1))
+                .collect(PairCollectors.toMap(Integer::sum, TreeMap::new));
+
+        assertThat(result).isEqualTo(IntStream.range(0, 10).boxed().collect(Collectors.toMap(i -> i, _ -> 10_000)));
+    }
+}
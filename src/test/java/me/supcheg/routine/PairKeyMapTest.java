@@ -0,0 +1,134 @@
+package me.supcheg.routine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static me.supcheg.routine.Pair.pair;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PairKeyMapTest {
+
+    static final String LEFT = "_left";
+    static final String RIGHT = "_right";
+    static final String VALUE = "_value";
+
+    @Test
+    void putAndGet() {
+        var map = new PairKeyMap<String, String, String>();
+
+        assertThat(map.put(LEFT, RIGHT, VALUE)).isNull();
+        assertThat(map.put(LEFT, RIGHT, VALUE + VALUE)).isEqualTo(VALUE);
+        assertThat(map.get(LEFT, RIGHT)).isEqualTo(VALUE + VALUE);
+        assertThat(map.get(RIGHT, LEFT)).isNull();
+        assertThat(map.getOrDefault(RIGHT, LEFT, VALUE)).isEqualTo(VALUE);
+        assertThat(map.containsKey(LEFT, RIGHT)).isTrue();
+        assertThat(map.size()).isEqualTo(1);
+        assertThatThrownBy(() -> map.put(LEFT, RIGHT, null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void computeIfAbsentCallsFunctionOnce() {
+        var map = new PairKeyMap<String, Integer, String>();
+        var calls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(map.computeIfAbsent(LEFT, 1, (l, r) -> {
+                        calls.incrementAndGet();
+                        return l + r;
+                    }))
+                    .isEqualTo(LEFT + 1);
+        }
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(map.computeIfAbsent(LEFT, 2, (_, _) -> null)).isNull();
+        assertThat(map.containsKey(LEFT, 2)).isFalse();
+    }
+
+    @Test
+    void behavesLikeHashMap() {
+        var random = new SplittableRandom(42);
+        var map = new PairKeyMap<Integer, Integer, Integer>(0);
+        var reference = new HashMap<Pair<Integer, Integer>, Integer>();
+
+        for (int i = 0; i < 100_000; i++) {
+            int left = random.nextInt(64);
+            int right = random.nextInt(64);
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(map.put(left, right, i)).isEqualTo(reference.put(pair(left, right), i));
+                case 1 -> assertThat(map.remove(left, right)).isEqualTo(reference.remove(pair(left, right)));
+                default -> assertThat(map.get(left, right)).isEqualTo(reference.get(pair(left, right)));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(reference.size());
+        assertThat(map.asMap()).isEqualTo(reference);
+    }
+
+    @Test
+    void asMapIsLive() {
+        var map = new PairKeyMap<String, String, String>();
+        var view = map.asMap();
+
+        view.put(pair(LEFT, RIGHT), VALUE);
+        assertThat(map.get(LEFT, RIGHT)).isEqualTo(VALUE);
+        assertThat(view.get(pair(LEFT, RIGHT))).isEqualTo(VALUE);
+        assertThat(view.get(LEFT)).isNull();
+
+        map.put(RIGHT, LEFT, VALUE);
+        assertThat(view.keySet()).containsExactlyInAnyOrder(pair(LEFT, RIGHT), pair(RIGHT, LEFT));
+
+        view.entrySet().iterator().next().setValue(RIGHT);
+        assertThat(view.values()).contains(RIGHT);
+
+        view.keySet().removeIf(key -> key.left().equals(LEFT));
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.containsKey(LEFT, RIGHT)).isFalse();
+    }
+
+    @Test
+    void clear() {
+        var map = new PairKeyMap<String, String, String>();
+        map.put(LEFT, RIGHT, VALUE);
+        map.clear();
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get(LEFT, RIGHT)).isNull();
+        assertThat(map.toString()).isEqualTo("{}");
+    }
+
+    @Test
+    void iteratorFailsFastAfterPut() {
+        var map = new PairKeyMap<Integer, Integer, Integer>();
+        map.put(0, 0, 0);
+        map.put(1, 1, 1);
+        var iterator = map.asMap().entrySet().iterator();
+        iterator.next();
+        for (int i = 2; i < 100; i++) {
+            map.put(i, -i, i);
+        }
+
+        assertThatThrownBy(iterator::next).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void iteratorRemovesEntries() {
+        var map = new PairKeyMap<Integer, Integer, Integer>();
+        for (int i = 0; i < 10; i++) {
+            map.put(i, -i, i);
+        }
+        for (var iterator = map.asMap().entrySet().iterator(); iterator.hasNext(); ) {
+            if (iterator.next().getValue() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(5);
+        assertThat(map.asMap().keySet()).containsExactlyInAnyOrder(
+                pair(1, -1), pair(3, -3), pair(5, -5), pair(7, -7), pair(9, -9));
+    }
+}
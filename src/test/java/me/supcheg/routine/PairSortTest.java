@@ -0,0 +1,157 @@
+package me.supcheg.routine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static me.supcheg.routine.IntPair.intPair;
+import static me.supcheg.routine.LongPair.longPair;
+import static me.supcheg.routine.Pair.pair;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PairSortTest {
+
+    @Test
+    void naturalComparatorsAreLexicographic() {
+        var pairs = new ArrayList<>(List.of(pair(2, "a"), pair(1, "b"), pair(2, "0"), pair(1, "a")));
+
+        pairs.sort(PairComparators.leftThenRight());
+        assertThat(pairs).containsExactly(pair(1, "a"), pair(1, "b"), pair(2, "0"), pair(2, "a"));
+
+        pairs.sort(PairComparators.rightThenLeft());
+        assertThat(pairs).containsExactly(pair(2, "0"), pair(1, "a"), pair(2, "a"), pair(1, "b"));
+    }
+
+    @Test
+    void customComparatorsApplyToTheirComponent() {
+        var pairs = new ArrayList<>(List.of(pair(2, "a"), pair(1, "b"), pair(2, "0"), pair(1, "a")));
+
+        pairs.sort(PairComparators.leftThenRight(Comparator.reverseOrder(), Comparator.naturalOrder()));
+        assertThat(pairs).containsExactly(pair(2, "0"), pair(2, "a"), pair(1, "a"), pair(1, "b"));
+
+        pairs.sort(PairComparators.rightThenLeft(Comparator.naturalOrder(), Comparator.reverseOrder()));
+        assertThat(pairs).containsExactly(pair(2, "0"), pair(2, "a"), pair(1, "a"), pair(1, "b"));
+    }
+
+    @Test
+    void primitiveComparatorsHandleExtremes() {
+        var ints =
+                new ArrayList<>(List.of(intPair(Integer.MAX_VALUE, 0), intPair(Integer.MIN_VALUE, 1), intPair(0, -1)));
+        var longs = new ArrayList<>(List.of(longPair(0, 1), longPair(Long.MIN_VALUE, 0), longPair(0, -1)));
+
+        ints.sort(PairComparators.intPairs());
+        longs.sort(PairComparators.longPairs());
+
+        assertThat(ints).containsExactly(intPair(Integer.MIN_VALUE, 1), intPair(0, -1), intPair(Integer.MAX_VALUE, 0));
+        assertThat(longs).containsExactly(longPair(Long.MIN_VALUE, 0), longPair(0, -1), longPair(0, 1));
+    }
+
+    @Test
+    void parallelSortMatchesListSort() {
+        var random = new SplittableRandom(7);
+        var pairs = new PairArray<Integer, String>();
+        var expected = new ArrayList<Pair<Integer, String>>();
+        for (int i = 0; i < 100_000; i++) {
+            var pair = pair(random.nextInt(1_000), Integer.toString(random.nextInt(100)));
+            pairs.add(pair);
+            expected.add(pair);
+        }
+
+        PairSort.parallelSort(pairs);
+        expected.sort(PairComparators.leftThenRight());
+
+        assertThat(pairs.stream().toList()).isEqualTo(expected);
+    }
+
+    @Test
+    void parallelSortIsStable() {
+        var pairs = new PairArray<Integer, Integer>();
+        for (int i = 0; i < 50_000; i++) {
+            pairs.add(i % 7, i);
+        }
+
+        PairSort.parallelSort(pairs, Comparator.naturalOrder(), (first, second) -> 0);
+
+        for (int i = 1; i < pairs.size(); i++) {
+            int previous = pairs.left(i - 1);
+            int current = pairs.left(i);
+            assertThat(previous).isLessThanOrEqualTo(current);
+            if (previous == current) {
+                assertThat(pairs.right(i - 1)).isLessThan(pairs.right(i));
+            }
+        }
+    }
+
+    @Test
+    void parallelSortOfTinyArrays() {
+        var empty = new PairArray<Integer, Integer>();
+        var single = new PairArray<Integer, Integer>();
+        single.add(1, 1);
+
+        PairSort.parallelSort(empty);
+        PairSort.parallelSort(single);
+
+        assertThat(empty.size()).isZero();
+        assertThat(single.get(0)).isEqualTo(pair(1, 1));
+    }
+
+    @Test
+    void radixSortOfLongsMatchesComparisonSort() {
+        var random = new SplittableRandom(11);
+        try (var radix = new LongPairBuffer();
+                var reference = new LongPairBuffer()) {
+            for (int i = 0; i < 50_000; i++) {
+                long left = i % 5 == 0 ? random.nextLong() : random.nextLong(-1_000, 1_000);
+                long right = random.nextLong(-100, 100);
+                radix.append(left, right);
+                reference.append(left, right);
+            }
+
+            PairSort.radixSortByLeft(radix);
+            reference.sortByLeft();
+            assertThat(radix.longPairs().toList()).isEqualTo(reference.longPairs().toList());
+
+            PairSort.radixSortByRight(radix);
+            reference.sortByRight();
+            assertThat(radix.longPairs().toList()).isEqualTo(reference.longPairs().toList());
+        }
+    }
+
+    @Test
+    void radixSortOfIntsMatchesComparisonSort() {
+        var random = new SplittableRandom(13);
+        try (var radix = new IntPairBuffer();
+                var reference = new IntPairBuffer()) {
+            for (int i = 0; i < 50_000; i++) {
+                int left = i % 3 == 0 ? random.nextInt() : random.nextInt(-300, 300);
+                int right = random.nextInt();
+                radix.append(left, right);
+                reference.append(left, right);
+            }
+
+            PairSort.radixSortByLeft(radix);
+            reference.sortByLeft();
+            assertThat(radix.intPairs().toList()).isEqualTo(reference.intPairs().toList());
+
+            PairSort.radixSortByRight(radix);
+            reference.sortByRight();
+            assertThat(radix.intPairs().toList()).isEqualTo(reference.intPairs().toList());
+        }
+    }
+
+    @Test
+    void radixSortWithConstantDigits() {
+        try (var buffer = new LongPairBuffer()) {
+            IntStream.range(0, 1_000).map(i -> 999 - i).forEach(i -> buffer.append(i, 42));
+
+            PairSort.radixSortByLeft(buffer);
+
+            assertThat(buffer.longPairs().map(LongPair::left).toList())
+                    .isEqualTo(IntStream.range(0, 1_000).mapToObj(i -> (long) i).toList());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package me.supcheg.routine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static me.supcheg.routine.Pair.pair;
+import static me.supcheg.routine.PairStreams.zip;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PairStreamsTest {
+
+    static final int SIZE = 100_000;
+
+    static List<Pair<Integer, Integer>> expected(int size) {
+        return IntStream.range(0, size).mapToObj(i -> pair(i, -i)).toList();
+    }
+
+    @Test
+    void zipArrays() {
+        var lefts = IntStream.range(0, SIZE).boxed().toArray(Integer[]::new);
+        var rights = IntStream.range(0, SIZE + 5).map(i -> -i).boxed().toArray(Integer[]::new);
+
+        assertThat(zip(lefts, rights).parallel().collect(toList())).containsExactlyElementsOf(expected(SIZE));
+        assertThat(zip(lefts, rights).spliterator().getExactSizeIfKnown()).isEqualTo((long) SIZE);
+    }
+
+    @Test
+    void zipRandomAccessLists() {
+        var lefts = IntStream.range(0, SIZE).boxed().toList();
+        var rights = new ArrayList<>(IntStream.range(0, SIZE).map(i -> -i).boxed().toList());
+
+        var spliterator = zip(lefts, rights).spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+        assertThat(zip(lefts, rights).parallel().collect(toList())).containsExactlyElementsOf(expected(SIZE));
+    }
+
+    @Test
+    void zipSequentialLists() {
+        var lefts = new LinkedList<>(IntStream.range(0, SIZE).boxed().toList());
+        var rights = new LinkedList<>(IntStream.range(0, SIZE - 1).map(i -> -i).boxed().toList());
+
+        assertThat(zip(lefts, rights).parallel().collect(toList())).containsExactlyElementsOf(expected(SIZE - 1));
+    }
+
+    @Test
+    void zipSizedStreamsSplitsInLockstep() {
+        var spliterator = zip(
+                        IntStream.range(0, SIZE).parallel().boxed(),
+                        IntStream.range(0, SIZE).parallel().map(i -> -i).boxed())
+                .spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+        var prefix = spliterator.trySplit();
+        assertThat(prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown()).isEqualTo((long) SIZE);
+        assertThat(prefix.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+    }
+
+    @Test
+    void zipStreamsOfDifferentSizes() {
+        var pairs = zip(
+                        IntStream.range(0, SIZE).parallel().boxed(),
+                        IntStream.range(0, SIZE / 3).parallel().map(i -> -i).boxed())
+                .collect(toList());
+
+        assertThat(pairs).containsExactlyElementsOf(expected(SIZE / 3));
+    }
+
+    @Test
+    void zipUnsizedStreams() {
+        var pairs = zip(
+                        Stream.iterate(0, i -> i + 1).limit(SIZE),
+                        Stream.iterate(0, i -> i - 1).filter(_ -> true))
+                .parallel()
+                .collect(toList());
+
+        assertThat(pairs).containsExactlyElementsOf(expected(SIZE));
+    }
+
+    @Test
+    void zipStreamsIsParallelIfEitherSourceIs() {
+        assertThat(zip(Stream.of(1), Stream.of(2)).isParallel()).isFalse();
+        assertThat(zip(Stream.of(1), Stream.of(2).parallel()).isParallel()).isTrue();
+    }
+
+    @Test
+    void zipStreamsClosesBothSources() {
+        var closed = new AtomicInteger();
+
+        zip(Stream.of(1).onClose(closed::incrementAndGet), Stream.of(2).onClose(closed::incrementAndGet))
+                .close();
+
+        assertThat(closed.get()).isEqualTo(2);
+    }
+
+    @Test
+    void zipRejectsNullElements() {
+        var lefts = new String[] {"a", null};
+        var rights = new String[] {"b", "c"};
+
+        assertThatThrownBy(() -> zip(lefts, rights).toList()).isInstanceOf(NullPointerException.class);
+    }
+}
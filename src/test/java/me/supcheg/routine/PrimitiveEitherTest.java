@@ -0,0 +1,127 @@
+package me.supcheg.routine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.IntSummaryStatistics;
+import java.util.LongSummaryStatistics;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static me.supcheg.routine.EitherCollectors.groupingToDoubleSummary;
+import static me.supcheg.routine.EitherCollectors.groupingToInt;
+import static me.supcheg.routine.EitherCollectors.groupingToIntSummary;
+import static me.supcheg.routine.EitherCollectors.groupingToLong;
+import static me.supcheg.routine.TestEithers.LEFT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrimitiveEitherTest {
+
+    static final String MAP = "_map";
+
+    static IntEither<String> left(String value) {
+        return IntEither.left(value);
+    }
+
+    static IntEither<String> right(int value) {
+        return IntEither.right(value);
+    }
+
+    @Test
+    void map() {
+        assertThat(left(LEFT).map(l -> l + MAP, r -> r + 1)).isEqualTo(left(LEFT + MAP));
+        assertThat(right(1).map(l -> l + MAP, r -> r + 1)).isEqualTo(right(2));
+    }
+
+    @Test
+    void mapLeftAndRight() {
+        assertThat(left(LEFT).mapLeft(l -> l + MAP)).isEqualTo(left(LEFT + MAP));
+        assertThat(right(1).mapLeft(l -> l + MAP)).isEqualTo(right(1));
+        assertThat(left(LEFT).mapRight(r -> r + 1)).isEqualTo(left(LEFT));
+        assertThat(right(1).mapRight(r -> r + 1)).isEqualTo(right(2));
+    }
+
+    @Test
+    void mapRightToObj() {
+        assertThat(left(LEFT).mapRightToObj(Integer::toString)).isEqualTo(Either.left(LEFT));
+        assertThat(right(1).mapRightToObj(Integer::toString)).isEqualTo(Either.right("1"));
+    }
+
+    @Test
+    void flatMap() {
+        assertThat(right(1).flatMapRight(r -> r > 0 ? right(r * 10) : left(LEFT))).isEqualTo(right(10));
+        assertThat(right(-1).flatMapRight(r -> r > 0 ? right(r * 10) : left(LEFT))).isEqualTo(left(LEFT));
+        assertThat(left(LEFT).flatMapLeft(l -> right(l.length()))).isEqualTo(right(LEFT.length()));
+        assertThat(right(1).flatMap(l -> right(0), r -> left(LEFT + r))).isEqualTo(left(LEFT + 1));
+    }
+
+    @Test
+    void fold() {
+        assertThat(left(LEFT).<String>fold(l -> l + MAP, Integer::toString)).isEqualTo(LEFT + MAP);
+        assertThat(right(1).<String>fold(l -> l + MAP, Integer::toString)).isEqualTo("1");
+        assertThat(left(LEFT).foldToInt(String::length, r -> r)).isEqualTo(LEFT.length());
+        assertThat(right(1).foldToInt(String::length, r -> r)).isEqualTo(1);
+    }
+
+    @Test
+    void optionals() {
+        assertThat(left(LEFT).left()).contains(LEFT);
+        assertThat(right(1).left()).isEmpty();
+        assertThat(left(LEFT).right()).isEmpty();
+        assertThat(right(1).right()).hasValue(1);
+        assertThat(left(LEFT).rightOrElse(-1)).isEqualTo(-1);
+        assertThat(right(1).rightOrElse(-1)).isEqualTo(1);
+    }
+
+    @Test
+    void conversion() {
+        assertThat(left(LEFT).asEither()).isEqualTo(Either.left(LEFT));
+        assertThat(right(1).asEither()).isEqualTo(Either.right(1));
+        assertThat(IntEither.intEitherFromEither(Either.<String, Integer>right(1))).isEqualTo(right(1));
+        assertThat(LongEither.longEitherFromEither(Either.<String, Long>left(LEFT))).isEqualTo(LongEither.left(LEFT));
+    }
+
+    @Test
+    void groupingToIntSummaryCollects() {
+        var result = Stream.of(right(1), left(LEFT), right(2), right(3))
+                .collect(groupingToIntSummary(toList()));
+
+        assertThat(result.left()).containsExactly(LEFT);
+        assertThat(result.right().getCount()).isEqualTo(3);
+        assertThat(result.right().getSum()).isEqualTo(6);
+    }
+
+    @Test
+    void parallelGroupingToInt() {
+        int perTypeAmount = 1000;
+
+        var result = Stream.concat(
+                        Stream.generate(() -> left(LEFT)).limit(perTypeAmount),
+                        Stream.generate(() -> right(1)).limit(perTypeAmount))
+                .parallel()
+                .collect(groupingToInt(
+                        toList(),
+                        IntSummaryStatistics::new,
+                        IntSummaryStatistics::accept,
+                        IntSummaryStatistics::combine));
+
+        assertThat(result.left()).hasSize(perTypeAmount).allMatch(LEFT::equals);
+        assertThat(result.right().getSum()).isEqualTo(perTypeAmount);
+    }
+
+    @Test
+    void groupingToLongAndDouble() {
+        var longs = Stream.of(LongEither.<String>right(Long.MAX_VALUE), LongEither.<String>left(LEFT))
+                .collect(groupingToLong(
+                        toList(),
+                        LongSummaryStatistics::new,
+                        LongSummaryStatistics::accept,
+                        LongSummaryStatistics::combine));
+        assertThat(longs.left()).containsExactly(LEFT);
+        assertThat(longs.right().getMax()).isEqualTo(Long.MAX_VALUE);
+
+        var doubles = Stream.of(DoubleEither.<String>right(0.5), DoubleEither.<String>right(1.5))
+                .collect(groupingToDoubleSummary(toList()));
+        assertThat(doubles.left()).isEmpty();
+        assertThat(doubles.right().getSum()).isEqualTo(2.0);
+    }
+}
@@ -0,0 +1,83 @@
+package me.supcheg.routine;
+
+import org.junit.jupiter.api.Test;
+
+import static me.supcheg.routine.DoublePair.doublePair;
+import static me.supcheg.routine.IntObjPair.intObjPair;
+import static me.supcheg.routine.IntObjPair.intObjPairFromPair;
+import static me.supcheg.routine.IntPair.intPair;
+import static me.supcheg.routine.IntPair.intPairFromPair;
+import static me.supcheg.routine.LongPair.longPair;
+import static me.supcheg.routine.LongPair.longPairFromPair;
+import static me.supcheg.routine.ObjIntPair.objIntPair;
+import static me.supcheg.routine.ObjIntPair.objIntPairFromPair;
+import static me.supcheg.routine.Pair.pair;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrimitivePairTest {
+
+    static final String VALUE = "_value";
+    static final String MAP = "_map";
+
+    @Test
+    void intPairMap() {
+        assertThat(intPair(1, 2).map(l -> l + 10, r -> r * 10)).isEqualTo(intPair(11, 20));
+        assertThat(intPair(1, 2).mapLeft(l -> l + 10)).isEqualTo(intPair(11, 2));
+        assertThat(intPair(1, 2).mapRight(r -> r * 10)).isEqualTo(intPair(1, 20));
+    }
+
+    @Test
+    void intPairWithAndFlip() {
+        assertThat(intPair(1, 2).withLeft(3)).isEqualTo(intPair(3, 2));
+        assertThat(intPair(1, 2).withRight(3)).isEqualTo(intPair(1, 3));
+        assertThat(intPair(1, 2).flip()).isEqualTo(intPair(2, 1));
+    }
+
+    @Test
+    void intPairFold() {
+        assertThat(intPair(1, 2).<String>fold((l, r) -> l + ":" + r)).isEqualTo("1:2");
+        assertThat(intPair(1, 2).foldToInt(Integer::sum)).isEqualTo(3);
+    }
+
+    @Test
+    void intPairConversion() {
+        assertThat(intPair(1, 2).asPair()).isEqualTo(pair(1, 2));
+        assertThat(intPairFromPair(pair(1, 2))).isEqualTo(intPair(1, 2));
+    }
+
+    @Test
+    void longPairOperations() {
+        assertThat(longPair(1L, 2L).map(l -> l + 10, r -> r * 10)).isEqualTo(longPair(11L, 20L));
+        assertThat(longPair(1L, 2L).flip()).isEqualTo(longPair(2L, 1L));
+        assertThat(longPair(1L, 2L).foldToLong(Long::sum)).isEqualTo(3L);
+        assertThat(longPairFromPair(longPair(1L, 2L).asPair())).isEqualTo(longPair(1L, 2L));
+    }
+
+    @Test
+    void doublePairOperations() {
+        assertThat(doublePair(1.0, 2.0).mapRight(r -> r / 2)).isEqualTo(doublePair(1.0, 1.0));
+        assertThat(doublePair(1.0, 2.0).withLeft(3.0).flip()).isEqualTo(doublePair(2.0, 3.0));
+        assertThat(doublePair(1.0, 2.0).foldToDouble(Double::sum)).isEqualTo(3.0);
+        assertThat(doublePair(1.0, 2.0).asPair()).isEqualTo(pair(1.0, 2.0));
+    }
+
+    @Test
+    void intObjPairOperations() {
+        assertThat(intObjPair(1, VALUE).map(l -> l + 1, r -> r + MAP)).isEqualTo(intObjPair(2, VALUE + MAP));
+        assertThat(intObjPair(1, VALUE).withRight(2)).isEqualTo(intObjPair(1, 2));
+        assertThat(intObjPair(1, VALUE).flip()).isEqualTo(objIntPair(VALUE, 1));
+        assertThat(intObjPair(1, VALUE).<String>fold((l, r) -> r + l)).isEqualTo(VALUE + 1);
+        assertThat(intObjPairFromPair(pair(1, VALUE))).isEqualTo(intObjPair(1, VALUE));
+        assertThat(intObjPair(1, VALUE).asPair()).isEqualTo(pair(1, VALUE));
+    }
+
+    @Test
+    void objIntPairOperations() {
+        assertThat(objIntPair(VALUE, 1).map(l -> l + MAP, r -> r + 1)).isEqualTo(objIntPair(VALUE + MAP, 2));
+        assertThat(objIntPair(VALUE, 1).withLeft(2)).isEqualTo(objIntPair(2, 1));
+        assertThat(objIntPair(VALUE, 1).flip()).isEqualTo(intObjPair(1, VALUE));
+        assertThat(objIntPair(VALUE, 1).<String>fold((l, r) -> l + r)).isEqualTo(VALUE + 1);
+        assertThat(objIntPairFromPair(pair(VALUE, 1))).isEqualTo(objIntPair(VALUE, 1));
+        assertThat(objIntPair(VALUE, 1).asPair()).isEqualTo(pair(VALUE, 1));
+    }
+}
@@ -0,0 +1,135 @@
+package me.supcheg.routine;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpillTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void withinBudgetStaysInMemory() throws IOException {
+        var result = eithers(100).collect(collector(1 << 20));
+
+        try (var lefts = result.left();
+                var rights = result.right()) {
+            assertThat(lefts.isSpilled()).isFalse();
+            assertThat(rights.isSpilled()).isFalse();
+            assertThat(lefts.stream()).containsExactlyElementsOf(expectedLefts(100));
+            assertThat(rights.stream()).containsExactlyElementsOf(expectedRights(100));
+        }
+        assertThat(files()).isEmpty();
+    }
+
+    @Test
+    void overBudgetSpillsInOrder() throws IOException {
+        var result = eithers(10_000).collect(collector(1_000));
+
+        try (var lefts = result.left();
+                var rights = result.right()) {
+            assertThat(lefts.isSpilled()).isTrue();
+            assertThat(rights.isSpilled()).isTrue();
+            assertThat(lefts.size()).isEqualTo(expectedLefts(10_000).size());
+            assertThat(lefts.spilled()).isLessThanOrEqualTo(lefts.size());
+            assertThat(files()).hasSize(2);
+
+            assertThat(lefts.stream()).containsExactlyElementsOf(expectedLefts(10_000));
+            assertThat(rights.stream()).containsExactlyElementsOf(expectedRights(10_000));
+        }
+        assertThat(files()).isEmpty();
+    }
+
+    @Test
+    void zeroBudgetSpillsEverything() {
+        var result = eithers(50).collect(collector(0));
+
+        try (var lefts = result.left();
+                var rights = result.right()) {
+            assertThat(lefts.spilled()).isEqualTo(lefts.size());
+            assertThat(rights.spilled()).isEqualTo(rights.size());
+            assertThat(rights.stream()).containsExactlyElementsOf(expectedRights(50));
+        }
+    }
+
+    @Test
+    void parallelPreservesEncounterOrder() {
+        var result = eithers(20_000).parallel().collect(collector(2_000));
+
+        try (var lefts = result.left();
+                var rights = result.right()) {
+            assertThat(lefts.stream()).containsExactlyElementsOf(expectedLefts(20_000));
+            assertThat(rights.stream()).containsExactlyElementsOf(expectedRights(20_000));
+        }
+    }
+
+    @Test
+    void iterableCanBeReadRepeatedly() {
+        var result = eithers(1_000).collect(collector(100));
+
+        try (var rights = result.right()) {
+            var first = new ArrayList<Long>();
+            rights.forEach(first::add);
+            var second = new ArrayList<Long>();
+            rights.forEach(second::add);
+
+            assertThat(first).containsExactlyElementsOf(expectedRights(1_000));
+            assertThat(second).isEqualTo(first);
+        } finally {
+            result.left().close();
+        }
+    }
+
+    @Test
+    void closedSpillCannotBeRead() {
+        var result = eithers(1_000).collect(collector(100));
+        var rights = result.right();
+        var stream = rights.stream();
+
+        rights.close();
+        result.left().close();
+
+        assertThatThrownBy(rights::stream).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(stream::toList).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void negativeBudgetIsRejected() {
+        assertThatThrownBy(() -> collector(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Collector<Either<String, Long>, ?, Pair<Spill<String>, Spill<Long>>> collector(long memoryBudget) {
+        return EitherCollectors.groupingToSpill(memoryBudget, Codecs.utf8(), Codecs.longs(), directory);
+    }
+
+    private List<Path> files() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+
+    private static Stream<Either<String, Long>> eithers(int count) {
+        return IntStream.range(0, count)
+                .<Either<String, Long>>mapToObj(i -> i % 3 == 0 ? Either.left("left-" + i) : Either.right((long) i));
+    }
+
+    private static List<String> expectedLefts(int count) {
+        return IntStream.range(0, count).filter(i -> i % 3 == 0).mapToObj(i -> "left-" + i).toList();
+    }
+
+    private static List<Long> expectedRights(int count) {
+        return IntStream.range(0, count).filter(i -> i % 3 != 0).mapToObj(i -> (long) i).toList();
+    }
+}